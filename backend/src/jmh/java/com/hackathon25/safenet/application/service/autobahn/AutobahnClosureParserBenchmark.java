@@ -0,0 +1,178 @@
+package com.hackathon25.safenet.application.service.autobahn;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.autobahn.AutobahnClosureItemDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link AutobahnClosureParser} with the JSON tree walk it replaced.
+ *
+ * <p>The response is generated in the {@code /o/autobahn/{road}/services/closure} layout, including
+ * the {@code geometry} line, which only the binding parser reads, the {@code impact} neither parser
+ * reads, and start timestamps without an offset so both parsers keep them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutobahnClosureParserBenchmark {
+
+  @Param({"40", "400"})
+  int closures;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private byte[] response;
+
+  @Setup
+  public void setUp() {
+    response = generateResponse(closures, new Random(42)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<AutobahnClosureItem> binding() throws IOException {
+    return AutobahnClosureParser.parseClosureData(new ByteArrayInputStream(response), "A1");
+  }
+
+  /** The previous parser: body as a String, a JsonNode tree read field by field. */
+  @Benchmark
+  public List<AutobahnClosureItemDto> treeWalk() throws IOException {
+    JsonNode rootNode = objectMapper.readTree(new String(response, StandardCharsets.UTF_8));
+    List<AutobahnClosureItemDto> result = new ArrayList<>();
+    for (JsonNode node : rootNode.get("closure")) {
+      result.add(treeItem(node));
+    }
+    return result;
+  }
+
+  private AutobahnClosureItemDto treeItem(JsonNode node) {
+    AutobahnClosureItemDto.AutobahnClosureItemDtoBuilder builder = AutobahnClosureItemDto.builder();
+    if (node.has("identifier")) {
+      builder.identifier(node.get("identifier").asText());
+    }
+    if (node.has("title")) {
+      builder.title(node.get("title").asText());
+    }
+    if (node.has("subtitle")) {
+      builder.subtitle(node.get("subtitle").asText());
+    }
+    if (node.has("extent")) {
+      builder.extent(node.get("extent").asText());
+    }
+    if (node.has("point")) {
+      builder.point(node.get("point").asText());
+    }
+    if (node.has("icon")) {
+      builder.icon(node.get("icon").asText());
+    }
+    if (node.has("displayType")) {
+      builder.displayType(node.get("displayType").asText());
+    }
+    if (node.has("isBlocked")) {
+      builder.isBlocked(node.get("isBlocked").asBoolean());
+    }
+    if (node.has("future")) {
+      builder.future(node.get("future").asBoolean());
+    }
+    if (node.has("description") && node.get("description").isArray()) {
+      builder.description(stringList(node.get("description")));
+    }
+    if (node.has("routeRecommendation") && node.get("routeRecommendation").isArray()) {
+      builder.routeRecommendation(stringList(node.get("routeRecommendation")));
+    }
+    if (node.has("footer") && node.get("footer").isArray()) {
+      builder.footer(stringList(node.get("footer")));
+    }
+    if (node.has("lorryParkingFeatureIcons") && node.get("lorryParkingFeatureIcons").isArray()) {
+      builder.lorryParkingFeatureIcons(stringList(node.get("lorryParkingFeatureIcons")));
+    }
+    if (node.has("coordinate")) {
+      JsonNode coordNode = node.get("coordinate");
+      builder.coordinate(
+          AutobahnClosureItemDto.CoordinateDto.builder()
+              .lat(coordNode.has("lat") ? coordNode.get("lat").asText() : null)
+              .lng(
+                  coordNode.has("long")
+                      ? coordNode.get("long").asText()
+                      : coordNode.has("lng") ? coordNode.get("lng").asText() : null)
+              .build());
+    }
+    if (node.has("startTimestamp")) {
+      builder.startTimestamp(
+          LocalDateTime.parse(
+              node.get("startTimestamp").asText(), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+    return builder.build();
+  }
+
+  private List<String> stringList(JsonNode array) {
+    return objectMapper.convertValue(array, new TypeReference<>() {});
+  }
+
+  private static String generateResponse(int closures, Random random) {
+    StringBuilder json = new StringBuilder("{\"closure\":[");
+    for (int i = 0; i < closures; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      double lat = 48 + random.nextDouble() * 5;
+      double lon = 7 + random.nextDouble() * 6;
+      String point = String.format(Locale.ROOT, "%.5f,%.5f", lon, lat);
+      json.append("{\"extent\":\"")
+          .append(
+              String.format(Locale.ROOT, "%.5f,%.5f,%.5f,%.5f", lon, lat, lon + 0.02, lat + 0.01))
+          .append("\",\"identifier\":\"Q0xPU1VSRV9fbXZ0LXN0cmFzc2VuLm5ydy5kZV9f")
+          .append(i)
+          .append("\",\"routeRecommendation\":[]")
+          .append(",\"coordinate\":{\"lat\":\"")
+          .append(String.format(Locale.ROOT, "%.6f", lat))
+          .append("\",\"long\":\"")
+          .append(String.format(Locale.ROOT, "%.6f", lon))
+          .append("\"},\"footer\":[\"Quelle: Autobahn GmbH\"],\"icon\":\"262\"")
+          .append(",\"isBlocked\":\"false\"")
+          .append(",\"description\":[\"Beginn: 17.10.26 um 08:00\",\"Ende: 24.10.26 um 18:00\",")
+          .append("\"\",\"A1 Dortmund -> Bremen zwischen Kreuz A und Anschlussstelle B\",")
+          .append("\"Fahrbahnerneuerung, Fahrstreifen gesperrt\"]")
+          .append(",\"title\":\"A1 | Kreuz A - AS B\",\"point\":\"")
+          .append(point)
+          .append("\",\"display_type\":\"CLOSURE\",\"lorryParkingFeatureIcons\":[]")
+          .append(",\"future\":false,\"subtitle\":\"Dortmund Richtung Bremen\"")
+          .append(",\"startTimestamp\":\"2026-10-17T08:00:00\"")
+          .append(
+              ",\"impact\":{\"lower\":\"\",\"upper\":\"\",\"symbols\":[\"arrow_up\",\"cross\"]}")
+          .append(",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[");
+      for (int p = 0; p < 20; p++) {
+        if (p > 0) {
+          json.append(',');
+        }
+        json.append(String.format(Locale.ROOT, "[%.6f,%.6f]", lon + p * 0.001, lat + p * 0.0005));
+      }
+      json.append("]}}");
+    }
+    return json.append("]}").toString();
+  }
+}
@@ -0,0 +1,177 @@
+package com.hackathon25.safenet.application.service.meteo;
+
+import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeedItem;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmItem;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Compares {@link MeteoAlarmParser} with the DOM-based parsing it replaced.
+ *
+ * <p>The feed is generated in the legacy MeteoAlarm RSS layout: a country overview item followed by
+ * regional items whose HTML description carries the awareness image, the validity and a German and
+ * English text. Both benchmarks produce the items of one language; the StAX parser would serve the
+ * other language from the same parse, the DOM path parsed the feed again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeteoAlarmParserBenchmark {
+
+  @Param({"50", "500"})
+  int items;
+
+  private byte[] feed;
+
+  @Setup
+  public void setUp() {
+    feed = generateFeed(items, new Random(42)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<MeteoAlarmItem> stax() throws Exception {
+    MeteoAlarmFeed parsed = MeteoAlarmParser.parse(new ByteArrayInputStream(feed));
+    List<MeteoAlarmItem> result = new ArrayList<>(parsed.getItems().size());
+    for (MeteoAlarmFeedItem item : parsed.getItems()) {
+      result.add(item.localize(Language.DE));
+    }
+    return result;
+  }
+
+  /** The previous path: body as a String, a DOM, and patterns compiled per item. */
+  @Benchmark
+  public List<MeteoAlarmItem> dom() throws Exception {
+    String rssContent = new String(feed, StandardCharsets.UTF_8);
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    DocumentBuilder builder = factory.newDocumentBuilder();
+    Document document = builder.parse(new ByteArrayInputStream(rssContent.getBytes()));
+    NodeList itemNodes = document.getElementsByTagName("item");
+    List<MeteoAlarmItem> result = new ArrayList<>();
+    for (int i = 1; i < itemNodes.getLength(); i++) {
+      result.add(domItem((Element) itemNodes.item(i), "german"));
+    }
+    return result;
+  }
+
+  private static MeteoAlarmItem domItem(Element itemElement, String requestedLanguage) {
+    String title = textContent(itemElement, "title");
+    String description = textContent(itemElement, "description");
+    String languageSpecificDescription = languageDescription(description, requestedLanguage);
+    return MeteoAlarmItem.builder()
+        .title(title)
+        .description(
+            languageSpecificDescription != null ? languageSpecificDescription : description)
+        .link(textContent(itemElement, "link"))
+        .guid(textContent(itemElement, "guid"))
+        .pubDate(pubDate(textContent(itemElement, "pubDate")))
+        .region(title)
+        .awarenessLevel(integer(description, "level:(\\d+)"))
+        .awarenessType(integer(description, "awt:(\\d+)"))
+        .validFrom(dateTime(description, "From:"))
+        .validUntil(dateTime(description, "Until:"))
+        .language(requestedLanguage)
+        .build();
+  }
+
+  private static String textContent(Element parent, String tagName) {
+    NodeList nodeList = parent.getElementsByTagName(tagName);
+    if (nodeList.getLength() > 0) {
+      Node node = nodeList.item(0);
+      return node.getTextContent();
+    }
+    return null;
+  }
+
+  private static Integer integer(String description, String regex) {
+    Matcher matcher = Pattern.compile(regex).matcher(description);
+    return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+  }
+
+  private static LocalDateTime dateTime(String description, String prefix) {
+    Matcher matcher = Pattern.compile(prefix + "\\s*</b>\\s*<i>([^<]+)</i>").matcher(description);
+    return matcher.find() ? ZonedDateTime.parse(matcher.group(1).trim()).toLocalDateTime() : null;
+  }
+
+  private static LocalDateTime pubDate(String pubDateStr) {
+    DateTimeFormatter rfc822Formatter =
+        new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("EEE, dd MMM yy HH:mm:ss ")
+            .appendOffset("+HHMM", "+0000")
+            .toFormatter(Locale.ENGLISH);
+    return ZonedDateTime.parse(pubDateStr.trim(), rfc822Formatter).toLocalDateTime();
+  }
+
+  private static String languageDescription(String description, String language) {
+    String languageCode = language.equals("german") ? "de-DE" : "en";
+    Pattern pattern =
+        Pattern.compile(languageCode + "\\):\\s*([^\\n]+(?:\\n(?!\\w+\\([^)]+\\):)[^\\n]*)*)");
+    Matcher matcher = pattern.matcher(description);
+    return matcher.find() ? matcher.group(1).trim() : null;
+  }
+
+  private static String generateFeed(int items, Random random) {
+    StringBuilder xml =
+        new StringBuilder(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\"><channel>"
+                + "<title>MeteoAlarm Germany</title>"
+                + "<description>Warnings for Germany</description>"
+                + "<link>https://www.meteoalarm.org</link><language>de-DE</language><ttl>5</ttl>");
+    for (int i = 0; i <= items; i++) {
+      int level = 1 + random.nextInt(4);
+      int type = 1 + random.nextInt(13);
+      xml.append("<item><title>")
+          .append(i == 0 ? "Germany" : "Region " + i)
+          .append("</title><description><![CDATA[<table><tr><td><img src=\"aw")
+          .append(type)
+          .append(level)
+          .append(".jpg\" alt=\"awt:")
+          .append(type)
+          .append(" level:")
+          .append(level)
+          .append("\"></td><td><b>From: </b><i>2026-10-17T10:00:00+02:00</i></td>")
+          .append("<td><b>Until: </b><i>2026-10-18T06:00:00+02:00</i></td></tr></table>\n")
+          .append("deutsch(de-DE): Es tritt Sturm mit Geschwindigkeiten bis 85 km/h auf.\n")
+          .append("english(en): There is a risk of gale force winds up to 85 km/h.\n")
+          .append("]]></description><link>https://www.meteoalarm.org/en/live/region/DE/DE")
+          .append(String.format(Locale.ROOT, "%03d", i))
+          .append("</link><guid isPermaLink=\"false\">DE")
+          .append(String.format(Locale.ROOT, "%03d", i))
+          .append("-20261017</guid><pubDate>Sat, 17 Oct 26 08:00:00 +0000</pubDate></item>");
+    }
+    return xml.append("</channel></rss>").toString();
+  }
+}
@@ -0,0 +1,160 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link MowasFeedParser} with the tree-and-split mapping it replaced.
+ *
+ * <p>The feed is generated in the {@code gefahrendurchsagen.json} layout with polygons of
+ * district-sized rings ({@code points} coordinates each, six decimals like the live feed). Run with
+ * {@code -Djmh.args="-prof gc"} to compare allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MowasFeedParserBenchmark {
+
+  @Param({"20", "200"})
+  int alerts;
+
+  @Param({"400"})
+  int points;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private byte[] feed;
+
+  @Setup
+  public void setUp() {
+    feed = generateFeed(alerts, points, new Random(42)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<Warning> streaming() throws IOException {
+    return MowasFeedParser.parse(new ByteArrayInputStream(feed));
+  }
+
+  /**
+   * The previous mapping: body as a String, a JsonNode tree and split polygon strings, with every
+   * position boxed into a {@code List<Double>} as the previous {@link Warning} model held them.
+   */
+  @Benchmark
+  public List<BoxedWarning> treeAndSplit() throws IOException {
+    String json = new String(feed, StandardCharsets.UTF_8);
+    JsonNode root = objectMapper.readTree(json);
+
+    List<BoxedWarning> result = new ArrayList<>();
+    for (JsonNode feature : root) {
+      JsonNode info = feature.get("info").get(0);
+      List<List<List<Double>>> polygons = new ArrayList<>();
+      JsonNode areas = info.get("area");
+      if (areas != null && areas.isArray()) {
+        for (JsonNode area : areas) {
+          JsonNode polyStrings = area.get("polygon");
+          if (polyStrings != null && polyStrings.isArray()) {
+            for (JsonNode polyStringNode : polyStrings) {
+              List<List<Double>> polygon = new ArrayList<>();
+              for (String pointStr : polyStringNode.asText().split(" ")) {
+                String[] coords = pointStr.split(",");
+                polygon.add(List.of(Double.parseDouble(coords[0]), Double.parseDouble(coords[1])));
+              }
+              polygons.add(polygon);
+            }
+          }
+        }
+      }
+      result.add(
+          new BoxedWarning(
+              feature.get("identifier").asText(),
+              info.get("headline").asText(),
+              info.get("description").asText(),
+              info.get("severity").asText(),
+              polygons));
+    }
+    return result;
+  }
+
+  /** Shape of {@link Warning} before polygons were packed into a {@link PolygonGeometry}. */
+  public record BoxedWarning(
+      String id,
+      String title,
+      String description,
+      String severity,
+      List<List<List<Double>>> polygon) {}
+
+  private static String generateFeed(int alerts, int points, Random random) {
+    StringBuilder json = new StringBuilder("[");
+    for (int a = 0; a < alerts; a++) {
+      if (a > 0) {
+        json.append(',');
+      }
+      json.append("{\"identifier\":\"mow.DE-NW-BN-SE030-20261017-30-")
+          .append(a)
+          .append('"')
+          .append(",\"sender\":\"opendata@bbk.bund.de\",\"sent\":\"2026-10-17T10:00:00+02:00\"")
+          .append(",\"status\":\"Actual\",\"msgType\":\"Alert\",\"scope\":\"Public\"")
+          .append(",\"code\":[\"DVN:2\",\"medien_ueberregional\"]")
+          .append(",\"info\":[{\"language\":\"DE\",\"category\":[\"Safety\"]")
+          .append(",\"event\":\"Gefahreninformation\",\"urgency\":\"Immediate\"")
+          .append(",\"severity\":\"Minor\",\"certainty\":\"Observed\"")
+          .append(",\"headline\":\"Gefahreninformation ")
+          .append(a)
+          .append('"')
+          .append(
+              ",\"description\":\"Im Bereich der Kreisstadt kommt es zu einer Rauchentwicklung.")
+          .append(" Fenster und T\\u00fcren geschlossen halten.\"")
+          .append(",\"instruction\":\"Meiden Sie das betroffene Gebiet.\"")
+          .append(",\"parameter\":[{\"valueName\":\"instructionCode\",\"value\":\"BBK-ISC-082\"}]")
+          .append(",\"area\":[");
+      int areas = 1 + random.nextInt(3);
+      for (int r = 0; r < areas; r++) {
+        if (r > 0) {
+          json.append(',');
+        }
+        double lat = 47.5 + random.nextDouble() * 7;
+        double lon = 6 + random.nextDouble() * 9;
+        json.append("{\"areaDesc\":\"Kreis ").append(r).append("\",\"polygon\":[\"");
+        for (int p = 0; p < points; p++) {
+          double angle = 2 * Math.PI * p / points;
+          double radius = 0.15 + random.nextDouble() * 0.05;
+          if (p > 0) {
+            json.append(' ');
+          }
+          json.append(
+              String.format(
+                  Locale.ROOT,
+                  "%.6f,%.6f",
+                  lon + radius * Math.cos(angle),
+                  lat + radius * Math.sin(angle)));
+        }
+        json.append("\"],\"geocode\":[{\"valueName\":\"AreaId\",\"value\":\"0\"}]}");
+      }
+      json.append("]}]}");
+    }
+    return json.append(']').toString();
+  }
+}
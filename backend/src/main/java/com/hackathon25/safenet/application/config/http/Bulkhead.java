@@ -0,0 +1,115 @@
+package com.hackathon25.safenet.application.config.http;
+
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls to one upstream.
+ *
+ * <p>At most {@code maxConcurrentCalls} calls run at the same time. Further callers wait up to
+ * {@code maxWait} for a permit, but only {@code maxWaitingCalls} of them; everyone else is rejected
+ * immediately with a {@link BulkheadFullException}. A slow upstream can therefore hold at most
+ * {@code maxConcurrentCalls + maxWaitingCalls} request threads, no matter how many requests arrive.
+ *
+ * <p>Publishes {@code safenet.bulkhead.calls} (tagged {@code result=permitted|rejected}) and the
+ * gauges {@code safenet.bulkhead.active} and {@code safenet.bulkhead.waiting}, all tagged with the
+ * bulkhead {@code name}.
+ */
+public final class Bulkhead {
+
+  private final String name;
+  private final Semaphore permits;
+  private final int maxWaitingCalls;
+  private final Duration maxWait;
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final Counter permitted;
+  private final Counter rejected;
+
+  Bulkhead(
+      String name,
+      int maxConcurrentCalls,
+      int maxWaitingCalls,
+      Duration maxWait,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.permits = new Semaphore(maxConcurrentCalls);
+    this.maxWaitingCalls = maxWaitingCalls;
+    this.maxWait = maxWait;
+    this.permitted = counter(meterRegistry, "permitted");
+    this.rejected = counter(meterRegistry, "rejected");
+    Gauge.builder("safenet.bulkhead.active", active, AtomicInteger::get)
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("safenet.bulkhead.waiting", waiting, AtomicInteger::get)
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("safenet.bulkhead.calls")
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes a permit, waiting if allowed. Every successful call must be paired with {@link
+   * #release()}.
+   *
+   * @throws BulkheadFullException if no permit became available
+   */
+  public void acquire() {
+    if (!permits.tryAcquire() && !awaitPermit()) {
+      rejected.increment();
+      throw new BulkheadFullException(name);
+    }
+    active.incrementAndGet();
+    permitted.increment();
+  }
+
+  private boolean awaitPermit() {
+    if (maxWait.isZero() || maxWait.isNegative()) {
+      return false;
+    }
+    if (waiting.incrementAndGet() > maxWaitingCalls) {
+      waiting.decrementAndGet();
+      return false;
+    }
+    try {
+      return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  /** Returns a permit taken by {@link #acquire()}. */
+  public void release() {
+    active.decrementAndGet();
+    permits.release();
+  }
+
+  /** Runs the call while holding a permit. */
+  public <T> T execute(Supplier<T> call) {
+    acquire();
+    try {
+      return call.get();
+    } finally {
+      release();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+}
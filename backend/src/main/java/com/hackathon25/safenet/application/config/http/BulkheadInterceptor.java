@@ -0,0 +1,82 @@
+package com.hackathon25.safenet.application.config.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Runs every request under the bulkhead of its target host.
+ *
+ * <p>The permit is held until the response is closed, so streaming extractors that read the body
+ * after {@code execute} returned are still counted. {@code RestTemplate} always closes the
+ * response, also when extraction fails.
+ */
+class BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+  private final BulkheadRegistry bulkheadRegistry;
+
+  BulkheadInterceptor(BulkheadRegistry bulkheadRegistry) {
+    this.bulkheadRegistry = bulkheadRegistry;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    Bulkhead bulkhead = bulkheadRegistry.forHost(request.getURI().getHost());
+    bulkhead.acquire();
+    try {
+      return new PermitReleasingResponse(execution.execute(request, body), bulkhead);
+    } catch (IOException | RuntimeException e) {
+      bulkhead.release();
+      throw e;
+    }
+  }
+
+  private static final class PermitReleasingResponse implements ClientHttpResponse {
+    private final ClientHttpResponse delegate;
+    private final Bulkhead bulkhead;
+    private boolean released;
+
+    private PermitReleasingResponse(ClientHttpResponse delegate, Bulkhead bulkhead) {
+      this.delegate = delegate;
+      this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (!released) {
+          released = true;
+          bulkhead.release();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.hackathon25.safenet.application.config.http;
+
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import com.hackathon25.safenet.infrastructure.properties.Http;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out one {@link Bulkhead} per upstream host.
+ *
+ * <p>Limits come from {@code safenet.http}, with per-host overrides in {@code
+ * safenet.http.upstreams}. Because every host has its own permits, a slow best-effort upstream such
+ * as Overpass can only tie up its own share of request threads, while critical calls like Expo push
+ * notifications still get through.
+ */
+@Component
+public class BulkheadRegistry {
+
+  private final Http properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  public BulkheadRegistry(
+      ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+    this.properties = applicationProperties.getHttp();
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Returns the bulkhead of the host, creating it on first use.
+   *
+   * @param host upstream host name, e.g. {@code overpass-api.de}
+   */
+  public Bulkhead forHost(String host) {
+    return bulkheads.computeIfAbsent(
+        host,
+        h ->
+            new Bulkhead(
+                h,
+                properties.maxConcurrentCallsFor(h),
+                properties.maxWaitingCallsFor(h),
+                properties.maxWaitFor(h),
+                meterRegistry));
+  }
+}
@@ -0,0 +1,104 @@
+package com.hackathon25.safenet.application.config.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.brotli.dec.BrotliInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Requests compressed responses and transparently decodes them.
+ *
+ * <p>The JDK HTTP client neither advertises nor decodes content encodings, so this interceptor
+ * sends {@code Accept-Encoding: gzip, br, deflate} and wraps the response body in the matching
+ * decoding stream. Callers always see the identity-encoded body.
+ */
+class ContentDecodingInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String ACCEPTED_ENCODINGS = "gzip, br, deflate";
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+      request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+    }
+    ClientHttpResponse response = execution.execute(request, body);
+    String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (encoding == null) {
+      return response;
+    }
+    return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+      case "gzip", "x-gzip" -> new DecodedResponse(response, GZIPInputStream::new);
+      case "br" -> new DecodedResponse(response, BrotliInputStream::new);
+      case "deflate" -> new DecodedResponse(response, InflaterInputStream::new);
+      default -> response;
+    };
+  }
+
+  @FunctionalInterface
+  private interface Decoder {
+    InputStream wrap(InputStream in) throws IOException;
+  }
+
+  /** Response whose body is decoded lazily and whose headers no longer claim an encoding. */
+  private static final class DecodedResponse implements ClientHttpResponse {
+    private final ClientHttpResponse delegate;
+    private final Decoder decoder;
+    private final HttpHeaders headers;
+    private InputStream body;
+
+    private DecodedResponse(ClientHttpResponse delegate, Decoder decoder) {
+      this.delegate = delegate;
+      this.decoder = decoder;
+      this.headers = new HttpHeaders();
+      headers.putAll(delegate.getHeaders());
+      headers.remove(HttpHeaders.CONTENT_ENCODING);
+      headers.remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        // Bodies of e.g. 304 responses are empty and must not be fed to the decoder.
+        PushbackInputStream raw = new PushbackInputStream(delegate.getBody(), 1);
+        int first = raw.read();
+        if (first == -1) {
+          body = InputStream.nullInputStream();
+        } else {
+          raw.unread(first);
+          body = decoder.wrap(raw);
+        }
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+}
@@ -1,13 +1,29 @@
 package com.hackathon25.safenet.application.config.http;
 
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Shared {@link RestTemplate} for all outbound adapters.
+ *
+ * <p>Built from Spring Boot's {@link RestTemplateBuilder}, so every call is recorded in the {@code
+ * http.client.requests} metric tagged with the upstream host ({@code client.name}). Every call
+ * holds a permit of the host's bulkhead until its response is closed.
+ */
 @Configuration
 public class RestTemplateConfig {
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(
+      RestTemplateBuilder builder,
+      ApplicationProperties applicationProperties,
+      BulkheadRegistry bulkheadRegistry) {
+    return builder
+        .requestFactory(() -> new UpstreamRequestFactory(applicationProperties.getHttp()))
+        .additionalInterceptors(
+            new BulkheadInterceptor(bulkheadRegistry), new ContentDecodingInterceptor())
+        .build();
   }
 }
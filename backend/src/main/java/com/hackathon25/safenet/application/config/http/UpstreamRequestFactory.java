@@ -0,0 +1,49 @@
+package com.hackathon25.safenet.application.config.http;
+
+import com.hackathon25.safenet.infrastructure.properties.Http;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Request factory that keeps one JDK {@link HttpClient} per upstream host.
+ *
+ * <p>Each client maintains its own keep-alive connection pool, negotiates HTTP/2 via ALPN where the
+ * upstream supports it and falls back to HTTP/1.1 otherwise, and uses the connect and read timeouts
+ * configured for its host. Since only a handful of fixed upstream hosts are called, TLS connections
+ * are reused across almost all requests.
+ */
+class UpstreamRequestFactory implements ClientHttpRequestFactory {
+
+  private final Http properties;
+  private final ConcurrentMap<String, ClientHttpRequestFactory> factories =
+      new ConcurrentHashMap<>();
+
+  UpstreamRequestFactory(Http properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    String host = uri.getHost() != null ? uri.getHost() : "";
+    return factories.computeIfAbsent(host, this::createFactory).createRequest(uri, httpMethod);
+  }
+
+  private ClientHttpRequestFactory createFactory(String host) {
+    HttpClient client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.connectTimeoutFor(host))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+    factory.setReadTimeout(properties.readTimeoutFor(host));
+    return factory;
+  }
+}
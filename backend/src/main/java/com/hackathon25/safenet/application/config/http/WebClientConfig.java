@@ -0,0 +1,42 @@
+package com.hackathon25.safenet.application.config.http;
+
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import com.hackathon25.safenet.infrastructure.properties.Http;
+import io.netty.channel.ChannelOption;
+import java.net.URI;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Tunes every {@link org.springframework.web.reactive.function.client.WebClient} built from Spring
+ * Boot's shared builder: pooled keep-alive connections, HTTP/2 with HTTP/1.1 fallback, gzip
+ * decoding and the response timeout configured for the upstream host. The builder also records the
+ * {@code http.client.requests} metric per host.
+ */
+@Configuration
+public class WebClientConfig {
+
+  @Bean
+  public WebClientCustomizer upstreamWebClientCustomizer(
+      ApplicationProperties applicationProperties) {
+    Http properties = applicationProperties.getHttp();
+    HttpClient httpClient =
+        HttpClient.create(ConnectionProvider.create("upstream"))
+            .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+            .compress(true)
+            .option(
+                ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                (int) properties.getConnectTimeout().toMillis())
+            .doOnRequest(
+                (request, connection) ->
+                    request.responseTimeout(
+                        properties.readTimeoutFor(URI.create(request.resourceUrl()).getHost())));
+    ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+    return builder -> builder.clientConnector(connector);
+  }
+}
@@ -0,0 +1,145 @@
+package com.hackathon25.safenet.application.service.autobahn;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureIndex;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
+import com.hackathon25.safenet.domain.port.outbound.AutobahnClosureFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps an index of the closures on all Autobahns up to date.
+ *
+ * <p>Every refresh fetches the road list and then the closures of every road, at most {@code
+ * safenet.feeds.fetch-parallelism} at a time on a dedicated pool. A road whose fetch fails keeps
+ * its previous closures. Roads the upstream reports as unchanged come back as the identical list,
+ * and if no road changed at all the current index is kept as-is.
+ */
+@Slf4j
+@Component
+public class AutobahnClosureIngester implements DisposableBean {
+
+  private final AutobahnClosureFeedPort feedPort;
+  private final ExecutorService executor;
+  private final FeedScheduler.Feed<AutobahnClosureIndex> feed;
+
+  /** Last fetched closures per road. */
+  private final Map<String, List<AutobahnClosureItem>> lastByRoad = new ConcurrentHashMap<>();
+
+  private volatile List<String> roads = List.of();
+  private volatile AutobahnClosureIndex last = AutobahnClosureIndex.empty();
+
+  public AutobahnClosureIngester(
+      AutobahnClosureFeedPort feedPort,
+      FeedScheduler feedScheduler,
+      ApplicationProperties applicationProperties,
+      ObjectMapper objectMapper) {
+    this.feedPort = feedPort;
+    AtomicInteger threads = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            applicationProperties.getFeeds().getFetchParallelism(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "autobahn-fetch-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    FeedCodec<AutobahnClosureIndex> codec =
+        FeedCodec.json(objectMapper, new TypeReference<Map<String, List<AutobahnClosureItem>>>() {})
+            .adapt(AutobahnClosureIndex::getByRoad, AutobahnClosureIndex::of);
+    this.feed = feedScheduler.register("autobahn-closures", codec, this::refresh);
+    if (feed.getRefreshedAt() != null) {
+      last = feed.get();
+      roads = List.copyOf(last.getByRoad().keySet());
+    }
+  }
+
+  /**
+   * Returns the most recent index.
+   *
+   * @return current index
+   * @throws FeedNotReadyException until the first refresh succeeded or an index was restored
+   */
+  public AutobahnClosureIndex current() {
+    return feed.require();
+  }
+
+  AutobahnClosureIndex refresh() {
+    List<String> roadIds = fetchRoads();
+    if (roadIds.isEmpty()) {
+      log.warn("No Autobahn road list available, keeping closure index");
+      return null;
+    }
+    AutobahnClosureIndex previous = last;
+    List<CompletableFuture<RoadResult>> futures =
+        roadIds.stream()
+            .map(road -> CompletableFuture.supplyAsync(() -> load(road, previous), executor))
+            .toList();
+
+    Map<String, List<AutobahnClosureItem>> byRoad = new LinkedHashMap<>();
+    int failed = 0;
+    boolean changed = !roadIds.equals(List.copyOf(previous.getByRoad().keySet()));
+    for (int i = 0; i < roadIds.size(); i++) {
+      RoadResult result = futures.get(i).join();
+      byRoad.put(roadIds.get(i), result.closures());
+      failed += result.failed() ? 1 : 0;
+      changed |= result.changed();
+    }
+    if (failed == roadIds.size()) {
+      log.warn("Fetching closures failed for all {} Autobahns", failed);
+      return null;
+    }
+    if (!changed) {
+      return previous;
+    }
+    AutobahnClosureIndex next = AutobahnClosureIndex.of(byRoad);
+    last = next;
+    log.info(
+        "Indexed {} closures on {} Autobahns ({} failed)", next.size(), roadIds.size(), failed);
+    return next;
+  }
+
+  private List<String> fetchRoads() {
+    try {
+      List<String> fetched = feedPort.fetchRoadIds();
+      if (!fetched.isEmpty()) {
+        roads = fetched;
+      }
+    } catch (Exception e) {
+      log.warn("Fetching Autobahn road list failed, using last known roads: {}", e.getMessage());
+    }
+    return roads;
+  }
+
+  private RoadResult load(String road, AutobahnClosureIndex previous) {
+    try {
+      List<AutobahnClosureItem> closures = feedPort.fetchClosureData(road);
+      boolean changed = lastByRoad.put(road, closures) != closures;
+      return new RoadResult(closures, changed, false);
+    } catch (Exception e) {
+      log.warn("Fetching closures for {} failed, keeping previous: {}", road, e.getMessage());
+      return new RoadResult(previous.forRoad(road), false, true);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private record RoadResult(List<AutobahnClosureItem> closures, boolean changed, boolean failed) {}
+}
@@ -1,131 +1,213 @@
 package com.hackathon25.safenet.application.service.autobahn;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hackathon25.safenet.infrastructure.adapter.web.dto.autobahn.AutobahnClosureItemDto;
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Parser for the Autobahn API.
+ *
+ * <p>Responses are bound straight from the stream into the immutable {@link AutobahnClosureItem}
+ * builders; no JSON tree and no intermediate DTO is built. Differences between the upstream format
+ * and the domain model are declared as mix-ins on the parser's private mapper, so they do not leak
+ * into the model or into the snapshot format: the longitude is sent as {@code long}, the display
+ * type as {@code display_type}, the road the response was fetched for is injected as {@code
+ * roadId}, start timestamps may carry an offset, and the GeoJSON geometry is reduced to its line.
+ */
 @Slf4j
 public class AutobahnClosureParser {
-  private static final ObjectMapper objectMapper = new ObjectMapper();
 
-  public static List<AutobahnClosureItemDto> parseClosureData(String jsonData) {
-    try {
-      if (jsonData == null || jsonData.trim().isEmpty()) {
-        return new ArrayList<>();
-      }
+  private static final String ROAD_ID = "roadId";
 
-      JsonNode rootNode = objectMapper.readTree(jsonData);
-      JsonNode closuresNode = rootNode.get("closure");
+  private static final JsonMapper MAPPER =
+      JsonMapper.builder()
+          .addModule(new JavaTimeModule())
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .addMixIn(AutobahnClosureItem.AutobahnClosureItemBuilder.class, ClosureMixin.class)
+          .addMixIn(AutobahnClosureItem.Coordinate.CoordinateBuilder.class, CoordinateMixin.class)
+          .addMixIn(AutobahnClosureItem.Geometry.GeometryBuilder.class, GeometryMixin.class)
+          .build();
 
-      if (closuresNode == null || !closuresNode.isArray()) {
-        return new ArrayList<>();
-      }
+  private static final ObjectReader CLOSURE_READER = MAPPER.readerFor(ClosureResponse.class);
+  private static final ObjectReader ROADS_READER = MAPPER.readerFor(RoadsResponse.class);
 
-      List<AutobahnClosureItemDto> closures = new ArrayList<>();
+  private AutobahnClosureParser() {}
 
-      for (JsonNode closureNode : closuresNode) {
-        AutobahnClosureItemDto closure = parseClosureItem(closureNode);
-        if (closure != null) {
-          closures.add(closure);
-        }
-      }
+  /**
+   * Parses the response of {@code /o/autobahn/{road}/services/closure}.
+   *
+   * @param in response body
+   * @param roadId Autobahn the closures were requested for, stored on every item
+   * @return closures of the road, empty if the response lists none
+   * @throws IOException if the response is not valid JSON
+   */
+  public static List<AutobahnClosureItem> parseClosureData(InputStream in, String roadId)
+      throws IOException {
+    ClosureResponse response =
+        CLOSURE_READER.with(new InjectableValues.Std().addValue(ROAD_ID, roadId)).readValue(in);
+    if (response == null || response.closure() == null) {
+      return List.of();
+    }
+    return response.closure().stream().filter(Objects::nonNull).toList();
+  }
 
-      return closures;
-    } catch (Exception e) {
-      log.error("Error parsing closure data: {}", e.getMessage());
-      return new ArrayList<>();
+  /** Parses the road list returned by {@code /o/autobahn/}, e.g. {@code {"roads":["A1","A2"]}}. */
+  public static List<String> parseRoadIds(InputStream in) throws IOException {
+    RoadsResponse response = ROADS_READER.readValue(in);
+    if (response == null || response.roads() == null) {
+      return List.of();
     }
+    return response.roads().stream().filter(Objects::nonNull).map(String::trim).toList();
   }
 
-  private static AutobahnClosureItemDto parseClosureItem(JsonNode node) {
-    try {
-      AutobahnClosureItemDto.AutobahnClosureItemDtoBuilder builder =
-          AutobahnClosureItemDto.builder();
+  private record ClosureResponse(List<AutobahnClosureItem> closure) {}
 
-      if (node.has("identifier")) {
-        builder.identifier(node.get("identifier").asText());
-      }
-      if (node.has("title")) {
-        builder.title(node.get("title").asText());
-      }
-      if (node.has("subtitle")) {
-        builder.subtitle(node.get("subtitle").asText());
-      }
-      if (node.has("extent")) {
-        builder.extent(node.get("extent").asText());
-      }
-      if (node.has("point")) {
-        builder.point(node.get("point").asText());
-      }
-      if (node.has("icon")) {
-        builder.icon(node.get("icon").asText());
-      }
-      if (node.has("displayType")) {
-        builder.displayType(node.get("displayType").asText());
-      }
-      if (node.has("isBlocked")) {
-        builder.isBlocked(node.get("isBlocked").asBoolean());
-      }
-      if (node.has("future")) {
-        builder.future(node.get("future").asBoolean());
-      }
+  private record RoadsResponse(List<String> roads) {}
 
-      // Parse arrays
-      if (node.has("description") && node.get("description").isArray()) {
-        List<String> descriptions =
-            objectMapper.convertValue(node.get("description"), new TypeReference<>() {});
-        builder.description(descriptions);
-      }
-      if (node.has("routeRecommendation") && node.get("routeRecommendation").isArray()) {
-        List<String> recommendations =
-            objectMapper.convertValue(node.get("routeRecommendation"), new TypeReference<>() {});
-        builder.routeRecommendation(recommendations);
-      }
-      if (node.has("footer") && node.get("footer").isArray()) {
-        List<String> footers =
-            objectMapper.convertValue(node.get("footer"), new TypeReference<>() {});
-        builder.footer(footers);
-      }
-      if (node.has("lorryParkingFeatureIcons") && node.get("lorryParkingFeatureIcons").isArray()) {
-        List<String> icons =
-            objectMapper.convertValue(
-                node.get("lorryParkingFeatureIcons"), new TypeReference<>() {});
-        builder.lorryParkingFeatureIcons(icons);
-      }
+  private abstract static class ClosureMixin {
+    @JacksonInject(ROAD_ID)
+    abstract Object roadId(String roadId);
+
+    @JsonAlias("display_type")
+    abstract Object displayType(String displayType);
 
-      // Parse coordinate
-      if (node.has("coordinate")) {
-        JsonNode coordNode = node.get("coordinate");
-        AutobahnClosureItemDto.CoordinateDto coordinate =
-            AutobahnClosureItemDto.CoordinateDto.builder()
-                .lat(coordNode.has("lat") ? coordNode.get("lat").asText() : null)
-                .lng(coordNode.has("lng") ? coordNode.get("lng").asText() : null)
-                .build();
-        builder.coordinate(coordinate);
+    @JsonDeserialize(using = TimestampDeserializer.class)
+    abstract Object startTimestamp(LocalDateTime startTimestamp);
+  }
+
+  private abstract static class CoordinateMixin {
+    @JsonAlias("long")
+    abstract Object lng(String lng);
+  }
+
+  private abstract static class GeometryMixin {
+    @JsonDeserialize(using = PositionsDeserializer.class)
+    abstract Object coordinates(double[] coordinates);
+  }
+
+  /**
+   * Streams the coordinates of a GeoJSON {@code LineString} or {@code Point} into a flat {@code
+   * [lon0, lat0, lon1, lat1, ...]} array. Other shapes, and lines with a malformed position, are
+   * read as {@code null}, so an unexpected geometry does not fail the whole road.
+   */
+  static class PositionsDeserializer extends JsonDeserializer<double[]> {
+    @Override
+    public double[] deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      if (!parser.isExpectedStartArrayToken()) {
+        parser.skipChildren();
+        return null;
+      }
+      JsonToken token = parser.nextToken();
+      if (token != null && token.isNumeric()) {
+        // A point: the array is the position itself.
+        double[] point = new double[2];
+        return readPosition(parser, point, 0) ? point : null;
+      }
+      double[] positions = new double[32];
+      int length = 0;
+      boolean valid = true;
+      for (; token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+        if (token == null) {
+          return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+          valid = false;
+          parser.skipChildren();
+          continue;
+        }
+        if (length == positions.length) {
+          positions = Arrays.copyOf(positions, length * 2);
+        }
+        parser.nextToken();
+        valid &= readPosition(parser, positions, length);
+        length += 2;
+      }
+      if (!valid || length == 0) {
+        return null;
       }
+      return length == positions.length ? positions : Arrays.copyOf(positions, length);
+    }
 
-      // Parse timestamp
-      if (node.has("startTimestamp")) {
-        String timestampStr = node.get("startTimestamp").asText();
-        try {
-          LocalDateTime timestamp =
-              LocalDateTime.parse(timestampStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-          builder.startTimestamp(timestamp);
-        } catch (Exception e) {
-          log.warn("Failed to parse timestamp: {}", timestampStr);
+    /**
+     * Reads one position, starting at its first element and ending on its closing bracket. An
+     * altitude or any further element is skipped.
+     *
+     * @return whether the position starts with two numbers
+     */
+    private static boolean readPosition(JsonParser parser, double[] out, int offset)
+        throws IOException {
+      int count = 0;
+      boolean numeric = true;
+      for (JsonToken token = parser.currentToken();
+          token != JsonToken.END_ARRAY;
+          token = parser.nextToken()) {
+        if (token == null) {
+          return false;
+        }
+        if (count < 2) {
+          if (token.isNumeric()) {
+            out[offset + count] = parser.getDoubleValue();
+          } else {
+            numeric = false;
+          }
         }
+        parser.skipChildren();
+        count++;
       }
+      return numeric && count >= 2;
+    }
+  }
 
-      return builder.build();
-    } catch (Exception e) {
-      log.error("Error parsing closure item: {}", e.getMessage());
-      return null;
+  /**
+   * Reads an ISO local date-time with an optional offset, which is dropped. Unparseable values are
+   * logged and read as {@code null} so they do not discard the closure.
+   */
+  static class TimestampDeserializer extends JsonDeserializer<LocalDateTime> {
+    private static final DateTimeFormatter FORMAT =
+        new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart()
+            .appendOffset("+HH:MM", "Z")
+            .optionalEnd()
+            .optionalStart()
+            .appendOffset("+HHMM", "Z")
+            .optionalEnd()
+            .toFormatter();
+
+    @Override
+    public LocalDateTime deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      String text = parser.getValueAsString();
+      if (text == null || text.isBlank()) {
+        return null;
+      }
+      try {
+        return LocalDateTime.parse(text.trim(), FORMAT);
+      } catch (DateTimeParseException e) {
+        log.warn("Failed to parse timestamp: {}", text);
+        return null;
+      }
     }
   }
 }
@@ -0,0 +1,59 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+/**
+ * Serializes a feed value for the {@link FeedSnapshotStore}.
+ *
+ * @param <T> feed value type
+ */
+public interface FeedCodec<T> {
+
+  void write(T value, OutputStream out) throws IOException;
+
+  T read(InputStream in) throws IOException;
+
+  /**
+   * Returns a codec for another type that is stored in the format of this one.
+   *
+   * @param toStored converts a value into the stored representation
+   * @param fromStored rebuilds the value from the stored representation
+   */
+  default <U> FeedCodec<U> adapt(Function<U, T> toStored, Function<T, U> fromStored) {
+    FeedCodec<T> stored = this;
+    return new FeedCodec<>() {
+      @Override
+      public void write(U value, OutputStream out) throws IOException {
+        stored.write(toStored.apply(value), out);
+      }
+
+      @Override
+      public U read(InputStream in) throws IOException {
+        T value = stored.read(in);
+        return value != null ? fromStored.apply(value) : null;
+      }
+    };
+  }
+
+  /** Codec for values that Jackson can bind, e.g. Lombok models with a no-args constructor. */
+  static <T> FeedCodec<T> json(ObjectMapper objectMapper, TypeReference<T> type) {
+    JavaType javaType = objectMapper.getTypeFactory().constructType(type);
+    return new FeedCodec<>() {
+      @Override
+      public void write(T value, OutputStream out) throws IOException {
+        objectMapper.writeValue(out, value);
+      }
+
+      @Override
+      public T read(InputStream in) throws IOException {
+        return objectMapper.readValue(in, javaType);
+      }
+    };
+  }
+}
@@ -0,0 +1,213 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import com.hackathon25.safenet.infrastructure.properties.Feeds;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes upstream feeds in the background and serves their last good snapshot.
+ *
+ * <p>Every registered {@link Feed} is loaded once the application is ready and then again after its
+ * configured interval plus a random jitter, on a dedicated thread pool. Readers always get the
+ * latest successfully loaded value without touching the network (stale-while-revalidate); a failed
+ * refresh is logged and the previous value stays in place. Only before the very first load
+ * completed does a reader wait, bounded by {@code safenet.feeds.initial-load-timeout}.
+ *
+ * <p>Feeds registered with a {@link FeedCodec} persist every new value through the {@link
+ * FeedSnapshotStore} and start out with the stored value, so they serve data immediately after a
+ * restart and keep serving it while the upstream is unreachable.
+ */
+@Slf4j
+@Component
+public class FeedScheduler implements DisposableBean {
+
+  private final Feeds properties;
+  private final FeedSnapshotStore snapshotStore;
+  private final ThreadPoolTaskScheduler scheduler;
+  private final List<Feed<?>> pending = new ArrayList<>();
+  private boolean started;
+
+  public FeedScheduler(
+      ApplicationProperties applicationProperties, FeedSnapshotStore snapshotStore) {
+    this.properties = applicationProperties.getFeeds();
+    this.snapshotStore = snapshotStore;
+    this.scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(properties.getPoolSize());
+    scheduler.setThreadNamePrefix("feed-refresh-");
+    scheduler.initialize();
+  }
+
+  /**
+   * Registers a feed with the interval configured for its name.
+   *
+   * @param name feed name, also the key in {@code safenet.feeds.intervals}
+   * @param loader fetches and parses the feed; throwing or returning {@code null} keeps the
+   *     previous value
+   */
+  public <T> Feed<T> register(String name, Supplier<T> loader) {
+    return register(name, properties.intervalFor(name), null, loader);
+  }
+
+  /**
+   * Registers a feed whose values are persisted, seeding it with the last stored value.
+   *
+   * @param name feed name, also the key in {@code safenet.feeds.intervals}
+   * @param codec serializes the value for the snapshot file
+   * @param loader fetches and parses the feed; throwing or returning {@code null} keeps the
+   *     previous value
+   */
+  public <T> Feed<T> register(String name, FeedCodec<T> codec, Supplier<T> loader) {
+    return register(name, properties.intervalFor(name), codec, loader);
+  }
+
+  public synchronized <T> Feed<T> register(
+      String name, Duration interval, FeedCodec<T> codec, Supplier<T> loader) {
+    Feed<T> feed = new Feed<>(name, interval, codec, loader);
+    if (codec != null) {
+      feed.restore();
+    }
+    if (started) {
+      feed.schedule(Duration.ZERO);
+    } else {
+      pending.add(feed);
+    }
+    return feed;
+  }
+
+  /** Starts all feeds registered so far; event listeners are in place at this point. */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    started = true;
+    pending.forEach(feed -> feed.schedule(Duration.ZERO));
+    pending.clear();
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdown();
+  }
+
+  private Duration jitter() {
+    long maxMillis = properties.getJitter().toMillis();
+    return maxMillis <= 0
+        ? Duration.ZERO
+        : Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+  }
+
+  /** A periodically refreshed value. */
+  public final class Feed<T> {
+    private final String name;
+    private final Duration interval;
+    private final FeedCodec<T> codec;
+    private final Supplier<T> loader;
+    private final CompletableFuture<Void> firstAttempt = new CompletableFuture<>();
+    private volatile T value;
+    private volatile Instant refreshedAt;
+
+    private Feed(String name, Duration interval, FeedCodec<T> codec, Supplier<T> loader) {
+      this.name = name;
+      this.interval = interval;
+      this.codec = codec;
+      this.loader = loader;
+    }
+
+    /**
+     * Returns the last successfully loaded value. Waits for the first load if it has not finished
+     * yet.
+     *
+     * @return current value, or {@code null} if no load has succeeded so far
+     */
+    public T get() {
+      T current = value;
+      if (current == null && !firstAttempt.isDone()) {
+        try {
+          firstAttempt.get(properties.getInitialLoadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+          log.warn("Initial load of feed {} still running, no data to serve yet", name);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          // Never completed exceptionally.
+        }
+        current = value;
+      }
+      return current;
+    }
+
+    /**
+     * Returns the last successfully loaded value like {@link #get()}, failing if there is none.
+     *
+     * @return current value
+     * @throws FeedNotReadyException if no load has succeeded so far
+     */
+    public T require() {
+      T current = get();
+      if (current == null) {
+        throw new FeedNotReadyException(name);
+      }
+      return current;
+    }
+
+    /** Time of the last successful load, {@code null} if there was none. */
+    public Instant getRefreshedAt() {
+      return refreshedAt;
+    }
+
+    private void restore() {
+      FeedSnapshotStore.Restored<T> restored = snapshotStore.load(name, codec);
+      if (restored != null) {
+        value = restored.value();
+        refreshedAt = restored.storedAt();
+        log.info("Restored feed {} from snapshot stored at {}", name, refreshedAt);
+      }
+    }
+
+    private void schedule(Duration delay) {
+      scheduler.schedule(this::refresh, Instant.now().plus(delay));
+    }
+
+    private void refresh() {
+      long start = System.nanoTime();
+      try {
+        T loaded = loader.get();
+        if (loaded != null) {
+          T previous = value;
+          value = loaded;
+          refreshedAt = Instant.now();
+          // Loaders return the previous instance when the upstream reported no change.
+          if (codec != null && loaded != previous) {
+            snapshotStore.save(name, loaded, codec);
+          }
+          log.debug("Refreshed feed {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        } else {
+          log.warn("Feed {} returned no data, serving snapshot from {}", name, refreshedAt);
+        }
+      } catch (Exception e) {
+        log.warn(
+            "Refreshing feed {} failed, serving snapshot from {}: {}",
+            name,
+            refreshedAt,
+            e.getMessage());
+      } finally {
+        firstAttempt.complete(null);
+        schedule(interval.plus(jitter()));
+      }
+    }
+  }
+}
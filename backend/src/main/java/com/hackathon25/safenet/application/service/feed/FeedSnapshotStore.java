@@ -0,0 +1,171 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import com.hackathon25.safenet.infrastructure.properties.Feeds;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the last good value of every feed to a local file, so a restarted instance can serve
+ * data before its first upstream call returned, or while the upstream is down.
+ *
+ * <p>Each feed is stored in its own file under {@code safenet.feeds.snapshot-directory}: a small
+ * header with magic number, format version and store time, followed by the payload written by the
+ * feed's {@link FeedCodec}. Files are replaced atomically, so a crash mid-write leaves the previous
+ * snapshot intact. On startup the file is memory-mapped and decoded straight from the mapping.
+ * Snapshots older than {@code safenet.feeds.snapshot-max-age} are ignored.
+ */
+@Slf4j
+@Component
+public class FeedSnapshotStore {
+
+  private static final int MAGIC = 0x534E4653; // "SNFS"
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+
+  private final Feeds properties;
+
+  public FeedSnapshotStore(ApplicationProperties applicationProperties) {
+    this.properties = applicationProperties.getFeeds();
+  }
+
+  /**
+   * Loads the stored snapshot of a feed.
+   *
+   * @param name feed name, keyed feeds include their key
+   * @param codec decoder for the payload
+   * @return the stored value, or {@code null} if there is no usable snapshot
+   */
+  public <T> Restored<T> load(String name, FeedCodec<T> codec) {
+    if (!properties.isSnapshotsEnabled()) {
+      return null;
+    }
+    Path file = fileFor(name);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < HEADER_BYTES
+          || buffer.getInt() != MAGIC
+          || buffer.getInt() != VERSION) {
+        log.warn("Ignoring feed snapshot {} with unknown format", file);
+        return null;
+      }
+      Instant storedAt = Instant.ofEpochMilli(buffer.getLong());
+      int length = buffer.getInt();
+      if (length != buffer.remaining()) {
+        log.warn("Ignoring truncated feed snapshot {}", file);
+        return null;
+      }
+      Duration age = Duration.between(storedAt, Instant.now());
+      if (age.compareTo(properties.getSnapshotMaxAge()) > 0) {
+        log.info("Ignoring feed snapshot {} stored {} ago", file, age);
+        return null;
+      }
+      T value = codec.read(new ByteBufferInputStream(buffer));
+      return value != null ? new Restored<>(value, storedAt) : null;
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to read feed snapshot {}: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Stores the value as the new snapshot of a feed. Failures are logged and otherwise ignored.
+   *
+   * @param name feed name, keyed feeds include their key
+   * @param value current feed value
+   * @param codec encoder for the payload
+   */
+  public <T> void save(String name, T value, FeedCodec<T> codec) {
+    if (!properties.isSnapshotsEnabled()) {
+      return;
+    }
+    Path file = fileFor(name);
+    try {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream(8192);
+      codec.write(value, payload);
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.putInt(MAGIC).putInt(VERSION).putLong(Instant.now().toEpochMilli());
+      header.putInt(payload.size()).flip();
+
+      Files.createDirectories(file.getParent());
+      Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+          channel.write(new ByteBuffer[] {header, ByteBuffer.wrap(payload.toByteArray())});
+        }
+        move(temp, file);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+      log.debug("Stored feed snapshot {} ({} bytes)", file, HEADER_BYTES + payload.size());
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to store feed snapshot {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private Path fileFor(String name) {
+    return properties
+        .getSnapshotDirectory()
+        .resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".snapshot");
+  }
+
+  /** A feed value read back from disk together with the time it was stored. */
+  public record Restored<T>(T value, Instant storedAt) {}
+
+  /** Reads the remaining bytes of a buffer without copying them to the heap first. */
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, buffer.remaining());
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
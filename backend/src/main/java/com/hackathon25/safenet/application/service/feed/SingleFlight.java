@@ -0,0 +1,97 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent identical upstream calls.
+ *
+ * <p>The first caller for a key becomes the leader and runs the loader on its own thread; every
+ * caller arriving while that call is in flight waits for the same {@link CompletableFuture} instead
+ * of issuing its own request, bounded by a per-call timeout. Nothing is cached beyond the lifetime
+ * of the call. The counter {@code safenet.single.flight.calls} records leaders, coalesced callers
+ * and timed-out callers per group.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+  private static final String METRIC = "safenet.single.flight.calls";
+
+  private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final Duration defaultTimeout;
+
+  public SingleFlight(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+    this.meterRegistry = meterRegistry;
+    this.defaultTimeout = applicationProperties.getFeeds().getSingleFlightTimeout();
+  }
+
+  /** Runs the loader for the key, or joins an in-flight call, using the default timeout. */
+  public <T> T execute(String group, Object key, Supplier<T> loader) {
+    return execute(group, key, defaultTimeout, loader);
+  }
+
+  /**
+   * Runs the loader for the key, or joins an in-flight call for the same key.
+   *
+   * @param group logical caller, used as metric tag and to separate key spaces
+   * @param key identifies identical calls within the group
+   * @param timeout how long a coalesced caller waits for the leader
+   * @param loader the upstream call
+   * @return the loader result
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String group, Object key, Duration timeout, Supplier<T> loader) {
+    Key flightKey = new Key(group, key);
+    CompletableFuture<Object> own = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, own);
+    if (existing == null) {
+      count(group, "leader");
+      try {
+        T result = loader.get();
+        own.complete(result);
+        return result;
+      } catch (RuntimeException | Error e) {
+        own.completeExceptionally(e);
+        throw e;
+      } finally {
+        inFlight.remove(flightKey, own);
+      }
+    }
+
+    count(group, "coalesced");
+    log.debug("Joining in-flight {} call for {}", group, key);
+    try {
+      return (T) existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      count(group, "timeout");
+      throw new RuntimeException(
+          "Timed out after " + timeout + " waiting for in-flight " + group + " call", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted waiting for in-flight " + group + " call", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private void count(String group, String role) {
+    meterRegistry.counter(METRIC, "group", group, "role", role).increment();
+  }
+
+  private record Key(String group, Object key) {}
+}
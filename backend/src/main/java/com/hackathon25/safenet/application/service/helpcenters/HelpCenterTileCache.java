@@ -0,0 +1,293 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hackathon25.safenet.application.service.feed.SingleFlight;
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.Geohash;
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
+import com.hackathon25.safenet.domain.model.geo.PointIndex.Neighbour;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterCursor;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterPage;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterSearchResult;
+import com.hackathon25.safenet.domain.port.outbound.HelpCentersFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import com.hackathon25.safenet.infrastructure.properties.HelpCenters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves help center lookups from fixed geohash tiles.
+ *
+ * <p>A query is widened to the tiles covering its search circle, for each requested amenity type.
+ * Tiles already cached are served from memory; the missing ones of all types are fetched together
+ * in one upstream request over their combined extent and split up by type and by the geohash of
+ * each result. Each tile is kept as a small KD-tree, so the merged tiles are searched by exact
+ * distance, either for everything within the radius or for the nearest page of results. Nearby
+ * queries thus share tiles no matter how far apart their centers are, and a map pan only fetches
+ * the tiles that came into view.
+ *
+ * <p>Tiles are kept for {@code safenet.help-centers.tile-ttl}. Tiles from a response the provider
+ * flagged as incomplete, e.g. an Overpass timeout, are only kept for {@code
+ * safenet.help-centers.partial-tile-ttl}, long enough to shield the provider from retries but not
+ * long enough to serve a gap for half an hour. The cache is bounded by the estimated memory of its
+ * tiles ({@code safenet.help-centers.tile-cache-max-size}) rather than by a tile count, since a
+ * city tile holds far more results than a rural one. All tiles are dropped when the provider
+ * publishes a {@link HelpCentersReloadedEvent}.
+ */
+@Slf4j
+@Component
+public class HelpCenterTileCache {
+
+  /**
+   * Rough heap cost of a cache entry without results, and of one result without its name, including
+   * its slot in the tile's KD-tree.
+   */
+  private static final int TILE_BYTES = 160;
+
+  private static final int HELP_CENTER_BYTES = 240;
+
+  /** Nearest first; equally distant help centers by id, matching {@link HelpCenterCursor}. */
+  private static final Comparator<Neighbour<HelpCenter>> NEAREST_FIRST =
+      Comparator.<Neighbour<HelpCenter>>comparingDouble(Neighbour::distanceKm)
+          .thenComparingLong(neighbour -> neighbour.item().getId());
+
+  private final HelpCentersFeedPort feedPort;
+  private final SingleFlight singleFlight;
+  private final HelpCenters properties;
+  private final Cache<TileKey, Tile> tiles;
+
+  public HelpCenterTileCache(
+      HelpCentersFeedPort feedPort,
+      SingleFlight singleFlight,
+      ApplicationProperties applicationProperties,
+      MeterRegistry meterRegistry) {
+    this.feedPort = feedPort;
+    this.singleFlight = singleFlight;
+    this.properties = applicationProperties.getHelpCenters();
+    this.tiles =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getTileCacheMaxSize().toBytes())
+            .weigher((TileKey key, Tile value) -> weigh(value.index()))
+            .expireAfter(
+                Expiry.writing(
+                    (TileKey key, Tile value) ->
+                        value.complete()
+                            ? properties.getTileTtl()
+                            : properties.getPartialTileTtl()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, tiles, "helpCenterTiles");
+  }
+
+  /**
+   * Finds the help centers of the given types within a radius.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusMeters search radius in metres
+   * @param types OSM amenities, e.g. {@code hospital} and {@code police}
+   * @return help centers of all types within the radius with their distance, nearest first
+   */
+  public List<Neighbour<HelpCenter>> find(
+      double lat, double lon, double radiusMeters, Set<String> types) {
+    double radiusKm = radiusMeters / 1000;
+    List<Neighbour<HelpCenter>> matches = new ArrayList<>();
+    for (PointIndex<HelpCenter> tile : tilesAround(lat, lon, radiusKm, types)) {
+      matches.addAll(tile.withinRadius(lat, lon, radiusKm));
+    }
+    matches.sort(NEAREST_FIRST);
+    return matches;
+  }
+
+  /**
+   * Finds the help centers of the given types closest to a location, one page at a time.
+   *
+   * <p>Every tile only contributes its own nearest candidates after the cursor, so the cost depends
+   * on the page size rather than on the number of help centers in the radius.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusMeters maximum distance in metres
+   * @param types OSM amenities, e.g. {@code hospital} and {@code police}
+   * @param limit page size
+   * @param after cursor of the previous page, {@code null} for the first page
+   * @return up to {@code limit} help centers with their distance, nearest first
+   */
+  public HelpCenterPage findNearest(
+      double lat,
+      double lon,
+      double radiusMeters,
+      Set<String> types,
+      int limit,
+      HelpCenterCursor after) {
+    double radiusKm = radiusMeters / 1000;
+    Predicate<Neighbour<HelpCenter>> accept =
+        neighbour ->
+            neighbour.distanceKm() <= radiusKm
+                && (after == null
+                    || after.isBefore(neighbour.distanceKm(), neighbour.item().getId()));
+
+    // One extra candidate per tile tells whether there is a next page.
+    List<Neighbour<HelpCenter>> candidates = new ArrayList<>();
+    for (PointIndex<HelpCenter> tile : tilesAround(lat, lon, radiusKm, types)) {
+      candidates.addAll(tile.nearest(lat, lon, limit + 1, accept));
+    }
+    candidates.sort(NEAREST_FIRST);
+    if (candidates.size() <= limit) {
+      return new HelpCenterPage(candidates, null);
+    }
+    List<Neighbour<HelpCenter>> page = List.copyOf(candidates.subList(0, limit));
+    Neighbour<HelpCenter> last = page.get(limit - 1);
+    return new HelpCenterPage(page, new HelpCenterCursor(last.distanceKm(), last.item().getId()));
+  }
+
+  /** Returns the tiles of all types covering the search circle, fetching the missing ones. */
+  private List<PointIndex<HelpCenter>> tilesAround(
+      double lat, double lon, double radiusKm, Set<String> types) {
+    BoundingBox area = BoundingBox.around(lat, lon, radiusKm);
+    int precision = precisionFor(area);
+    List<String> covering = Geohash.covering(area, precision);
+
+    List<PointIndex<HelpCenter>> found = new ArrayList<>();
+    List<TileKey> missing = new ArrayList<>();
+    for (String type : types) {
+      for (String tile : covering) {
+        TileKey key = new TileKey(type, tile);
+        Tile cached = tiles.getIfPresent(key);
+        if (cached != null) {
+          found.add(cached.index());
+        } else {
+          missing.add(key);
+        }
+      }
+    }
+    if (!missing.isEmpty()) {
+      Map<TileKey, PointIndex<HelpCenter>> fetched = fetch(missing, precision);
+      missing.forEach(key -> found.add(fetched.get(key)));
+    }
+    return found;
+  }
+
+  @EventListener
+  public void onHelpCentersReloaded(HelpCentersReloadedEvent event) {
+    tiles.invalidateAll();
+    log.debug("Dropped cached help center tiles after a reload of {} help centers", event.size());
+  }
+
+  /**
+   * Uses the configured precision unless the query would span too many tiles, but never tiles
+   * coarser than {@code min-tile-precision}, which bounds the area of a single upstream request.
+   *
+   * @throws IllegalArgumentException if even the coarsest allowed tiles are too many
+   */
+  private int precisionFor(BoundingBox area) {
+    int precision = properties.getTilePrecision();
+    int minPrecision = Math.min(precision, properties.getMinTilePrecision());
+    while (Geohash.coveringCount(area, precision) > properties.getMaxTilesPerQuery()) {
+      if (precision == minPrecision) {
+        throw new IllegalArgumentException("Search radius too large for help center lookups");
+      }
+      precision--;
+    }
+    return precision;
+  }
+
+  /**
+   * Fetches the missing tiles of all types in one request and caches each tile of the combined
+   * grid, including empty ones; see the class comment for incomplete responses. Concurrent misses
+   * of the same tiles share the request.
+   */
+  private Map<TileKey, PointIndex<HelpCenter>> fetch(List<TileKey> missing, int precision) {
+    Set<String> types = new TreeSet<>();
+    Set<String> missingTiles = new TreeSet<>();
+    for (TileKey key : missing) {
+      types.add(key.type());
+      missingTiles.add(key.geohash());
+    }
+    String flightKey = String.join(",", types) + ":" + String.join(",", missingTiles);
+    return singleFlight.execute(
+        "help-center-tiles",
+        flightKey,
+        () -> {
+          BoundingBox extent = extentOf(missingTiles);
+          HelpCenterSearchResult result = feedPort.getHelpCenters(extent, types);
+          Map<String, List<HelpCenter>> results = result.byType();
+
+          Map<TileKey, List<HelpCenter>> byTile = new HashMap<>();
+          int count = 0;
+          for (String type : types) {
+            missingTiles.forEach(tile -> byTile.put(new TileKey(type, tile), new ArrayList<>()));
+            for (HelpCenter helpCenter : results.getOrDefault(type, List.of())) {
+              String tile = Geohash.encode(helpCenter.getLat(), helpCenter.getLon(), precision);
+              List<HelpCenter> group = byTile.get(new TileKey(type, tile));
+              if (group != null) {
+                group.add(helpCenter);
+                count++;
+              }
+            }
+          }
+          Map<TileKey, PointIndex<HelpCenter>> fetched = new HashMap<>();
+          byTile.forEach(
+              (key, helpCenters) -> {
+                PointIndex<HelpCenter> value =
+                    PointIndex.build(helpCenters, HelpCenter::getLat, HelpCenter::getLon);
+                tiles.put(key, new Tile(value, result.complete()));
+                fetched.put(key, value);
+              });
+          log.debug(
+              "Fetched {} help center tiles of types {} with {} results{}",
+              missingTiles.size(),
+              types,
+              count,
+              result.complete() ? "" : " (incomplete)");
+          return fetched;
+        });
+  }
+
+  private static BoundingBox extentOf(Collection<String> tiles) {
+    double minLat = Double.POSITIVE_INFINITY;
+    double minLon = Double.POSITIVE_INFINITY;
+    double maxLat = Double.NEGATIVE_INFINITY;
+    double maxLon = Double.NEGATIVE_INFINITY;
+    for (String tile : tiles) {
+      BoundingBox bounds = Geohash.bounds(tile);
+      minLat = Math.min(minLat, bounds.minLat());
+      minLon = Math.min(minLon, bounds.minLon());
+      maxLat = Math.max(maxLat, bounds.maxLat());
+      maxLon = Math.max(maxLon, bounds.maxLon());
+    }
+    return new BoundingBox(minLat, minLon, maxLat, maxLon);
+  }
+
+  private static int weigh(PointIndex<HelpCenter> tile) {
+    int bytes = TILE_BYTES;
+    for (HelpCenter helpCenter : tile.items()) {
+      bytes += HELP_CENTER_BYTES;
+      if (helpCenter.getTags() != null && helpCenter.getTags().getName() != null) {
+        bytes += helpCenter.getTags().getName().length();
+      }
+    }
+    return bytes;
+  }
+
+  /** Cache key of one tile: amenity type and geohash. */
+  private record TileKey(String type, String geohash) {}
+
+  /** Cached tile and whether the response it came from was complete. */
+  private record Tile(PointIndex<HelpCenter> index, boolean complete) {}
+}
@@ -0,0 +1,9 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+/**
+ * Published by a help center provider whose data changed as a whole, e.g. after the offline source
+ * file was replaced. Cached help center tiles are stale at that point.
+ *
+ * @param size number of help centers now available
+ */
+public record HelpCentersReloadedEvent(int size) {}
@@ -1,21 +1,29 @@
 package com.hackathon25.safenet.application.service.helpcenters;
 
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
 import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
-import com.hackathon25.safenet.domain.port.outbound.HelpCentersFeedPort;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterCursor;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterPage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class HelpCentersService {
 
-    private final HelpCentersFeedPort helpCenterOutboundPort;
+    private final HelpCenterTileCache helpCenterTileCache;
 
-    @Cacheable(value = "helpCentersCache", key = "#lat + '-' + #lon + '-' + #radius + '-' + #type")
-    public List<HelpCenter> findHelpCenters(double lat, double lon, double radiusMeters, String type) {
-        return helpCenterOutboundPort.getHelpCenters(lat, lon, radiusMeters, type);
+    public List<PointIndex.Neighbour<HelpCenter>> findHelpCenters(double lat, double lon, double radiusMeters, Set<String> types) {
+        // Served from geohash tiles shared by all nearby queries, one upstream call for all types
+        return helpCenterTileCache.find(lat, lon, radiusMeters, types);
+    }
+
+    public HelpCenterPage findNearestHelpCenters(
+            double lat, double lon, double radiusMeters, Set<String> types, int limit, HelpCenterCursor after) {
+        // k-nearest over the per-tile indexes; only the requested page is materialized
+        return helpCenterTileCache.findNearest(lat, lon, radiusMeters, types, limit, after);
     }
 }
@@ -0,0 +1,129 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterTags;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for Overpass JSON responses ({@code [out:json]}).
+ *
+ * <p>Reads the {@code elements} array token by token and builds a {@link HelpCenter} per node
+ * straight from {@code type}, {@code id}, {@code lat}, {@code lon} and the {@code name} and {@code
+ * amenity} tags; every other field and tag is skipped without being materialized. Element types and
+ * amenities repeat across a response and are shared between its help centers. Elements without an
+ * id or a location, e.g. ways without {@code out center}, are left out. The top-level {@code
+ * remark}, which Overpass adds when a query was cut short, is kept.
+ */
+public class OverpassHelpCenterParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private OverpassHelpCenterParser() {}
+
+  /**
+   * Parses a response.
+   *
+   * @param in Overpass JSON, an object with an {@code elements} array
+   * @return help centers in response order and the remark, if any
+   * @throws IOException if the response is not valid JSON
+   */
+  public static OverpassResponse parse(InputStream in) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return new OverpassResponse(List.of(), null);
+      }
+      List<HelpCenter> helpCenters = new ArrayList<>();
+      String remark = null;
+      Map<String, String> shared = new HashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (value == JsonToken.START_ARRAY && field.equals("elements")) {
+          readElements(parser, shared, helpCenters);
+        } else if (value == JsonToken.VALUE_STRING && field.equals("remark")) {
+          remark = parser.getText();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new OverpassResponse(helpCenters, remark);
+    }
+  }
+
+  private static void readElements(
+      JsonParser parser, Map<String, String> shared, List<HelpCenter> helpCenters)
+      throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+      if (token == JsonToken.START_OBJECT) {
+        HelpCenter helpCenter = readElement(parser, shared);
+        if (helpCenter != null) {
+          helpCenters.add(helpCenter);
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static HelpCenter readElement(JsonParser parser, Map<String, String> shared)
+      throws IOException {
+    String type = null;
+    long id = 0;
+    boolean hasId = false;
+    double lat = Double.NaN;
+    double lon = Double.NaN;
+    HelpCenterTags tags = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "type" -> type = share(shared, parser.getValueAsString());
+        case "id" -> {
+          hasId = value == JsonToken.VALUE_NUMBER_INT;
+          id = parser.getValueAsLong();
+        }
+        case "lat" -> lat = value.isNumeric() ? parser.getDoubleValue() : Double.NaN;
+        case "lon" -> lon = value.isNumeric() ? parser.getDoubleValue() : Double.NaN;
+        case "tags" -> tags = readTags(parser, shared);
+        default -> parser.skipChildren();
+      }
+    }
+    if (!hasId || Double.isNaN(lat) || Double.isNaN(lon)) {
+      return null;
+    }
+    return new HelpCenter(type, id, lat, lon, tags);
+  }
+
+  private static HelpCenterTags readTags(JsonParser parser, Map<String, String> shared)
+      throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    String name = null;
+    String amenity = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String tag = parser.currentName();
+      parser.nextToken();
+      switch (tag) {
+        case "name" -> name = parser.getValueAsString();
+        case "amenity" -> amenity = share(shared, parser.getValueAsString());
+        default -> parser.skipChildren();
+      }
+    }
+    return new HelpCenterTags(name, amenity);
+  }
+
+  private static String share(Map<String, String> shared, String value) {
+    return value != null ? shared.computeIfAbsent(value, v -> v) : null;
+  }
+}
@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import java.util.List;
+
+/**
+ * A parsed Overpass response.
+ *
+ * @param helpCenters help centers in response order
+ * @param remark the {@code remark} Overpass adds when a query ran into a timeout or memory limit,
+ *     in which case the elements may be incomplete; {@code null} for a complete response
+ */
+public record OverpassResponse(List<HelpCenter> helpCenters, String remark) {}
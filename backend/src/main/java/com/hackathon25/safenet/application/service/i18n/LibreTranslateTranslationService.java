@@ -3,9 +3,9 @@ package com.hackathon25.safenet.application.service.i18n;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.model.i18n.TranslationKey;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,8 +35,8 @@ public class LibreTranslateTranslationService implements TranslationService {
   @Value("${translation.libretranslate.apiKey:}")
   private String apiKey;
 
-  // Simple in-memory cache; no persistence
-  private final Map<String, String> cache = new ConcurrentHashMap<>();
+  // Bounded in-memory tier in front of the persistent translation memory
+  private final TranslationMemory translationMemory;
 
   @Override
   public String translateText(String text, Language source, Language target) {
@@ -53,9 +53,8 @@ public class LibreTranslateTranslationService implements TranslationService {
       if (content == null || content.isBlank()) return content;
       if (source == target) return content;
 
-      String cacheKey =
-          (isHtml ? "HTML" : "TEXT") + "|" + source + "->" + target + "|" + content.hashCode();
-      String cached = cache.get(cacheKey);
+      TranslationKey key = TranslationKey.of(content, source, target, isHtml ? "html" : "text");
+      String cached = translationMemory.find(key);
       if (cached != null) return cached;
 
       String translated = callLibreTranslate(content, source, target, isHtml);
@@ -63,7 +62,7 @@ public class LibreTranslateTranslationService implements TranslationService {
         // Fallback to original in case of error
         return content;
       }
-      cache.put(cacheKey, translated);
+      translationMemory.save(key, translated);
       return translated;
     } catch (Exception e) {
       log.warn("Translation failed; returning original content. Reason: {}", e.getMessage());
@@ -0,0 +1,70 @@
+package com.hackathon25.safenet.application.service.i18n;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon25.safenet.domain.model.i18n.TranslationKey;
+import com.hackathon25.safenet.domain.port.outbound.TranslationMemoryPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Two-tier memory of machine translations.
+ *
+ * <p>Translations are kept in a bounded in-memory tier ({@code
+ * safenet.translation.memory-max-entries}) in front of the persistent {@link
+ * TranslationMemoryPort}, which survives restarts and is shared by all nodes. A miss in memory
+ * falls through to the persistent tier; only content neither tier knows has to be translated again.
+ * Failures of the persistent tier are logged and treated as misses, so translation keeps working
+ * without it.
+ */
+@Slf4j
+@Component
+public class TranslationMemory {
+
+  private final TranslationMemoryPort translationMemoryPort;
+  private final Cache<TranslationKey, String> cache;
+
+  public TranslationMemory(
+      TranslationMemoryPort translationMemoryPort,
+      ApplicationProperties applicationProperties,
+      MeterRegistry meterRegistry) {
+    this.translationMemoryPort = translationMemoryPort;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getTranslation().getMemoryMaxEntries())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "translationMemory");
+  }
+
+  /**
+   * Looks up a translation in memory, then in the persistent tier.
+   *
+   * @return the stored translation, {@code null} if there is none
+   */
+  public String find(TranslationKey key) {
+    return cache.get(key, this::load);
+  }
+
+  /** Remembers a translation in both tiers. */
+  public void save(TranslationKey key, String translation) {
+    cache.put(key, translation);
+    try {
+      translationMemoryPort.saveTranslation(key, translation);
+    } catch (Exception e) {
+      log.warn("Storing translation failed; kept in memory only. Reason: {}", e.getMessage());
+    }
+  }
+
+  private String load(TranslationKey key) {
+    try {
+      return translationMemoryPort.findTranslation(key).orElse(null);
+    } catch (Exception e) {
+      log.warn("Translation memory lookup failed. Reason: {}", e.getMessage());
+      return null;
+    }
+  }
+}
@@ -1,39 +1,190 @@
 package com.hackathon25.safenet.application.service.meteo;
 
+import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeedItem;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Single-pass StAX parser for the MeteoAlarm legacy RSS feed.
+ *
+ * <p>The feed is read straight from the response stream; no DOM and no {@code String} copy of the
+ * body is built. Each {@code <item>} is turned into a {@link MeteoAlarmFeedItem} as soon as its end
+ * tag is reached, with the description text split up by {@link Language} once, so every language
+ * view can be derived from the same parse. All patterns and the RFC 822 formatter are compiled
+ * once.
+ */
+@Slf4j
 public class MeteoAlarmParser {
-  public static String getTextContent(Element parent, String tagName) {
-    NodeList nodeList = parent.getElementsByTagName(tagName);
-    if (nodeList.getLength() > 0) {
-      Node node = nodeList.item(0);
-      return node.getTextContent();
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+  private static final Pattern AWARENESS_LEVEL = Pattern.compile("level:(\\d+)");
+  private static final Pattern AWARENESS_TYPE = Pattern.compile("awt:(\\d+)");
+
+  /** EMMA region code, two letters of the country and three digits, e.g. {@code DE411}. */
+  private static final Pattern EMMA_CODE = Pattern.compile("\\b([A-Z]{2}\\d{3})\\b");
+
+  /** Date patterns by label, e.g. {@code From:}; the feed only uses a handful of labels. */
+  private static final Map<String, Pattern> DATE_PATTERNS = new ConcurrentHashMap<>();
+
+  /** Description patterns by language. */
+  private static final Map<Language, Pattern> LANGUAGE_PATTERNS = new ConcurrentHashMap<>();
+
+  private static final DateTimeFormatter RFC_822 =
+      new DateTimeFormatterBuilder()
+          .parseCaseInsensitive()
+          .appendPattern("EEE, dd MMM yy HH:mm:ss ")
+          .appendOffset("+HHMM", "+0000")
+          .toFormatter(Locale.ENGLISH);
+
+  private MeteoAlarmParser() {}
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  /**
+   * Parses the feed. The first {@code <item>} of the legacy feed is the country overview and is
+   * skipped.
+   *
+   * @param in feed XML; the encoding is taken from the XML declaration
+   * @return channel information and all regional items
+   * @throws XMLStreamException if the feed is not well-formed
+   */
+  public static MeteoAlarmFeed parse(InputStream in) throws XMLStreamException {
+    XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+    try {
+      MeteoAlarmFeed.MeteoAlarmFeedBuilder response = MeteoAlarmFeed.builder();
+      List<MeteoAlarmFeedItem> items = new ArrayList<>();
+      boolean inChannel = false;
+      boolean inItem = false;
+      int itemIndex = 0;
+      ItemFields item = null;
+
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = reader.getLocalName();
+          if (!inChannel) {
+            inChannel = name.equals("channel");
+            continue;
+          }
+          if (!inItem && name.equals("item")) {
+            inItem = true;
+            item = new ItemFields();
+          } else if (inItem) {
+            readItemField(reader, name, item);
+          } else {
+            readChannelField(reader, name, response);
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          // Direct children are consumed whole, so this is the end of <item> or <channel>.
+          if (inItem) {
+            inItem = false;
+            if (itemIndex++ > 0) {
+              MeteoAlarmFeedItem parsed = item.toItem();
+              if (parsed != null) {
+                items.add(parsed);
+              }
+            }
+          } else if (inChannel) {
+            break;
+          }
+        }
+      }
+      return response.items(items).build();
+    } finally {
+      reader.close();
+    }
+  }
+
+  /** Reads a direct child of {@code <channel>}; unknown elements are skipped with their subtree. */
+  private static void readChannelField(
+      XMLStreamReader reader, String name, MeteoAlarmFeed.MeteoAlarmFeedBuilder response)
+      throws XMLStreamException {
+    switch (name) {
+      case "title" -> response.title(reader.getElementText());
+      case "description" -> response.description(reader.getElementText());
+      case "link" -> response.link(reader.getElementText());
+      case "language" -> response.language(reader.getElementText());
+      case "ttl" -> response.ttl(parseInteger(reader.getElementText()));
+      default -> skipElement(reader);
+    }
+  }
+
+  private static void readItemField(XMLStreamReader reader, String name, ItemFields item)
+      throws XMLStreamException {
+    switch (name) {
+      case "title" -> item.title = reader.getElementText();
+      case "description" -> item.description = reader.getElementText();
+      case "link" -> item.link = reader.getElementText();
+      case "guid" -> item.guid = reader.getElementText();
+      case "pubDate" -> item.pubDate = reader.getElementText();
+      default -> skipElement(reader);
+    }
+  }
+
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0 && reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
     }
-    return null;
   }
 
   public static Integer extractAwarenessLevel(String description) {
-    if (description == null) return null;
-    Pattern pattern = Pattern.compile("level:(\\d+)");
-    Matcher matcher = pattern.matcher(description);
-    if (matcher.find()) {
-      return Integer.parseInt(matcher.group(1));
+    return extractInteger(AWARENESS_LEVEL, description);
+  }
+
+  public static Integer extractAwarenessType(String description) {
+    return extractInteger(AWARENESS_TYPE, description);
+  }
+
+  /**
+   * Extracts the EMMA code of the warned region from the item link, falling back to the guid.
+   *
+   * @return region code, or {@code null} if neither contains one
+   */
+  public static String extractRegionCode(String link, String guid) {
+    for (String value : new String[] {link, guid}) {
+      if (value != null) {
+        Matcher matcher = EMMA_CODE.matcher(value);
+        if (matcher.find()) {
+          return matcher.group(1);
+        }
+      }
     }
     return null;
   }
 
-  public static Integer extractAwarenessType(String description) {
+  private static Integer extractInteger(Pattern pattern, String description) {
     if (description == null) return null;
-    Pattern pattern = Pattern.compile("awt:(\\d+)");
     Matcher matcher = pattern.matcher(description);
     if (matcher.find()) {
       return Integer.parseInt(matcher.group(1));
@@ -43,7 +194,9 @@ public class MeteoAlarmParser {
 
   public static LocalDateTime extractDateTime(String description, String prefix) {
     if (description == null) return null;
-    Pattern pattern = Pattern.compile(prefix + "\\s*</b>\\s*<i>([^<]+)</i>");
+    Pattern pattern =
+        DATE_PATTERNS.computeIfAbsent(
+            prefix, p -> Pattern.compile(Pattern.quote(p) + "\\s*</b>\\s*<i>([^<]+)</i>"));
     Matcher matcher = pattern.matcher(description);
 
     if (matcher.find()) {
@@ -51,7 +204,7 @@ public class MeteoAlarmParser {
         String dateStr = matcher.group(1).trim();
         return ZonedDateTime.parse(dateStr).toLocalDateTime();
       } catch (Exception e) {
-        // Optionally log or handle parse error
+        log.debug("Unparseable MeteoAlarm date '{}'", matcher.group(1));
       }
     }
     return null;
@@ -60,26 +213,40 @@ public class MeteoAlarmParser {
   public static LocalDateTime parsePubDate(String pubDateStr) {
     if (pubDateStr == null) return null;
     try {
-      DateTimeFormatter rfc822Formatter =
-          new DateTimeFormatterBuilder()
-              .parseCaseInsensitive()
-              .appendPattern("EEE, dd MMM yy HH:mm:ss ")
-              .appendOffset("+HHMM", "+0000")
-              .toFormatter(Locale.ENGLISH);
-
-      return ZonedDateTime.parse(pubDateStr.trim(), rfc822Formatter).toLocalDateTime();
+      return ZonedDateTime.parse(pubDateStr.trim(), RFC_822).toLocalDateTime();
     } catch (Exception e) {
-      // Optionally log or handle parse error
+      log.debug("Unparseable MeteoAlarm pubDate '{}'", pubDateStr);
     }
     return null;
   }
 
-  public static String extractLanguageSpecificDescription(String description, String language) {
+  /** Extracts the description text of every {@link Language} the description contains. */
+  public static Map<Language, String> extractDescriptions(String description) {
+    Map<Language, String> descriptions = new EnumMap<>(Language.class);
+    for (Language language : Language.values()) {
+      String text = extractLanguageSpecificDescription(description, language);
+      if (text != null) {
+        descriptions.put(language, text);
+      }
+    }
+    return descriptions;
+  }
+
+  /**
+   * Extracts the text following the label of the language, e.g. {@code deutsch(de-DE):}. The label
+   * is matched by the primary language subtag, so any region variant the feed uses is accepted.
+   */
+  public static String extractLanguageSpecificDescription(String description, Language language) {
     if (description == null) return null;
 
-    String languageCode = language.equals("german") ? "de-DE" : "en";
     Pattern pattern =
-        Pattern.compile(languageCode + "\\):\\s*([^\\n]+(?:\\n(?!\\w+\\([^)]+\\):)[^\\n]*)*)");
+        LANGUAGE_PATTERNS.computeIfAbsent(
+            language,
+            lang ->
+                Pattern.compile(
+                    "\\("
+                        + lang.name().toLowerCase(Locale.ROOT)
+                        + "(?:-[A-Za-z]+)?\\):\\s*([^\\n]+(?:\\n(?!\\w+\\([^)]+\\):)[^\\n]*)*)"));
     Matcher matcher = pattern.matcher(description);
 
     if (matcher.find()) {
@@ -88,4 +255,43 @@ public class MeteoAlarmParser {
 
     return null;
   }
+
+  private static Integer parseInteger(String value) {
+    try {
+      return value != null ? Integer.parseInt(value.trim()) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /** Raw child element texts of one {@code <item>}. */
+  private static final class ItemFields {
+    private String title;
+    private String description;
+    private String link;
+    private String guid;
+    private String pubDate;
+
+    private MeteoAlarmFeedItem toItem() {
+      try {
+        return MeteoAlarmFeedItem.builder()
+            .title(title)
+            .description(description)
+            .descriptions(extractDescriptions(description))
+            .link(link)
+            .guid(guid)
+            .pubDate(parsePubDate(pubDate))
+            .region(title)
+            .regionCode(extractRegionCode(link, guid))
+            .awarenessLevel(extractAwarenessLevel(description))
+            .awarenessType(extractAwarenessType(description))
+            .validFrom(extractDateTime(description, "From:"))
+            .validUntil(extractDateTime(description, "Until:"))
+            .build();
+      } catch (Exception e) {
+        log.error("Error parsing item", e);
+        return null;
+      }
+    }
+  }
 }
@@ -1,106 +1,144 @@
 package com.hackathon25.safenet.application.service.meteo;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.exception.meteoalarm.MeteoAlarmRegionsUnavailableException;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
 import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmItem;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmRegionIndex;
 import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmResponse;
 import com.hackathon25.safenet.domain.port.inbound.MeteoAlarmPort;
 import com.hackathon25.safenet.domain.port.outbound.MeteoAlarmFeedPort;
-import lombok.RequiredArgsConstructor;
+import com.hackathon25.safenet.domain.port.outbound.MeteoAlarmRegionPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MeteoAlarmService implements MeteoAlarmPort {
 
-    private final MeteoAlarmFeedPort meteoAlarmFeedPort;
+    private final FeedScheduler.Feed<MeteoAlarmFeed> feed;
+    private final MeteoAlarmRegionIndex regionIndex;
 
-    @Cacheable(value = "meteoAlarmCache", key = "#language")
-    public MeteoAlarmResponse getMeteoAlarmData(String language) {
-        try {
-            log.info("Fetching MeteoAlarm data for language: {}", language);
-            // Fetch RSS feed
-            String rssContent = meteoAlarmFeedPort.fetchFeedContent();
-            if (rssContent == null) {
-                throw new RuntimeException("Failed to fetch RSS content");
-            }
-            // Parse XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new ByteArrayInputStream(rssContent.getBytes()));
-            // Extract channel information
-            Element channel = (Element) document.getElementsByTagName("channel").item(0);
-            String title = MeteoAlarmParser.getTextContent(channel, "title");
-            String description = MeteoAlarmParser.getTextContent(channel, "description");
-            String link = MeteoAlarmParser.getTextContent(channel, "link");
-            String channelLanguage = MeteoAlarmParser.getTextContent(channel, "language");
-            String ttlStr = MeteoAlarmParser.getTextContent(channel, "ttl");
-            Integer ttl = ttlStr != null ? Integer.parseInt(ttlStr) : null;
-            // Extract items
-            NodeList itemNodes = document.getElementsByTagName("item");
-            List<MeteoAlarmItem> items = new ArrayList<>();
-            for (int i = 1; i < itemNodes.getLength(); i++) {
-                Element itemElement = (Element) itemNodes.item(i);
-                MeteoAlarmItem item = parseItem(itemElement, language);
-                if (item != null) {
-                    items.add(item);
-                }
-            }
-            return MeteoAlarmResponse.builder()
-                    .title(title)
-                    .description(description)
-                    .link(link)
-                    .language(channelLanguage)
-                    .ttl(ttl)
-                    .items(items)
-                    .build();
-        } catch (Exception e) {
-            log.error("Error fetching MeteoAlarm data", e);
-            throw new RuntimeException("Failed to fetch MeteoAlarm data", e);
+    /**
+     * Last response per language. All languages are views over the same parsed feed, so a view is
+     * only rebuilt when the feed instance changed.
+     */
+    private final Map<Language, LocalizedView> views = new ConcurrentHashMap<>();
+
+    /** Items of the current feed whose region code is not in the region table. */
+    private final AtomicInteger unresolved = new AtomicInteger();
+
+    /** Feed whose unresolved items were last reported, so each feed is reported once. */
+    private volatile MeteoAlarmFeed reported;
+
+    public MeteoAlarmService(MeteoAlarmFeedPort meteoAlarmFeedPort, MeteoAlarmRegionPort meteoAlarmRegionPort,
+                             FeedScheduler feedScheduler, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.regionIndex = MeteoAlarmRegionIndex.of(meteoAlarmRegionPort.loadRegions());
+        if (regionIndex.size() > 0) {
+            log.info("Loaded {} MeteoAlarm regions", regionIndex.size());
+        } else {
+            log.error("No MeteoAlarm regions loaded, location queries for weather alerts answer 503");
+        }
+        Gauge.builder("safenet.meteoalarm.items.unresolved", unresolved, AtomicInteger::get)
+                .register(meterRegistry);
+        this.feed = feedScheduler.register("meteo-alarm",
+                FeedCodec.json(objectMapper, new TypeReference<MeteoAlarmFeed>() {}),
+                meteoAlarmFeedPort::fetchFeed);
+    }
+
+    @Override
+    public MeteoAlarmResponse getMeteoAlarmData(Language language) {
+        return view(language).response();
+    }
+
+    @Override
+    public MeteoAlarmResponse getMeteoAlarmData(Language language, double lat, double lon) {
+        if (regionIndex.size() == 0) {
+            // Every alert would look like a filtered result, and none like an all-clear.
+            throw new MeteoAlarmRegionsUnavailableException();
+        }
+        LocalizedView view = view(language);
+        MeteoAlarmResponse all = view.response();
+        List<MeteoAlarmItem> items = new ArrayList<>();
+        for (String code : regionIndex.regionsAt(lat, lon)) {
+            items.addAll(view.itemsByRegion().getOrDefault(code, List.of()));
         }
+        return MeteoAlarmResponse.builder()
+                .title(all.getTitle())
+                .description(all.getDescription())
+                .link(all.getLink())
+                .language(all.getLanguage())
+                .ttl(all.getTtl())
+                .items(items)
+                .build();
     }
 
-    private MeteoAlarmItem parseItem(Element itemElement, String requestedLanguage) {
-        try {
-            String title = MeteoAlarmParser.getTextContent(itemElement, "title");
-            String description = MeteoAlarmParser.getTextContent(itemElement, "description");
-            String link = MeteoAlarmParser.getTextContent(itemElement, "link");
-            String guid = MeteoAlarmParser.getTextContent(itemElement, "guid");
-            String pubDateStr = MeteoAlarmParser.getTextContent(itemElement, "pubDate");
-            LocalDateTime pubDate = MeteoAlarmParser.parsePubDate(pubDateStr);
-            Integer awarenessLevel = MeteoAlarmParser.extractAwarenessLevel(description);
-            Integer awarenessType = MeteoAlarmParser.extractAwarenessType(description);
-            LocalDateTime validFrom = MeteoAlarmParser.extractDateTime(description, "From:");
-            LocalDateTime validUntil = MeteoAlarmParser.extractDateTime(description, "Until:");
-            String languageSpecificDescription = MeteoAlarmParser.extractLanguageSpecificDescription(description, requestedLanguage);
-            return MeteoAlarmItem.builder()
-                    .title(title)
-                    .description(languageSpecificDescription != null ? languageSpecificDescription : description)
-                    .link(link)
-                    .guid(guid)
-                    .pubDate(pubDate)
-                    .region(title)
-                    .awarenessLevel(awarenessLevel)
-                    .awarenessType(awarenessType)
-                    .validFrom(validFrom)
-                    .validUntil(validUntil)
-                    .language(requestedLanguage)
-                    .build();
-        } catch (Exception e) {
-            log.error("Error parsing item", e);
-            return null;
+    private LocalizedView view(Language language) {
+        MeteoAlarmFeed current = feed.require();
+        LocalizedView view = views.get(language);
+        if (view == null || view.feed() != current) {
+            view = localize(current, language);
+            views.put(language, view);
         }
+        return view;
     }
-}
\ No newline at end of file
+
+    /** Builds the language view and groups its items by region code for location queries. */
+    private LocalizedView localize(MeteoAlarmFeed feed, Language language) {
+        log.debug("Building MeteoAlarm view for language: {}", language);
+        List<MeteoAlarmItem> items = feed.getItems().stream()
+                .map(item -> item.localize(language))
+                .toList();
+        Map<String, List<MeteoAlarmItem>> itemsByRegion = new LinkedHashMap<>();
+        List<String> unresolvedTitles = new ArrayList<>();
+        for (MeteoAlarmItem item : items) {
+            String code = regionIndex.resolve(item.getRegionCode());
+            if (code != null) {
+                itemsByRegion.computeIfAbsent(code, c -> new ArrayList<>()).add(item);
+            } else {
+                unresolvedTitles.add(item.getTitle() + " (" + item.getRegionCode() + ")");
+            }
+        }
+        if (feed != reported) {
+            reported = feed;
+            unresolved.set(unresolvedTitles.size());
+            if (!unresolvedTitles.isEmpty() && regionIndex.size() > 0) {
+                log.warn("{} of {} MeteoAlarm items have no known region and are left out of location queries: {}",
+                        unresolvedTitles.size(), items.size(), unresolvedTitles);
+            }
+        }
+        MeteoAlarmResponse response = MeteoAlarmResponse.builder()
+                .title(feed.getTitle())
+                .description(feed.getDescription())
+                .link(feed.getLink())
+                .language(feed.getLanguage())
+                .ttl(feed.getTtl())
+                .items(items)
+                .build();
+        return new LocalizedView(feed, response, itemsByRegion);
+    }
+
+    /**
+     * @param itemsByRegion items by EMMA region code; items whose code is not in the region table
+     *     are only part of {@code response}
+     */
+    private record LocalizedView(
+            MeteoAlarmFeed feed,
+            MeteoAlarmResponse response,
+            Map<String, List<MeteoAlarmItem>> itemsByRegion) {}
+}
@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDiff;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import java.util.List;
+
+/**
+ * Published by the {@link NinaPoliceIngester} after a refresh that changed the police warnings.
+ *
+ * @param items the items that are now current
+ * @param diff changes relative to the previous items
+ */
+public record NinaPoliceChangedEvent(List<NinaPoliceItem> items, NinaPoliceDiff diff) {}
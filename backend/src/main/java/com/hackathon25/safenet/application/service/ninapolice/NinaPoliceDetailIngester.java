@@ -0,0 +1,188 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceIndex;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches details and areas of the NINA police warnings and keeps them in a spatial index.
+ *
+ * <p>Details are cached by id and version: only warnings that are new or got a new version are
+ * fetched, at most {@code safenet.feeds.fetch-parallelism} at a time on a dedicated pool, and
+ * details of warnings that left the feed are evicted. A sync runs right after every {@link
+ * NinaPoliceChangedEvent} and, to cover startup and retry failed fetches, on the {@code
+ * nina-police-details} feed interval; a sync with nothing to fetch only does map lookups.
+ *
+ * <p>Syncs for events run on a thread of their own, so the publishing {@link NinaPoliceIngester}
+ * neither waits for the detail requests nor holds its lock meanwhile. Events arriving while a sync
+ * is queued are coalesced into one sync of the latest items.
+ */
+@Slf4j
+@Component
+public class NinaPoliceDetailIngester implements DisposableBean {
+
+  private final NinaPoliceFeedPort feedPort;
+  private final NinaPoliceIngester ninaPoliceIngester;
+  private final ExecutorService executor;
+  private final ExecutorService syncExecutor;
+  private final FeedScheduler.Feed<NinaPoliceIndex> feed;
+
+  /** Items of the latest event not yet picked up by a sync, {@code null} if there are none. */
+  private final AtomicReference<List<NinaPoliceItem>> pendingItems = new AtomicReference<>();
+
+  /** Fetched details by warning id. Guarded by {@code this}. */
+  private final Map<String, NinaPoliceDetail> details = new HashMap<>();
+
+  /** Index of the last sync, {@code null} until the first one. */
+  private volatile NinaPoliceIndex index;
+
+  /** Item list the current index was built from. Guarded by {@code this}. */
+  private List<NinaPoliceItem> indexedItems;
+
+  public NinaPoliceDetailIngester(
+      NinaPoliceFeedPort feedPort,
+      NinaPoliceIngester ninaPoliceIngester,
+      FeedScheduler feedScheduler,
+      ApplicationProperties applicationProperties) {
+    this.feedPort = feedPort;
+    this.ninaPoliceIngester = ninaPoliceIngester;
+    AtomicInteger threads = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            applicationProperties.getFeeds().getFetchParallelism(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "nina-detail-fetch-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.syncExecutor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "nina-detail-sync");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.feed = feedScheduler.register("nina-police-details", this::refresh);
+  }
+
+  /**
+   * Returns the most recent index.
+   *
+   * @return current index
+   * @throws FeedNotReadyException until the first sync completed
+   */
+  public NinaPoliceIndex current() {
+    NinaPoliceIndex current = index;
+    return current != null ? current : feed.require();
+  }
+
+  @EventListener
+  public void onPoliceWarningsChanged(NinaPoliceChangedEvent event) {
+    if (pendingItems.getAndSet(event.items()) == null) {
+      syncExecutor.execute(this::syncPending);
+    }
+  }
+
+  private void syncPending() {
+    List<NinaPoliceItem> items = pendingItems.getAndSet(null);
+    if (items == null) {
+      return;
+    }
+    try {
+      sync(items);
+    } catch (Exception e) {
+      log.warn("Syncing NINA police details failed: {}", e.getMessage());
+    }
+  }
+
+  NinaPoliceIndex refresh() {
+    List<NinaPoliceItem> items = ninaPoliceIngester.current();
+    return items != null ? sync(items) : null;
+  }
+
+  /** Brings the index up to date with the items, fetching details that are missing or outdated. */
+  synchronized NinaPoliceIndex sync(List<NinaPoliceItem> items) {
+    List<NinaPoliceItem> missing = new ArrayList<>();
+    for (NinaPoliceItem item : items) {
+      NinaPoliceDetail cached = details.get(item.getId());
+      if (cached == null || !Objects.equals(cached.getItem().getVersion(), item.getVersion())) {
+        missing.add(item);
+      }
+    }
+    if (missing.isEmpty() && items == indexedItems) {
+      return index;
+    }
+
+    List<CompletableFuture<NinaPoliceDetail>> futures =
+        missing.stream()
+            .map(item -> CompletableFuture.supplyAsync(() -> fetch(item), executor))
+            .toList();
+    int failed = 0;
+    for (CompletableFuture<NinaPoliceDetail> future : futures) {
+      NinaPoliceDetail detail = future.join();
+      if (detail != null) {
+        details.put(detail.getItem().getId(), detail);
+      } else {
+        failed++;
+      }
+    }
+
+    Set<String> ids = new HashSet<>();
+    items.forEach(item -> ids.add(item.getId()));
+    details.keySet().retainAll(ids);
+
+    // Warnings whose details could not be fetched yet are indexed with the previous version's
+    // details, or left out until the next sync.
+    List<NinaPoliceDetail> indexed = new ArrayList<>(items.size());
+    for (NinaPoliceItem item : items) {
+      NinaPoliceDetail detail = details.get(item.getId());
+      if (detail != null) {
+        indexed.add(detail);
+      }
+    }
+    index = NinaPoliceIndex.of(indexed);
+    indexedItems = items;
+    log.info(
+        "Indexed {} NINA police warnings ({} fetched, {} failed)",
+        indexed.size(),
+        missing.size() - failed,
+        failed);
+    return index;
+  }
+
+  private NinaPoliceDetail fetch(NinaPoliceItem item) {
+    try {
+      return feedPort.fetchDetail(item);
+    } catch (Exception e) {
+      log.warn("Fetching details of NINA warning {} failed: {}", item.getId(), e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    syncExecutor.shutdownNow();
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,153 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the per-warning NINA endpoints: the CAP details ({@code
+ * /warnings/{id}.json}) and the area ({@code /warnings/{id}.geojson}).
+ */
+public class NinaPoliceDetailParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private NinaPoliceDetailParser() {}
+
+  /**
+   * Parses the CAP details of a warning. Only the first {@code info} block is read.
+   *
+   * @param in details JSON
+   * @param item map data entry the details belong to
+   * @return details builder, to be completed with the geometry
+   * @throws IOException if the details are not valid JSON
+   */
+  public static NinaPoliceDetail.NinaPoliceDetailBuilder parseDetail(
+      InputStream in, NinaPoliceItem item) throws IOException {
+    NinaPoliceDetail.NinaPoliceDetailBuilder detail = NinaPoliceDetail.builder().item(item);
+    try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected NINA warning details to be a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("info".equals(field) && value == JsonToken.START_ARRAY) {
+          boolean first = true;
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+              parseInfo(parser, detail);
+              first = false;
+            } else {
+              parser.skipChildren();
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return detail;
+  }
+
+  private static void parseInfo(JsonParser parser, NinaPoliceDetail.NinaPoliceDetailBuilder detail)
+      throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "headline" -> detail.headline(parser.getValueAsString());
+        case "description" -> detail.description(parser.getValueAsString());
+        case "instruction" -> detail.instruction(parser.getValueAsString());
+        case "area" -> {
+          if (value == JsonToken.START_ARRAY) {
+            detail.areaDescription(parseAreaDescriptions(parser));
+          } else {
+            parser.skipChildren();
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+  }
+
+  private static String parseAreaDescriptions(JsonParser parser) throws IOException {
+    List<String> names = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if ("areaDesc".equals(field) && parser.currentToken() == JsonToken.VALUE_STRING) {
+          names.add(parser.getText());
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return names.isEmpty() ? null : String.join(", ", names);
+  }
+
+  /**
+   * Parses the rings of all {@code Polygon} and {@code MultiPolygon} geometries in a GeoJSON
+   * document.
+   *
+   * @param in GeoJSON, typically a feature collection
+   * @return all rings, empty if the document has none
+   * @throws IOException if the document is not valid JSON
+   */
+  public static PolygonGeometry parseGeometry(InputStream in) throws IOException {
+    PolygonGeometry.Builder polygon = PolygonGeometry.builder();
+    try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        if (token == JsonToken.FIELD_NAME
+            && "coordinates".equals(parser.currentName())
+            && parser.nextToken() == JsonToken.START_ARRAY) {
+          readCoordinates(parser, polygon);
+        }
+      }
+    }
+    return polygon.build();
+  }
+
+  /**
+   * Reads a GeoJSON coordinates array of any depth. Positions are added to the current ring, and
+   * every array of positions is closed as one ring.
+   */
+  private static void readCoordinates(JsonParser parser, PolygonGeometry.Builder polygon)
+      throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token != null && token.isNumeric()) {
+      double lon = parser.getDoubleValue();
+      token = parser.nextToken();
+      if (token != null && token.isNumeric()) {
+        polygon.addPoint(lon, parser.getDoubleValue());
+      }
+      while (parser.currentToken() != JsonToken.END_ARRAY && parser.currentToken() != null) {
+        parser.nextToken();
+        parser.skipChildren();
+      }
+      return;
+    }
+    while (token != JsonToken.END_ARRAY && token != null) {
+      if (token == JsonToken.START_ARRAY) {
+        readCoordinates(parser, polygon);
+      } else {
+        parser.skipChildren();
+      }
+      token = parser.nextToken();
+    }
+    polygon.endRing();
+  }
+}
@@ -0,0 +1,97 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDiff;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the NINA police warnings up to date, merging each fetch into the known items by id.
+ *
+ * <p>The current items are handed to the feed adapter, which only materializes entries whose {@code
+ * version} changed and reuses the known instance for all others. Ids missing from the feed are
+ * dropped. Refreshes that change the items publish a {@link NinaPoliceChangedEvent} with the added,
+ * updated and removed items.
+ */
+@Slf4j
+@Component
+public class NinaPoliceIngester {
+
+  private final NinaPoliceFeedPort feedPort;
+  private final ApplicationEventPublisher eventPublisher;
+  private final FeedScheduler.Feed<List<NinaPoliceItem>> feed;
+
+  /** Current items by id. Guarded by {@code this}. */
+  private Map<String, NinaPoliceItem> byId = Map.of();
+
+  /** Item list the current state was built from; the adapter returns it again on a 304. */
+  private List<NinaPoliceItem> lastFeed;
+
+  /** Items last handed to the feed. Guarded by {@code this}. */
+  private List<NinaPoliceItem> published;
+
+  public NinaPoliceIngester(
+      NinaPoliceFeedPort feedPort,
+      ApplicationEventPublisher eventPublisher,
+      FeedScheduler feedScheduler,
+      ObjectMapper objectMapper) {
+    this.feedPort = feedPort;
+    this.eventPublisher = eventPublisher;
+    this.feed =
+        feedScheduler.register(
+            "nina-police",
+            FeedCodec.json(objectMapper, new TypeReference<List<NinaPoliceItem>>() {}),
+            this::refresh);
+    if (feed.getRefreshedAt() != null) {
+      synchronized (this) {
+        published = feed.get();
+        byId = Collections.unmodifiableMap(NinaPoliceDiff.byId(published));
+      }
+    }
+  }
+
+  /**
+   * Returns the current items.
+   *
+   * @return current items, {@code null} until the first refresh succeeded
+   */
+  public List<NinaPoliceItem> current() {
+    return feed.get();
+  }
+
+  synchronized List<NinaPoliceItem> refresh() {
+    List<NinaPoliceItem> items = feedPort.fetchFeedContent(byId);
+    if (items == lastFeed) {
+      log.debug("NINA police feed unchanged");
+      return published;
+    }
+    Map<String, NinaPoliceItem> next = Collections.unmodifiableMap(NinaPoliceDiff.byId(items));
+    NinaPoliceDiff diff = NinaPoliceDiff.between(byId, next);
+    byId = next;
+    lastFeed = items;
+    if (diff.isEmpty() && published != null) {
+      // Same items in a new response; keep the previous list so no new snapshot is stored
+      return published;
+    }
+    published = items;
+    if (diff.isEmpty()) {
+      return items;
+    }
+    log.info(
+        "NINA police warnings changed: {} added, {} updated, {} removed",
+        diff.added().size(),
+        diff.updated().size(),
+        diff.removed().size());
+    eventPublisher.publishEvent(new NinaPoliceChangedEvent(items, diff));
+    return items;
+  }
+}
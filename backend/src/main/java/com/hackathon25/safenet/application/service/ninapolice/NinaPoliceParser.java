@@ -1,37 +1,108 @@
 package com.hackathon25.safenet.application.service.ninapolice;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
+import java.util.Map;
+import java.util.Objects;
 
-@Slf4j
+/**
+ * Streaming parser for the NINA police {@code mapData.json}.
+ *
+ * <p>Every entry carries an {@code id} and a {@code version}. Entries whose id and version match an
+ * already known item are not materialized again: as soon as both fields have been read, the rest of
+ * the entry is skipped and the known instance is returned, so an unchanged feed yields the same
+ * item instances as the previous parse.
+ */
 public class NinaPoliceParser {
-  private static final ObjectMapper objectMapper = new ObjectMapper();
-
-  public static List<NinaPoliceItem> parsePoliceData(String jsonData) {
-    List<NinaPoliceItem> items = new ArrayList<>();
-    try {
-      JsonNode rootNode = objectMapper.readTree(jsonData);
-      if (rootNode.isArray()) {
-        for (JsonNode node : rootNode) {
-          NinaPoliceItem item =
-              NinaPoliceItem.builder()
-                  .id(node.path("id").asText())
-                  .version(node.path("version").asInt())
-                  .startDate(node.path("startDate").toString())
-                  .severity(node.path("severity").asText())
-                  .type(node.path("type").asText())
-                  .i18nTitleDe(node.path("i18nTitle").path("de").asText())
-                  .build();
-          items.add(item);
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private NinaPoliceParser() {}
+
+  /**
+   * Parses the feed.
+   *
+   * @param in feed JSON, an array of entries
+   * @param known items of the previous parse by id; reused when their version is unchanged
+   * @return items in feed order
+   * @throws IOException if the feed is not valid JSON
+   */
+  public static List<NinaPoliceItem> parsePoliceData(
+      InputStream in, Map<String, NinaPoliceItem> known) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        return List.of();
+      }
+      List<NinaPoliceItem> items = new ArrayList<>();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+        if (token == JsonToken.START_OBJECT) {
+          items.add(readItem(parser, known));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return items;
+    }
+  }
+
+  private static NinaPoliceItem readItem(JsonParser parser, Map<String, NinaPoliceItem> known)
+      throws IOException {
+    NinaPoliceItem.NinaPoliceItemBuilder builder = NinaPoliceItem.builder();
+    String id = null;
+    Integer version = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "id" -> id = parser.getValueAsString();
+        case "version" -> version = parser.getValueAsInt();
+        case "startDate" -> builder.startDate(parser.getValueAsString());
+        case "severity" -> builder.severity(parser.getValueAsString());
+        case "type" -> builder.type(parser.getValueAsString());
+        case "i18nTitle" -> builder.i18nTitleDe(readGermanTitle(parser));
+        default -> parser.skipChildren();
+      }
+      if (id != null && version != null) {
+        NinaPoliceItem previous = known.get(id);
+        if (previous != null && Objects.equals(previous.getVersion(), version)) {
+          skipRemainingFields(parser);
+          return previous;
         }
       }
-    } catch (Exception e) {
-      log.error("Error parsing NINA police data", e);
     }
-    return items;
+    return builder.id(id).version(version != null ? version : 0).build();
+  }
+
+  private static String readGermanTitle(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    String title = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String language = parser.currentName();
+      parser.nextToken();
+      if (language.equals("de")) {
+        title = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return title;
+  }
+
+  /** Advances to the end of the current object. */
+  private static void skipRemainingFields(JsonParser parser) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
   }
 }
@@ -1,11 +1,11 @@
 package com.hackathon25.safenet.application.service.ninapolice;
 
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
 import com.hackathon25.safenet.domain.port.inbound.NinaPolicePort;
-import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,11 +14,20 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class NinaPoliceService implements NinaPolicePort {
-    private final NinaPoliceFeedPort ninaPoliceFeedPort;
+    private final NinaPoliceIngester ninaPoliceIngester;
+    private final NinaPoliceDetailIngester ninaPoliceDetailIngester;
 
     @Override
-    @Cacheable(value = "ninaPoliceCache")
     public List<NinaPoliceItem> getNinaPoliceData() {
-        return ninaPoliceFeedPort.fetchFeedContent();
+        List<NinaPoliceItem> items = ninaPoliceIngester.current();
+        if (items == null) {
+            throw new FeedNotReadyException("nina-police");
+        }
+        return items;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<NinaPoliceDetail> getNinaPoliceWarningsNearby(double lat, double lon, double radiusKm) {
+        return ninaPoliceDetailIngester.current().findNearby(lat, lon, radiusKm);
+    }
+}
@@ -1,22 +1,33 @@
 package com.hackathon25.safenet.application.service.notfalltipps;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
 import com.hackathon25.safenet.domain.model.notfalltipps.NotfalltippsRoot;
 import com.hackathon25.safenet.domain.port.inbound.NotfalltippsPort;
 import com.hackathon25.safenet.domain.port.outbound.NotfalltippsFeedPort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotfalltippsService implements NotfalltippsPort {
-    private final NotfalltippsFeedPort notfalltippsFeedPort;
+  private final FeedScheduler.Feed<NotfalltippsRoot> feed;
 
-    @Override
-    @Cacheable(value = "notfalltippsCache")
-    public NotfalltippsRoot getNotfalltipps() {
-        return notfalltippsFeedPort.fetchFeedContent();
-    }
-}
\ No newline at end of file
+  public NotfalltippsService(
+      NotfalltippsFeedPort notfalltippsFeedPort,
+      FeedScheduler feedScheduler,
+      ObjectMapper objectMapper) {
+    this.feed =
+        feedScheduler.register(
+            "notfalltipps",
+            FeedCodec.json(objectMapper, new TypeReference<NotfalltippsRoot>() {}),
+            notfalltippsFeedPort::fetchFeedContent);
+  }
+
+  @Override
+  public NotfalltippsRoot getNotfalltipps() {
+    return feed.require();
+  }
+}
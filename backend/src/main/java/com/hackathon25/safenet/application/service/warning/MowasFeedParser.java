@@ -0,0 +1,230 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming parser for the MoWaS {@code gefahrendurchsagen.json} feed.
+ *
+ * <p>The feed is read token by token from the response stream; no tree and no intermediate {@code
+ * String} of the body is built. Only the fields the domain needs are materialized, everything else
+ * is skipped. Polygon strings ({@code "lon,lat lon,lat ..."}) are scanned straight out of the
+ * parser's character buffer into the {@link PolygonGeometry} builder, without splitting them into
+ * substrings.
+ */
+@Slf4j
+public class MowasFeedParser {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /** Significant digits that always fit a double exactly, so the fast path stays exact. */
+  private static final int MAX_FAST_DIGITS = 15;
+
+  /** Powers of ten that are exactly representable as doubles. */
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  public static List<Warning> parse(InputStream input) throws IOException {
+    List<Warning> warnings = new ArrayList<>();
+    try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IOException("Expected MoWaS feed to be a JSON array");
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        warnings.add(parseAlert(parser));
+      }
+    }
+    return warnings;
+  }
+
+  private static Warning parseAlert(JsonParser parser) throws IOException {
+    Warning warning = new Warning();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("identifier".equals(field)) {
+        warning.setId(parser.getValueAsString());
+      } else if ("info".equals(field) && value == JsonToken.START_ARRAY) {
+        parseInfos(parser, warning);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (warning.getPolygon() == null) {
+      warning.setPolygon(PolygonGeometry.empty());
+    }
+    return warning;
+  }
+
+  /** Reads the first info block, like the previous tree-based mapping did, and skips the rest. */
+  private static void parseInfos(JsonParser parser, Warning warning) throws IOException {
+    boolean first = true;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+        parseInfo(parser, warning);
+        first = false;
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static void parseInfo(JsonParser parser, Warning warning) throws IOException {
+    PolygonGeometry.Builder polygon = PolygonGeometry.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "headline" -> warning.setTitle(parser.getValueAsString());
+        case "description" -> warning.setDescription(parser.getValueAsString());
+        case "severity" -> warning.setSeverity(parser.getValueAsString());
+        case "area" -> {
+          if (value == JsonToken.START_ARRAY) {
+            parseAreas(parser, polygon);
+          } else {
+            parser.skipChildren();
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    warning.setPolygon(polygon.build());
+  }
+
+  private static void parseAreas(JsonParser parser, PolygonGeometry.Builder polygon)
+      throws IOException {
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("polygon".equals(field) && value == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+              polygon.beginRing();
+              scanRing(
+                  parser.getTextCharacters(),
+                  parser.getTextOffset(),
+                  parser.getTextLength(),
+                  polygon);
+              polygon.endRing();
+            } else {
+              parser.skipChildren();
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  /**
+   * Scans a CAP polygon string of whitespace separated {@code lon,lat} pairs into the builder.
+   * Malformed pairs are skipped.
+   */
+  static void scanRing(char[] buf, int offset, int length, PolygonGeometry.Builder polygon) {
+    int end = offset + length;
+    int pos = offset;
+    double[] number = new double[1];
+    while (pos < end) {
+      while (pos < end && Character.isWhitespace(buf[pos])) {
+        pos++;
+      }
+      if (pos == end) {
+        break;
+      }
+      int next = scanNumber(buf, pos, end, number);
+      double lon = number[0];
+      if (next > pos && next < end && buf[next] == ',') {
+        int afterLat = scanNumber(buf, next + 1, end, number);
+        if (afterLat > next + 1 && (afterLat == end || Character.isWhitespace(buf[afterLat]))) {
+          polygon.addPoint(lon, number[0]);
+          pos = afterLat;
+          continue;
+        }
+      }
+      log.debug("Skipping malformed MoWaS polygon coordinate at offset {}", pos - offset);
+      while (pos < end && !Character.isWhitespace(buf[pos])) {
+        pos++;
+      }
+    }
+  }
+
+  /**
+   * Scans a decimal number starting at {@code pos}.
+   *
+   * <p>Plain decimals with up to 15 significant digits take a fast path that accumulates the digits
+   * into a {@code long} and divides once by a power of ten. Both operands are then exact doubles
+   * (below 2^53 and at most 10^22), so the single division is correctly rounded. Anything else
+   * (exponents, more digits) falls back to {@link Double#parseDouble}.
+   *
+   * @return the position after the number, or {@code pos} if no number was found
+   */
+  static int scanNumber(char[] buf, int pos, int end, double[] out) {
+    int start = pos;
+    boolean negative = false;
+    if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+      negative = buf[pos] == '-';
+      pos++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = 0;
+    boolean seenDigit = false;
+    boolean seenDot = false;
+    for (; pos < end; pos++) {
+      char c = buf[pos];
+      if (c >= '0' && c <= '9') {
+        seenDigit = true;
+        if (digits == MAX_FAST_DIGITS || fractionDigits == POW10.length - 1) {
+          return slowScan(buf, start, end, out);
+        }
+        mantissa = mantissa * 10 + (c - '0');
+        if (mantissa > 0) {
+          digits++;
+        }
+        if (seenDot) {
+          fractionDigits++;
+        }
+      } else if (c == '.' && !seenDot) {
+        seenDot = true;
+      } else if (c == 'e' || c == 'E') {
+        return slowScan(buf, start, end, out);
+      } else {
+        break;
+      }
+    }
+    if (!seenDigit) {
+      return start;
+    }
+    double value = mantissa / POW10[fractionDigits];
+    out[0] = negative ? -value : value;
+    return pos;
+  }
+
+  private static int slowScan(char[] buf, int start, int end, double[] out) {
+    int pos = start;
+    while (pos < end && buf[pos] != ',' && !Character.isWhitespace(buf[pos])) {
+      pos++;
+    }
+    try {
+      out[0] = Double.parseDouble(new String(buf, start, pos - start));
+      return pos;
+    } catch (NumberFormatException e) {
+      return start;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningChangelog;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningChanges;
+import com.hackathon25.safenet.domain.port.inbound.WarningChangesPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records every {@link WarningsChangedEvent} in a bounded {@link WarningChangelog} so polling
+ * clients can fetch only what changed since their last sequence number. Nothing is served until the
+ * {@link WarningIngester} has a first snapshot, so clients never sync to an empty warning set.
+ */
+@Slf4j
+@Service
+public class WarningChangelogService implements WarningChangesPort {
+
+  private final WarningIngester warningIngester;
+  private final WarningChangelog changelog;
+
+  public WarningChangelogService(
+      WarningIngester warningIngester, ApplicationProperties applicationProperties) {
+    this.warningIngester = warningIngester;
+    this.changelog =
+        new WarningChangelog(
+            applicationProperties.getWarnings().getChangelogCapacity(), System.currentTimeMillis());
+  }
+
+  @EventListener
+  public synchronized void onWarningsChanged(WarningsChangedEvent event) {
+    changelog.record(event.snapshot(), event.diff());
+    log.debug("Recorded warning changes as sequence {}", changelog.getSequence());
+  }
+
+  @Override
+  public WarningChanges getChangesSince(Long since) {
+    // Outside the lock: the first refresh records its changes while a reader may wait for it.
+    warningIngester.current();
+    synchronized (this) {
+      return changelog.changesSince(since);
+    }
+  }
+}
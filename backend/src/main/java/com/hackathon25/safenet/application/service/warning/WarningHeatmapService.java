@@ -0,0 +1,93 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.HeatmapCells;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.HeatmapGrid;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningDiff;
+import com.hackathon25.safenet.domain.port.inbound.WarningHeatmapPort;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the server-side warning heatmap.
+ *
+ * <p>Every warning contributes its severity weight to the grid cells its polygon covers. The cells
+ * of each warning are remembered, so a {@link WarningsChangedEvent} only rasterizes added and
+ * updated warnings and subtracts the contributions of removed ones; the grid pyramid is then
+ * rebuilt from the accumulated intensities and swapped in for readers. Until the {@link
+ * WarningIngester} has a first snapshot there is no heatmap to serve, rather than an empty one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarningHeatmapService implements WarningHeatmapPort {
+
+  private final WarningIngester warningIngester;
+
+  private final Map<String, Contribution> contributions = new HashMap<>();
+  private final double[] intensities = new double[HeatmapGrid.CELL_COUNT];
+  private volatile HeatmapGrid grid = HeatmapGrid.empty();
+
+  @EventListener
+  public synchronized void onWarningsChanged(WarningsChangedEvent event) {
+    long start = System.nanoTime();
+    WarningDiff diff = event.diff();
+    for (Warning warning : diff.removed()) {
+      subtract(contributions.remove(warning.getId()));
+    }
+    for (Warning warning : diff.updated()) {
+      Contribution previous = contributions.remove(warning.getId());
+      subtract(previous);
+      add(warning, previous);
+    }
+    for (Warning warning : diff.added()) {
+      subtract(contributions.remove(warning.getId()));
+      add(warning, null);
+    }
+    grid = HeatmapGrid.of(intensities, event.snapshot().getFetchedAt());
+    log.debug(
+        "Updated warning heatmap with {} warnings in {} ms",
+        contributions.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  @Override
+  public HeatmapCells getHeatmap(BoundingBox bounds, int zoom) {
+    // Fails until there is a first snapshot, which an empty grid would look like an all-clear.
+    warningIngester.current();
+    return grid.query(bounds, HeatmapGrid.precisionForZoom(zoom));
+  }
+
+  /** Rasterizes the warning, reusing the previous cells if only its attributes changed. */
+  private void add(Warning warning, Contribution previous) {
+    if (warning.getPolygon() == null) {
+      return;
+    }
+    int[] cells =
+        previous != null && previous.polygon().equals(warning.getPolygon())
+            ? previous.cells()
+            : HeatmapGrid.rasterize(warning.getPolygon());
+    float weight = HeatmapGrid.severityWeight(warning.getSeverity());
+    for (int cell : cells) {
+      intensities[cell] += weight;
+    }
+    contributions.put(warning.getId(), new Contribution(warning.getPolygon(), cells, weight));
+  }
+
+  private void subtract(Contribution contribution) {
+    if (contribution == null) {
+      return;
+    }
+    for (int cell : contribution.cells()) {
+      intensities[cell] -= contribution.weight();
+    }
+  }
+
+  private record Contribution(PolygonGeometry polygon, int[] cells, float weight) {}
+}
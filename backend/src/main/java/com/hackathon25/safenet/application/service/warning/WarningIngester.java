@@ -0,0 +1,111 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningDiff;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningSnapshot;
+import com.hackathon25.safenet.domain.port.outbound.WarningFeedPort;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the current MoWaS warning snapshot up to date.
+ *
+ * <p>The feed is fetched and indexed by the {@link FeedScheduler} instead of per request, so every
+ * {@code GET /api/v1/warnings} is served from memory. A failed refresh keeps the previous snapshot;
+ * until there is a first snapshot, readers get a {@link FeedNotReadyException} rather than an empty
+ * warning list.
+ *
+ * <p>Refreshes that change the warning set publish a {@link WarningsChangedEvent} with the diff
+ * against the previous snapshot, so derived views can update incrementally.
+ *
+ * <p>The snapshot is persisted after every change. After a restart the stored snapshot is served
+ * right away and announced to the derived views once the application is ready, before the first
+ * refresh has reached MoWaS.
+ */
+@Slf4j
+@Component
+public class WarningIngester {
+
+  private final WarningFeedPort warningFeedPort;
+  private final ApplicationEventPublisher eventPublisher;
+  private final FeedScheduler.Feed<WarningSnapshot> feed;
+
+  /** Feed list the current snapshot was built from; the adapter returns it again on a 304. */
+  private volatile List<Warning> lastFeed;
+
+  /**
+   * Snapshot the last published event brought listeners to, and the one the last refresh returned.
+   * Guarded by {@code this}.
+   */
+  private WarningSnapshot announced = WarningSnapshot.empty();
+
+  public WarningIngester(
+      WarningFeedPort warningFeedPort,
+      ApplicationEventPublisher eventPublisher,
+      FeedScheduler feedScheduler) {
+    this.warningFeedPort = warningFeedPort;
+    this.eventPublisher = eventPublisher;
+    this.feed = feedScheduler.register("warnings", new WarningSnapshotCodec(), this::refresh);
+    if (feed.getRefreshedAt() != null) {
+      log.info("Serving {} MoWaS warnings restored from snapshot", feed.get().size());
+    }
+  }
+
+  /** Brings derived views up to a snapshot restored at startup, unless a refresh already did. */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void announceRestored() {
+    if (feed.getRefreshedAt() != null) {
+      announce(feed.get());
+    }
+  }
+
+  /** Fetches the feed and atomically swaps in a freshly indexed snapshot. */
+  synchronized WarningSnapshot refresh() {
+    try {
+      List<Warning> warnings = warningFeedPort.fetchWarnings();
+      if (warnings == lastFeed) {
+        log.debug("MoWaS feed unchanged, keeping current snapshot");
+        return announced;
+      }
+      WarningSnapshot next = WarningSnapshot.of(warnings, Instant.now());
+      lastFeed = warnings;
+      log.info("Refreshed MoWaS warning snapshot with {} warnings", next.size());
+      announce(next);
+      return next;
+    } catch (Exception e) {
+      log.error(
+          "Failed to refresh MoWaS warnings, keeping snapshot from {}", feed.getRefreshedAt(), e);
+      return null;
+    }
+  }
+
+  private void announce(WarningSnapshot next) {
+    WarningDiff diff = WarningDiff.between(announced, next);
+    announced = next;
+    if (!diff.isEmpty()) {
+      log.info(
+          "MoWaS warnings changed: {} added, {} updated, {} removed",
+          diff.added().size(),
+          diff.updated().size(),
+          diff.removed().size());
+      eventPublisher.publishEvent(new WarningsChangedEvent(next, diff));
+    }
+  }
+
+  /**
+   * Returns the most recent successfully ingested snapshot.
+   *
+   * @return current snapshot
+   * @throws FeedNotReadyException until the first refresh succeeded or a snapshot was restored
+   */
+  public WarningSnapshot current() {
+    return feed.require();
+  }
+}
@@ -2,7 +2,6 @@ package com.hackathon25.safenet.application.service.warning;
 
 import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
 import com.hackathon25.safenet.domain.port.inbound.WarningPort;
-import com.hackathon25.safenet.domain.port.outbound.WarningFeedPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,19 +13,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WarningService implements WarningPort {
 
-    private final WarningFeedPort warningFeedPort;
+    private final WarningIngester warningIngester;
 
     @Override
     public List<Warning> getWarningsNearby(double lat, double lon, double radiusKm) {
-        log.info("Fetching warnings for location: lat={}, lon={}, radius={}km", lat, lon, radiusKm);
+        log.debug("Querying warnings for location: lat={}, lon={}, radius={}km", lat, lon, radiusKm);
 
-        try {
-            List<Warning> warnings = warningFeedPort.getWarningsNearby(lat, lon, radiusKm);
-            log.info("Found {} warnings", warnings.size());
-            return warnings;
-        } catch (Exception e) {
-            log.error("Error fetching warnings", e);
-            throw new RuntimeException("Failed to fetch warnings", e);
-        }
+        List<Warning> warnings = warningIngester.current().findNearby(lat, lon, radiusKm);
+        log.debug("Found {} warnings", warnings.size());
+        return warnings;
     }
-}
\ No newline at end of file
+}
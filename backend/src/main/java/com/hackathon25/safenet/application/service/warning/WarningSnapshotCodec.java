@@ -0,0 +1,119 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningSnapshot;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary {@link FeedCodec} for the warning snapshot.
+ *
+ * <p>Polygons make up most of the feed, so vertices are written as fixed-point integers at the
+ * resolution {@link PolygonGeometry} stores them in, 8 bytes per vertex. The spatial index is not
+ * stored; it is rebuilt by {@link WarningSnapshot#of} when reading.
+ */
+class WarningSnapshotCodec implements FeedCodec<WarningSnapshot> {
+
+  /** Fixed-point units per degree, matching {@link PolygonGeometry}. */
+  private static final double UNITS_PER_DEGREE = 1e7;
+
+  @Override
+  public void write(WarningSnapshot snapshot, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeLong(snapshot.getFetchedAt().toEpochMilli());
+    data.writeInt(snapshot.size());
+    for (Warning warning : snapshot.getWarnings()) {
+      writeString(data, warning.getId());
+      writeString(data, warning.getTitle());
+      writeString(data, warning.getDescription());
+      writeString(data, warning.getSeverity());
+      writePolygon(data, warning.getPolygon());
+    }
+    data.flush();
+  }
+
+  @Override
+  public WarningSnapshot read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    Instant fetchedAt = Instant.ofEpochMilli(data.readLong());
+    int count = data.readInt();
+    List<Warning> warnings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      warnings.add(
+          Warning.builder()
+              .id(readString(data))
+              .title(readString(data))
+              .description(readString(data))
+              .severity(readString(data))
+              .polygon(readPolygon(data))
+              .build());
+    }
+    return WarningSnapshot.of(warnings, fetchedAt);
+  }
+
+  private static void writeString(DataOutputStream data, String value) throws IOException {
+    if (value == null) {
+      data.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    data.writeInt(bytes.length);
+    data.write(bytes);
+  }
+
+  private static String readString(DataInputStream data) throws IOException {
+    int length = data.readInt();
+    if (length < 0) {
+      return null;
+    }
+    return new String(data.readNBytes(length), StandardCharsets.UTF_8);
+  }
+
+  /** Ring count ({@code -1} for no polygon), then point count and vertices per ring. */
+  private static void writePolygon(DataOutputStream data, PolygonGeometry polygon)
+      throws IOException {
+    if (polygon == null) {
+      data.writeInt(-1);
+      return;
+    }
+    data.writeInt(polygon.ringCount());
+    for (int ring = 0; ring < polygon.ringCount(); ring++) {
+      int start = polygon.ringStart(ring);
+      int end = polygon.ringEnd(ring);
+      data.writeInt(end - start);
+      for (int i = start; i < end; i++) {
+        data.writeInt((int) Math.round(polygon.lat(i) * UNITS_PER_DEGREE));
+        data.writeInt((int) Math.round(polygon.lon(i) * UNITS_PER_DEGREE));
+      }
+    }
+  }
+
+  private static PolygonGeometry readPolygon(DataInputStream data) throws IOException {
+    int rings = data.readInt();
+    if (rings < 0) {
+      return null;
+    }
+    PolygonGeometry.Builder builder = PolygonGeometry.builder();
+    for (int ring = 0; ring < rings; ring++) {
+      builder.beginRing();
+      int points = data.readInt();
+      for (int i = 0; i < points; i++) {
+        double lat = data.readInt() / UNITS_PER_DEGREE;
+        double lon = data.readInt() / UNITS_PER_DEGREE;
+        builder.addPoint(lon, lat);
+      }
+    }
+    return builder.build();
+  }
+}
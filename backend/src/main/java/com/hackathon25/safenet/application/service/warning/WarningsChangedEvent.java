@@ -0,0 +1,12 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningDiff;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningSnapshot;
+
+/**
+ * Published by the {@link WarningIngester} after a refresh that changed the warning set.
+ *
+ * @param snapshot the snapshot that is now current
+ * @param diff changes relative to the previous snapshot
+ */
+public record WarningsChangedEvent(WarningSnapshot snapshot, WarningDiff diff) {}
@@ -0,0 +1,25 @@
+package com.hackathon25.safenet.domain.exception.meteoalarm;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when MeteoAlarm alerts are requested for a location but no region outlines are
+ * loaded, so the alerts cannot be matched to the location.
+ *
+ * <p>Unlike a feed that is still loading this does not resolve itself: the region table is read
+ * once at startup from {@code safenet.meteo-alarm.regions-file}.
+ *
+ * @author SafeNet Development Team
+ * @since 1.0.0
+ */
+@Getter
+public class MeteoAlarmRegionsUnavailableException extends RuntimeException {
+
+  private final String errorCode;
+
+  /** Constructs a new MeteoAlarm regions unavailable exception. */
+  public MeteoAlarmRegionsUnavailableException() {
+    super("No MeteoAlarm region outlines are loaded, alerts cannot be located");
+    this.errorCode = "error.meteoalarm.regions-unavailable";
+  }
+}
@@ -0,0 +1,30 @@
+package com.hackathon25.safenet.domain.exception.upstream;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a call to an upstream service is rejected because the bulkhead of that
+ * upstream has no free permit.
+ *
+ * <p>The call was never sent, so retrying later is safe.
+ *
+ * @author SafeNet Development Team
+ * @since 1.0.0
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+  private final String errorCode;
+  private final String upstream;
+
+  /**
+   * Constructs a new bulkhead full exception.
+   *
+   * @param upstream name of the upstream whose bulkhead is saturated, usually its host
+   */
+  public BulkheadFullException(String upstream) {
+    super("Too many concurrent calls to " + upstream + ", call rejected");
+    this.errorCode = "error.upstream.busy";
+    this.upstream = upstream;
+  }
+}
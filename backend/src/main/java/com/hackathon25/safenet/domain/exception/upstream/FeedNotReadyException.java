@@ -0,0 +1,30 @@
+package com.hackathon25.safenet.domain.exception.upstream;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when data from an upstream feed is requested before its first load succeeded and
+ * no snapshot could be restored.
+ *
+ * <p>The feed keeps retrying in the background, so retrying later is safe.
+ *
+ * @author SafeNet Development Team
+ * @since 1.0.0
+ */
+@Getter
+public class FeedNotReadyException extends RuntimeException {
+
+  private final String errorCode;
+  private final String feed;
+
+  /**
+   * Constructs a new feed not ready exception.
+   *
+   * @param feed name of the feed that has no data yet
+   */
+  public FeedNotReadyException(String feed) {
+    super("Data of feed " + feed + " is not available yet");
+    this.errorCode = "error.upstream.not-ready";
+    this.feed = feed;
+  }
+}
@@ -0,0 +1,237 @@
+package com.hackathon25.safenet.domain.model.autobahn;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.GeoMath;
+import com.hackathon25.safenet.domain.model.geo.SpatialIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the closures on all Autobahns.
+ *
+ * <p>The location of every closure, its GeoJSON {@code geometry} line and its {@code coordinate}
+ * point, is parsed once and indexed by its bounding box in a {@link SpatialIndex}, so {@link #near}
+ * only measures the distance to candidates around the query point. Closures without a parseable
+ * location are still served by {@link #forRoad}.
+ */
+public final class AutobahnClosureIndex {
+
+  private static final AutobahnClosureIndex EMPTY = of(Map.of());
+
+  private final Map<String, List<AutobahnClosureItem>> byRoad;
+  private final SpatialIndex<LocatedClosure> index;
+
+  private AutobahnClosureIndex(
+      Map<String, List<AutobahnClosureItem>> byRoad, SpatialIndex<LocatedClosure> index) {
+    this.byRoad = byRoad;
+    this.index = index;
+  }
+
+  public static AutobahnClosureIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds the index.
+   *
+   * @param byRoad closures per Autobahn identifier, in the order the roads should be reported
+   */
+  public static AutobahnClosureIndex of(Map<String, List<AutobahnClosureItem>> byRoad) {
+    Map<String, List<AutobahnClosureItem>> copy = new LinkedHashMap<>();
+    List<LocatedClosure> located = new ArrayList<>();
+    byRoad.forEach(
+        (road, closures) -> {
+          copy.put(road, List.copyOf(closures));
+          for (AutobahnClosureItem closure : closures) {
+            LocatedClosure location = locate(closure);
+            if (location != null) {
+              located.add(location);
+            }
+          }
+        });
+    return new AutobahnClosureIndex(
+        Collections.unmodifiableMap(copy), SpatialIndex.build(located, LocatedClosure::bounds));
+  }
+
+  /** Closures reported for one Autobahn, empty if the road is unknown. */
+  public List<AutobahnClosureItem> forRoad(String roadId) {
+    return byRoad.getOrDefault(roadId, List.of());
+  }
+
+  /**
+   * Finds all closures whose location lies within the radius.
+   *
+   * <p>The distance is measured to the closure's line and its coordinate point, whichever is
+   * nearer, in a local flat projection around the query point; that is accurate to well under a
+   * percent for the radii of a few dozen kilometres this is used with.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return matching closures ordered by distance, each closure once even if it is listed for
+   *     several roads
+   */
+  public List<AutobahnClosureItem> near(double lat, double lon, double radiusKm) {
+    List<Candidate> matches = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    index.query(
+        BoundingBox.around(lat, lon, radiusKm),
+        candidate -> {
+          double distance = candidate.distanceKm(lat, lon);
+          String id = candidate.closure().getIdentifier();
+          if (distance <= radiusKm && (id == null || seen.add(id))) {
+            matches.add(new Candidate(candidate.closure(), distance));
+          }
+        });
+    matches.sort(Comparator.comparingDouble(Candidate::distanceKm));
+    return matches.stream().map(Candidate::closure).toList();
+  }
+
+  /** All closures per road, e.g. for persisting the index. */
+  public Map<String, List<AutobahnClosureItem>> getByRoad() {
+    return byRoad;
+  }
+
+  public int size() {
+    return byRoad.values().stream().mapToInt(List::size).sum();
+  }
+
+  /**
+   * Reads the closure's location: the {@code geometry} line, whose positions are {@code [lon, lat]}
+   * in GeoJSON order, and the {@code coordinate} point by its {@code lat}/{@code long} fields. The
+   * {@code extent} string is not used, as it does not say which number is which.
+   *
+   * @return the location, or {@code null} if the closure has neither
+   */
+  static LocatedClosure locate(AutobahnClosureItem closure) {
+    double[] line = line(closure.getGeometry());
+    double pointLat = Double.NaN;
+    double pointLon = Double.NaN;
+    AutobahnClosureItem.Coordinate coordinate = closure.getCoordinate();
+    if (coordinate != null) {
+      pointLat = parse(coordinate.getLat());
+      pointLon = parse(coordinate.getLng());
+      if (!valid(pointLat, pointLon)) {
+        pointLat = pointLon = Double.NaN;
+      }
+    }
+    double minLat = Double.POSITIVE_INFINITY;
+    double minLon = Double.POSITIVE_INFINITY;
+    double maxLat = Double.NEGATIVE_INFINITY;
+    double maxLon = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < line.length; i += 2) {
+      minLon = Math.min(minLon, line[i]);
+      maxLon = Math.max(maxLon, line[i]);
+      minLat = Math.min(minLat, line[i + 1]);
+      maxLat = Math.max(maxLat, line[i + 1]);
+    }
+    if (!Double.isNaN(pointLat)) {
+      minLat = Math.min(minLat, pointLat);
+      maxLat = Math.max(maxLat, pointLat);
+      minLon = Math.min(minLon, pointLon);
+      maxLon = Math.max(maxLon, pointLon);
+    }
+    if (minLat > maxLat) {
+      return null;
+    }
+    return new LocatedClosure(
+        closure, new BoundingBox(minLat, minLon, maxLat, maxLon), line, pointLat, pointLon);
+  }
+
+  /**
+   * Returns the positions of the geometry, {@code [lon0, lat0, lon1, lat1, ...]}. The parsed array
+   * is used as is; only a line with positions out of range is copied without them.
+   */
+  private static double[] line(AutobahnClosureItem.Geometry geometry) {
+    double[] positions = geometry != null ? geometry.getCoordinates() : null;
+    if (positions == null) {
+      return new double[0];
+    }
+    int length = positions.length & ~1;
+    boolean allValid = length == positions.length;
+    for (int i = 0; i < length && allValid; i += 2) {
+      allValid = valid(positions[i + 1], positions[i]);
+    }
+    if (allValid) {
+      return positions;
+    }
+    double[] line = new double[length];
+    int kept = 0;
+    for (int i = 0; i < length; i += 2) {
+      if (valid(positions[i + 1], positions[i])) {
+        line[kept++] = positions[i];
+        line[kept++] = positions[i + 1];
+      }
+    }
+    return Arrays.copyOf(line, kept);
+  }
+
+  private static boolean valid(double lat, double lon) {
+    return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+  }
+
+  private static double parse(String value) {
+    if (value == null) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+
+  /**
+   * A closure with its parsed location.
+   *
+   * @param line positions of the geometry as {@code [lon0, lat0, lon1, lat1, ...]}, may be empty
+   * @param pointLat latitude of the coordinate point, {@code NaN} if there is none
+   * @param pointLon longitude of the coordinate point, {@code NaN} if there is none
+   */
+  record LocatedClosure(
+      AutobahnClosureItem closure,
+      BoundingBox bounds,
+      double[] line,
+      double pointLat,
+      double pointLon) {
+
+    /** Distance in kilometres to the nearest point of the line or the coordinate point. */
+    double distanceKm(double lat, double lon) {
+      // Flat projection in kilometres, centred on the query point.
+      double kmPerLon = GeoMath.KM_PER_DEGREE * Math.cos(Math.toRadians(lat));
+      double best = Double.POSITIVE_INFINITY;
+      if (!Double.isNaN(pointLat)) {
+        best = Math.hypot((pointLat - lat) * GeoMath.KM_PER_DEGREE, (pointLon - lon) * kmPerLon);
+      }
+      double prevY = 0;
+      double prevX = 0;
+      for (int i = 0; i < line.length; i += 2) {
+        double x = (line[i] - lon) * kmPerLon;
+        double y = (line[i + 1] - lat) * GeoMath.KM_PER_DEGREE;
+        best = Math.min(best, i == 0 ? Math.hypot(x, y) : segmentDistance(prevX, prevY, x, y));
+        prevX = x;
+        prevY = y;
+      }
+      return best;
+    }
+
+    /** Distance from the origin to the segment between the two points. */
+    private static double segmentDistance(double x1, double y1, double x2, double y2) {
+      double dx = x2 - x1;
+      double dy = y2 - y1;
+      double lengthSquared = dx * dx + dy * dy;
+      double t = lengthSquared == 0 ? 0 : -(x1 * dx + y1 * dy) / lengthSquared;
+      t = Math.max(0, Math.min(1, t));
+      return Math.hypot(x1 + t * dx, y1 + t * dy);
+    }
+  }
+
+  private record Candidate(AutobahnClosureItem closure, double distanceKm) {}
+}
@@ -3,40 +3,62 @@ package com.hackathon25.safenet.domain.model.autobahn;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+/**
+ * One closure as reported by the Autobahn API. Immutable, so parsed instances can be shared by the
+ * index, the snapshot and every response without copying.
+ */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
 public class AutobahnClosureItem {
-  private String identifier;
-  private String title;
-  private String subtitle;
-  private String extent;
-  private String point;
-  private String icon;
-  private String displayType;
-  private Boolean isBlocked;
-  private Boolean future;
-  private List<String> description;
-  private List<String> routeRecommendation;
-  private List<String> footer;
-  private List<String> lorryParkingFeatureIcons;
-  private Coordinate coordinate;
+  String identifier;
+
+  /** Autobahn the closure was reported for, e.g. {@code A1}. */
+  String roadId;
+
+  String title;
+  String subtitle;
+  String extent;
+  String point;
+  String icon;
+  String displayType;
+  Boolean isBlocked;
+  Boolean future;
+  List<String> description;
+  List<String> routeRecommendation;
+  List<String> footer;
+  List<String> lorryParkingFeatureIcons;
+  Coordinate coordinate;
 
   @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-  private LocalDateTime startTimestamp;
+  LocalDateTime startTimestamp;
 
-  @Data
+  /** Course of the closure; {@code null} if the API sent none or a shape other than a line. */
+  Geometry geometry;
+
+  @Value
   @Builder
-  @NoArgsConstructor
-  @AllArgsConstructor
+  @Jacksonized
   public static class Coordinate {
-    private String lat;
-    private String lng;
+    String lat;
+    String lng;
+  }
+
+  /** GeoJSON {@code LineString} or {@code Point} of a closure. */
+  @Value
+  @Builder
+  @Jacksonized
+  public static class Geometry {
+    String type;
+
+    /**
+     * Positions flattened in GeoJSON order, {@code [lon0, lat0, lon1, lat1, ...]}; a single
+     * position for a point. Shared with the index without copying, so it must not be modified.
+     */
+    double[] coordinates;
   }
 }
@@ -0,0 +1,58 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+/**
+ * Immutable axis-aligned bounding box in WGS84 degrees.
+ *
+ * <p>Used as the envelope type of the {@link SpatialIndex} and as a cheap prefilter before exact
+ * geometry checks. A query box may extend past the antimeridian, e.g. {@code maxLon} 180.5; it then
+ * also intersects boxes on the other side of it.
+ */
+public record BoundingBox(double minLat, double minLon, double maxLat, double maxLon) {
+
+  /**
+   * Creates a box that contains every point within {@code radiusKm} of the given location.
+   *
+   * <p>Near the antimeridian the box extends past ±180 degrees rather than wrapping. A circle that
+   * reaches a pole covers every longitude there, so its box spans all of them.
+   *
+   * @param lat latitude of the center in degrees
+   * @param lon longitude of the center in degrees
+   * @param radiusKm radius in kilometres
+   * @return enclosing bounding box
+   */
+  public static BoundingBox around(double lat, double lon, double radiusKm) {
+    double dLat = radiusKm / GeoMath.KM_PER_DEGREE;
+    double minLat = lat - dLat;
+    double maxLat = lat + dLat;
+    if (minLat <= -90 || maxLat >= 90) {
+      return new BoundingBox(Math.max(minLat, -90), -180, Math.min(maxLat, 90), 180);
+    }
+    // Use the latitude edge closest to the pole so the box never undershoots the circle.
+    double edgeLat = Math.abs(lat) + dLat;
+    double dLon = radiusKm / (GeoMath.KM_PER_DEGREE * Math.cos(Math.toRadians(edgeLat)));
+    if (dLon >= 180) {
+      return new BoundingBox(minLat, -180, maxLat, 180);
+    }
+    return new BoundingBox(minLat, lon - dLon, maxLat, lon + dLon);
+  }
+
+  public boolean intersects(BoundingBox other) {
+    return intersects(other.minLat, other.minLon, other.maxLat, other.maxLon);
+  }
+
+  public boolean intersects(double oMinLat, double oMinLon, double oMaxLat, double oMaxLon) {
+    if (minLat > oMaxLat || maxLat < oMinLat) {
+      return false;
+    }
+    if (minLon <= oMaxLon && maxLon >= oMinLon) {
+      return true;
+    }
+    // The part of this box past the antimeridian, shifted to the other side.
+    return (maxLon > 180 && minLon - 360 <= oMaxLon && maxLon - 360 >= oMinLon)
+        || (minLon < -180 && minLon + 360 <= oMaxLon && maxLon + 360 >= oMinLon);
+  }
+
+  public boolean contains(double lat, double lon) {
+    return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+  }
+}
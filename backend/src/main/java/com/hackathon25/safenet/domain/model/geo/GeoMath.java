@@ -0,0 +1,31 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+/** Shared spherical-earth constants and distance helpers. */
+public final class GeoMath {
+
+  /** Mean earth radius in kilometres. */
+  public static final double EARTH_RADIUS_KM = 6371.0;
+
+  /** Length of one degree of latitude (and of longitude at the equator) in kilometres. */
+  public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
+  private GeoMath() {}
+
+  /**
+   * Great-circle distance between two points using the haversine formula.
+   *
+   * @return distance in kilometres
+   */
+  public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a =
+        Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2)
+                * Math.sin(dLon / 2);
+    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    return EARTH_RADIUS_KM * c;
+  }
+}
@@ -0,0 +1,192 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Geohash encoding, used to quantize locations into fixed tiles.
+ *
+ * <p>A geohash of precision {@code p} names a cell of {@code 5p} interleaved longitude and latitude
+ * bits; precision 5 is roughly 4.9 km by 4.9 km, precision 6 roughly 1.2 km by 0.6 km.
+ */
+public final class Geohash {
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final int[] DECODE = new int[128];
+
+  static {
+    Arrays.fill(DECODE, -1);
+    for (int i = 0; i < BASE32.length; i++) {
+      DECODE[BASE32[i]] = i;
+    }
+  }
+
+  private Geohash() {}
+
+  /**
+   * Encodes a location.
+   *
+   * @param precision number of characters, 1 to 12
+   * @return geohash of the cell containing the location
+   */
+  public static String encode(double lat, double lon, int precision) {
+    double minLat = -90;
+    double maxLat = 90;
+    double minLon = -180;
+    double maxLon = 180;
+    char[] hash = new char[precision];
+    boolean evenBit = true;
+    for (int i = 0; i < precision; i++) {
+      int value = 0;
+      for (int bit = 0; bit < 5; bit++) {
+        if (evenBit) {
+          double mid = (minLon + maxLon) / 2;
+          if (lon >= mid) {
+            value = (value << 1) | 1;
+            minLon = mid;
+          } else {
+            value <<= 1;
+            maxLon = mid;
+          }
+        } else {
+          double mid = (minLat + maxLat) / 2;
+          if (lat >= mid) {
+            value = (value << 1) | 1;
+            minLat = mid;
+          } else {
+            value <<= 1;
+            maxLat = mid;
+          }
+        }
+        evenBit = !evenBit;
+      }
+      hash[i] = BASE32[value];
+    }
+    return new String(hash);
+  }
+
+  /**
+   * Returns the geohash of a cell by its position in the global grid of its precision, which has
+   * {@code 180 / cellHeight} rows and {@code 360 / cellWidth} columns.
+   *
+   * @param row row counted northwards from the south pole
+   * @param column column counted eastwards from the antimeridian
+   * @param precision number of characters, 1 to 12
+   */
+  public static String ofCell(long row, long column, int precision) {
+    int latBits = (5 * precision) / 2;
+    int lonBits = (5 * precision + 1) / 2;
+    char[] hash = new char[precision];
+    for (int i = 0; i < precision; i++) {
+      int value = 0;
+      for (int bit = 0; bit < 5; bit++) {
+        // Bits alternate starting with longitude, most significant first.
+        long set = (i * 5 + bit) % 2 == 0 ? column >> --lonBits : row >> --latBits;
+        value = (value << 1) | (int) (set & 1);
+      }
+      hash[i] = BASE32[value];
+    }
+    return new String(hash);
+  }
+
+  /**
+   * Decodes the cell a geohash names.
+   *
+   * @throws IllegalArgumentException if the geohash contains invalid characters
+   */
+  public static BoundingBox bounds(String hash) {
+    double minLat = -90;
+    double maxLat = 90;
+    double minLon = -180;
+    double maxLon = 180;
+    boolean evenBit = true;
+    for (int i = 0; i < hash.length(); i++) {
+      char c = hash.charAt(i);
+      int value = c < DECODE.length ? DECODE[c] : -1;
+      if (value < 0) {
+        throw new IllegalArgumentException("Invalid geohash: " + hash);
+      }
+      for (int bit = 4; bit >= 0; bit--) {
+        boolean set = ((value >> bit) & 1) == 1;
+        if (evenBit) {
+          double mid = (minLon + maxLon) / 2;
+          if (set) {
+            minLon = mid;
+          } else {
+            maxLon = mid;
+          }
+        } else {
+          double mid = (minLat + maxLat) / 2;
+          if (set) {
+            minLat = mid;
+          } else {
+            maxLat = mid;
+          }
+        }
+        evenBit = !evenBit;
+      }
+    }
+    return new BoundingBox(minLat, minLon, maxLat, maxLon);
+  }
+
+  /** Number of cells {@link #covering} returns for the box. */
+  public static int coveringCount(BoundingBox box, int precision) {
+    return rows(box, precision) * columns(box, precision);
+  }
+
+  /**
+   * Returns the cells that together cover the box.
+   *
+   * @param precision geohash precision of the cells
+   * @return distinct geohashes, row by row from south-west
+   */
+  public static List<String> covering(BoundingBox box, int precision) {
+    double width = cellWidth(precision);
+    int rows = rows(box, precision);
+    int columns = columns(box, precision);
+    long firstRow = row(box.minLat(), precision);
+    long firstColumn = (long) Math.floor((box.minLon() + 180) / width);
+    long columnsAround = Math.round(360 / width);
+    List<String> cells = new ArrayList<>(rows * columns);
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        // Wrap around the antimeridian
+        long wrapped = Math.floorMod(firstColumn + column, columnsAround);
+        cells.add(ofCell(firstRow + row, wrapped, precision));
+      }
+    }
+    return cells;
+  }
+
+  private static int rows(BoundingBox box, int precision) {
+    return (int) (row(box.maxLat(), precision) - row(box.minLat(), precision) + 1);
+  }
+
+  private static int columns(BoundingBox box, int precision) {
+    double width = cellWidth(precision);
+    long first = (long) Math.floor((box.minLon() + 180) / width);
+    long last = (long) Math.floor((box.maxLon() + 180) / width);
+    return (int) Math.min(last - first + 1, Math.round(360 / width));
+  }
+
+  /**
+   * Row of the cell containing the latitude. Clamped to the grid rather than the latitude, since
+   * {@code 90 - ulp} can still round up to the row past the north pole.
+   */
+  private static long row(double lat, int precision) {
+    long rowsAround = Math.round(180 / cellHeight(precision));
+    long row = (long) Math.floor((lat + 90) / cellHeight(precision));
+    return Math.max(0, Math.min(row, rowsAround - 1));
+  }
+
+  /** Height of the cells of a precision in degrees of latitude. */
+  public static double cellHeight(int precision) {
+    return 180 / Math.pow(2, (5 * precision) / 2);
+  }
+
+  /** Width of the cells of a precision in degrees of longitude. */
+  public static double cellWidth(int precision) {
+    return 360 / Math.pow(2, (5 * precision + 1) / 2);
+  }
+}
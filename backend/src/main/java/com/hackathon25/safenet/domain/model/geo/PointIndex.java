@@ -0,0 +1,353 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable KD-tree over point locations for exact radius and k-nearest queries.
+ *
+ * <p>Points are stored as unit vectors on the sphere, so straight-line (chord) distance grows
+ * monotonically with great-circle distance and the tree needs no special cases at the poles or the
+ * antimeridian. The tree is implicit: items and their coordinates sit in flat arrays ordered so
+ * that the node of a range {@code [lo, hi)} is its middle element, split along the axis of the
+ * widest spread in that range. Like {@link SpatialIndex} it is built once and swapped as a whole.
+ *
+ * @param <T> the indexed item type
+ */
+public final class PointIndex<T> {
+
+  private static final PointIndex<?> EMPTY =
+      new PointIndex<>(new Object[0], new double[0], new byte[0]);
+
+  /** Items in tree order. */
+  private final Object[] items;
+
+  /** Unit vectors as [x, y, z] triples, parallel to {@link #items}. */
+  private final double[] coords;
+
+  /** Split axis of the node at each position. */
+  private final byte[] axes;
+
+  private PointIndex(Object[] items, double[] coords, byte[] axes) {
+    this.items = items;
+    this.coords = coords;
+    this.axes = axes;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> PointIndex<T> empty() {
+    return (PointIndex<T>) EMPTY;
+  }
+
+  /**
+   * Builds an index from the given items.
+   *
+   * @param source the items to index
+   * @param lat function returning the latitude of an item
+   * @param lon function returning the longitude of an item
+   * @return KD-tree over the items
+   */
+  public static <T> PointIndex<T> build(
+      List<? extends T> source, ToDoubleFunction<? super T> lat, ToDoubleFunction<? super T> lon) {
+    if (source.isEmpty()) {
+      return empty();
+    }
+    int n = source.size();
+    Object[] items = source.toArray();
+    double[] coords = new double[n * 3];
+    for (int i = 0; i < n; i++) {
+      @SuppressWarnings("unchecked")
+      T item = (T) items[i];
+      toVector(lat.applyAsDouble(item), lon.applyAsDouble(item), coords, i * 3);
+    }
+    byte[] axes = new byte[n];
+    buildRange(items, coords, axes, 0, n);
+    return new PointIndex<>(items, coords, axes);
+  }
+
+  /**
+   * Finds all items within a great-circle radius.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return matching items with their distance, nearest first
+   */
+  public List<Neighbour<T>> withinRadius(double lat, double lon, double radiusKm) {
+    if (items.length == 0 || radiusKm < 0) {
+      return List.of();
+    }
+    double[] query = new double[3];
+    toVector(lat, lon, query, 0);
+    double maxSquared = squaredChord(radiusKm);
+    List<Neighbour<T>> result = new ArrayList<>();
+    collectWithin(query, maxSquared, 0, items.length, result);
+    result.sort(Comparator.comparingDouble(Neighbour::distanceKm));
+    return result;
+  }
+
+  /**
+   * Finds the items closest to a location.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param k maximum number of items to return
+   * @return up to {@code k} items with their distance, nearest first
+   */
+  public List<Neighbour<T>> nearest(double lat, double lon, int k) {
+    return nearest(lat, lon, k, neighbour -> true);
+  }
+
+  /**
+   * Finds the accepted items closest to a location, e.g. the ones after a paging cursor.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param k maximum number of items to return
+   * @param accept filter applied to every item that would otherwise be returned
+   * @return up to {@code k} accepted items with their distance, nearest first
+   */
+  public List<Neighbour<T>> nearest(
+      double lat, double lon, int k, Predicate<? super Neighbour<T>> accept) {
+    if (items.length == 0 || k <= 0) {
+      return List.of();
+    }
+    double[] query = new double[3];
+    toVector(lat, lon, query, 0);
+    Candidates candidates = new Candidates(Math.min(k, items.length));
+    collectNearest(query, 0, items.length, accept, candidates);
+
+    List<Neighbour<T>> result = new ArrayList<>(candidates.size);
+    for (int i = 0; i < candidates.size; i++) {
+      result.add(neighbour(candidates.positions[i], candidates.squared[i]));
+    }
+    result.sort(Comparator.comparingDouble(Neighbour::distanceKm));
+    return result;
+  }
+
+  /** Returns the indexed items in tree order. */
+  @SuppressWarnings("unchecked")
+  public List<T> items() {
+    return Collections.unmodifiableList(Arrays.asList((T[]) items));
+  }
+
+  public int size() {
+    return items.length;
+  }
+
+  private void collectWithin(
+      double[] query, double maxSquared, int lo, int hi, List<Neighbour<T>> result) {
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      double squared = squaredDistance(query, mid);
+      if (squared <= maxSquared) {
+        result.add(neighbour(mid, squared));
+      }
+      double delta = query[axes[mid]] - coords[mid * 3 + axes[mid]];
+      boolean left = delta < 0;
+      if (delta * delta <= maxSquared) {
+        // Both halves may hold matches: recurse into one, loop on the other.
+        if (left) {
+          collectWithin(query, maxSquared, mid + 1, hi, result);
+        } else {
+          collectWithin(query, maxSquared, lo, mid, result);
+        }
+      }
+      if (left) {
+        hi = mid;
+      } else {
+        lo = mid + 1;
+      }
+    }
+  }
+
+  private void collectNearest(
+      double[] query,
+      int lo,
+      int hi,
+      Predicate<? super Neighbour<T>> accept,
+      Candidates candidates) {
+    if (lo >= hi) {
+      return;
+    }
+    int mid = (lo + hi) >>> 1;
+    double squared = squaredDistance(query, mid);
+    if (squared < candidates.bound() && accept.test(neighbour(mid, squared))) {
+      candidates.offer(mid, squared);
+    }
+    double delta = query[axes[mid]] - coords[mid * 3 + axes[mid]];
+    if (delta < 0) {
+      collectNearest(query, lo, mid, accept, candidates);
+      if (delta * delta <= candidates.bound()) {
+        collectNearest(query, mid + 1, hi, accept, candidates);
+      }
+    } else {
+      collectNearest(query, mid + 1, hi, accept, candidates);
+      if (delta * delta <= candidates.bound()) {
+        collectNearest(query, lo, mid, accept, candidates);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Neighbour<T> neighbour(int position, double squaredChord) {
+    double chord = Math.sqrt(squaredChord);
+    double distanceKm = 2 * GeoMath.EARTH_RADIUS_KM * Math.asin(Math.min(1, chord / 2));
+    return new Neighbour<>((T) items[position], distanceKm);
+  }
+
+  private double squaredDistance(double[] query, int position) {
+    double dx = query[0] - coords[position * 3];
+    double dy = query[1] - coords[position * 3 + 1];
+    double dz = query[2] - coords[position * 3 + 2];
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /** Squared chord length of a great-circle distance on the unit sphere. */
+  private static double squaredChord(double distanceKm) {
+    double angle = Math.min(distanceKm / GeoMath.EARTH_RADIUS_KM, Math.PI);
+    double chord = 2 * Math.sin(angle / 2);
+    return chord * chord;
+  }
+
+  private static void toVector(double lat, double lon, double[] target, int offset) {
+    double phi = Math.toRadians(lat);
+    double lambda = Math.toRadians(lon);
+    double cosPhi = Math.cos(phi);
+    target[offset] = cosPhi * Math.cos(lambda);
+    target[offset + 1] = cosPhi * Math.sin(lambda);
+    target[offset + 2] = Math.sin(phi);
+  }
+
+  /** Orders the range so that its middle element splits it along the axis of widest spread. */
+  private static void buildRange(Object[] items, double[] coords, byte[] axes, int lo, int hi) {
+    if (hi - lo <= 1) {
+      return;
+    }
+    int mid = (lo + hi) >>> 1;
+    int axis = widestAxis(coords, lo, hi);
+    select(items, coords, axis, lo, hi - 1, mid);
+    axes[mid] = (byte) axis;
+    buildRange(items, coords, axes, lo, mid);
+    buildRange(items, coords, axes, mid + 1, hi);
+  }
+
+  private static int widestAxis(double[] coords, int lo, int hi) {
+    int widest = 0;
+    double widestSpread = -1;
+    for (int axis = 0; axis < 3; axis++) {
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int i = lo; i < hi; i++) {
+        double value = coords[i * 3 + axis];
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+      }
+      if (max - min > widestSpread) {
+        widestSpread = max - min;
+        widest = axis;
+      }
+    }
+    return widest;
+  }
+
+  /** Quickselect: moves the k-th smallest element on the axis to position k within [lo, hi]. */
+  private static void select(Object[] items, double[] coords, int axis, int lo, int hi, int k) {
+    while (hi > lo) {
+      double pivot = coords[((lo + hi) >>> 1) * 3 + axis];
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (coords[i * 3 + axis] < pivot) {
+          i++;
+        }
+        while (coords[j * 3 + axis] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(items, coords, i++, j--);
+        }
+      }
+      if (k <= j) {
+        hi = j;
+      } else if (k >= i) {
+        lo = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private static void swap(Object[] items, double[] coords, int a, int b) {
+    Object item = items[a];
+    items[a] = items[b];
+    items[b] = item;
+    for (int axis = 0; axis < 3; axis++) {
+      double value = coords[a * 3 + axis];
+      coords[a * 3 + axis] = coords[b * 3 + axis];
+      coords[b * 3 + axis] = value;
+    }
+  }
+
+  /**
+   * An item found by a query.
+   *
+   * @param item the indexed item
+   * @param distanceKm great-circle distance from the query location in kilometres
+   */
+  public record Neighbour<T>(T item, double distanceKm) {}
+
+  /** Bounded max-heap of the closest positions seen so far, keyed by squared chord. */
+  private static final class Candidates {
+    private final int[] positions;
+    private final double[] squared;
+    private int size;
+
+    private Candidates(int capacity) {
+      this.positions = new int[capacity];
+      this.squared = new double[capacity];
+    }
+
+    /** Largest squared chord still worth visiting. */
+    private double bound() {
+      return size < positions.length ? Double.POSITIVE_INFINITY : squared[0];
+    }
+
+    private void offer(int position, double distance) {
+      if (size < positions.length) {
+        int i = size++;
+        while (i > 0 && squared[(i - 1) / 2] < distance) {
+          positions[i] = positions[(i - 1) / 2];
+          squared[i] = squared[(i - 1) / 2];
+          i = (i - 1) / 2;
+        }
+        positions[i] = position;
+        squared[i] = distance;
+      } else if (distance < squared[0]) {
+        int i = 0;
+        while (true) {
+          int child = 2 * i + 1;
+          if (child >= size) {
+            break;
+          }
+          if (child + 1 < size && squared[child + 1] > squared[child]) {
+            child++;
+          }
+          if (squared[child] <= distance) {
+            break;
+          }
+          positions[i] = positions[child];
+          squared[i] = squared[child];
+          i = child;
+        }
+        positions[i] = position;
+        squared[i] = distance;
+      }
+    }
+  }
+}
@@ -0,0 +1,322 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import java.util.Arrays;
+
+/**
+ * Immutable multi-ring polygon geometry stored in primitive arrays.
+ *
+ * <p>Vertices of all rings are packed into parallel {@code lats}/{@code lons} arrays with ring
+ * offsets, so a geometry of any size is a handful of objects. Coordinates are stored as fixed-point
+ * integers in units of 1e-7 degrees (about 1 cm), i.e. 8 bytes per vertex. Each ring is treated as
+ * a separate polygon (the CAP format used by MoWaS has no holes): a point is covered if any ring
+ * covers it.
+ *
+ * <p>Radius queries run a bounding-box prefilter, a ray-casting point-in-polygon test and finally a
+ * minimum point-to-segment distance check. Distances are measured in a local equirectangular
+ * projection whose longitude scale (the cosine of the ring's mid latitude) is precomputed per ring,
+ * which is accurate to well below a percent for district-sized polygons and needs no trigonometry
+ * at query time. A query longitude on the far side of the antimeridian from a ring is shifted by a
+ * full turn first, so rings next to it are still found.
+ */
+public final class PolygonGeometry {
+
+  /** Fixed-point units per degree. */
+  private static final double UNITS_PER_DEGREE = 1e7;
+
+  private static final double DEGREES_PER_UNIT = 1 / UNITS_PER_DEGREE;
+
+  private static final PolygonGeometry EMPTY =
+      new PolygonGeometry(new int[0], new int[0], new int[] {0});
+
+  private final int[] lats;
+  private final int[] lons;
+
+  /** Start offset of every ring plus a trailing end offset. */
+  private final int[] ringOffsets;
+
+  /** Per-ring bounds as [minLat, minLon, maxLat, maxLon] quadruples. */
+  private final double[] ringBounds;
+
+  /** Per-ring kilometres per degree of longitude, i.e. {@code KM_PER_DEGREE * cos(midLat)}. */
+  private final double[] ringKmPerDegreeLon;
+
+  private PolygonGeometry(int[] lats, int[] lons, int[] ringOffsets) {
+    this.lats = lats;
+    this.lons = lons;
+    this.ringOffsets = ringOffsets;
+
+    int rings = ringOffsets.length - 1;
+    this.ringBounds = new double[rings * 4];
+    this.ringKmPerDegreeLon = new double[rings];
+    for (int r = 0; r < rings; r++) {
+      int minLat = Integer.MAX_VALUE;
+      int minLon = Integer.MAX_VALUE;
+      int maxLat = Integer.MIN_VALUE;
+      int maxLon = Integer.MIN_VALUE;
+      for (int i = ringOffsets[r]; i < ringOffsets[r + 1]; i++) {
+        minLat = Math.min(minLat, lats[i]);
+        minLon = Math.min(minLon, lons[i]);
+        maxLat = Math.max(maxLat, lats[i]);
+        maxLon = Math.max(maxLon, lons[i]);
+      }
+      ringBounds[r * 4] = minLat / UNITS_PER_DEGREE;
+      ringBounds[r * 4 + 1] = minLon / UNITS_PER_DEGREE;
+      ringBounds[r * 4 + 2] = maxLat / UNITS_PER_DEGREE;
+      ringBounds[r * 4 + 3] = maxLon / UNITS_PER_DEGREE;
+      ringKmPerDegreeLon[r] =
+          GeoMath.KM_PER_DEGREE
+              * Math.cos(Math.toRadians((ringBounds[r * 4] + ringBounds[r * 4 + 2]) / 2));
+    }
+  }
+
+  public static PolygonGeometry empty() {
+    return EMPTY;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int ringCount() {
+    return ringOffsets.length - 1;
+  }
+
+  public int ringStart(int ring) {
+    return ringOffsets[ring];
+  }
+
+  public int ringEnd(int ring) {
+    return ringOffsets[ring + 1];
+  }
+
+  public int pointCount() {
+    return lats.length;
+  }
+
+  public double lat(int point) {
+    return lats[point] / UNITS_PER_DEGREE;
+  }
+
+  public double lon(int point) {
+    return lons[point] / UNITS_PER_DEGREE;
+  }
+
+  public BoundingBox ringBounds(int ring) {
+    return new BoundingBox(
+        ringBounds[ring * 4],
+        ringBounds[ring * 4 + 1],
+        ringBounds[ring * 4 + 2],
+        ringBounds[ring * 4 + 3]);
+  }
+
+  /**
+   * Checks whether any ring lies within {@code radiusKm} of the location, including the case that
+   * the location is inside the ring.
+   */
+  public boolean isWithinRadius(double lat, double lon, double radiusKm) {
+    for (int r = 0; r < ringCount(); r++) {
+      if (ringWithinRadius(r, lat, lon, radiusKm)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Checks whether a single ring lies within {@code radiusKm} of the location. */
+  public boolean ringWithinRadius(int ring, double lat, double lon, double radiusKm) {
+    lon = nearestLon(ring, lon);
+    double kmPerDegreeLon = ringKmPerDegreeLon[ring];
+    double dLat = radiusKm / GeoMath.KM_PER_DEGREE;
+    double dLon = radiusKm / kmPerDegreeLon;
+    if (lat < ringBounds[ring * 4] - dLat
+        || lat > ringBounds[ring * 4 + 2] + dLat
+        || lon < ringBounds[ring * 4 + 1] - dLon
+        || lon > ringBounds[ring * 4 + 3] + dLon) {
+      return false;
+    }
+    if (ringContains(ring, lat, lon)) {
+      return true;
+    }
+    return ringDistanceSquared(ring, lat, lon, kmPerDegreeLon, radiusKm * radiusKm)
+        <= radiusKm * radiusKm;
+  }
+
+  /** Checks whether the location is inside any ring. */
+  public boolean contains(double lat, double lon) {
+    for (int r = 0; r < ringCount(); r++) {
+      if (ringContains(r, lat, lon)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Even-odd ray casting test against a single ring. */
+  public boolean ringContains(int ring, double lat, double lon) {
+    int start = ringOffsets[ring];
+    int end = ringOffsets[ring + 1];
+    if (end - start < 3
+        || lat < ringBounds[ring * 4]
+        || lat > ringBounds[ring * 4 + 2]
+        || lon < ringBounds[ring * 4 + 1]
+        || lon > ringBounds[ring * 4 + 3]) {
+      return false;
+    }
+    // Work in fixed-point units so the vertex arrays are read without conversion.
+    double y = lat * UNITS_PER_DEGREE;
+    double x = lon * UNITS_PER_DEGREE;
+    boolean inside = false;
+    for (int i = start, j = end - 1; i < end; j = i++) {
+      double yi = lats[i];
+      double yj = lats[j];
+      if ((yi > y) != (yj > y)) {
+        double crossX = ((double) lons[j] - lons[i]) * (y - yi) / (yj - yi) + lons[i];
+        if (x < crossX) {
+          inside = !inside;
+        }
+      }
+    }
+    return inside;
+  }
+
+  /**
+   * Distance from the location to the geometry.
+   *
+   * @return 0 if the location is inside a ring, otherwise the distance to the nearest edge in km
+   */
+  public double distanceKm(double lat, double lon) {
+    double best = Double.POSITIVE_INFINITY;
+    for (int r = 0; r < ringCount(); r++) {
+      if (ringContains(r, lat, lon)) {
+        return 0;
+      }
+      best =
+          Math.min(best, ringDistanceSquared(r, lat, nearestLon(r, lon), ringKmPerDegreeLon[r], 0));
+    }
+    return Math.sqrt(best);
+  }
+
+  /**
+   * Shifts the longitude by a full turn if that is closer to the ring, i.e. across the
+   * antimeridian.
+   */
+  private double nearestLon(int ring, double lon) {
+    double center = (ringBounds[ring * 4 + 1] + ringBounds[ring * 4 + 3]) / 2;
+    if (lon - center > 180) {
+      return lon - 360;
+    }
+    return center - lon > 180 ? lon + 360 : lon;
+  }
+
+  /**
+   * Minimum squared distance in km² from the location to any edge of the ring, stopping early once
+   * a distance at or below {@code stopBelowSquared} has been found.
+   */
+  private double ringDistanceSquared(
+      int ring, double lat, double lon, double kmPerDegreeLon, double stopBelowSquared) {
+    int start = ringOffsets[ring];
+    int end = ringOffsets[ring + 1];
+    double kmPerUnitLon = kmPerDegreeLon * DEGREES_PER_UNIT;
+    double kmPerUnitLat = GeoMath.KM_PER_DEGREE * DEGREES_PER_UNIT;
+    double x = lon * UNITS_PER_DEGREE;
+    double y = lat * UNITS_PER_DEGREE;
+    double best = Double.POSITIVE_INFINITY;
+    double ax = (lons[end - 1] - x) * kmPerUnitLon;
+    double ay = (lats[end - 1] - y) * kmPerUnitLat;
+    for (int i = start; i < end; i++) {
+      double bx = (lons[i] - x) * kmPerUnitLon;
+      double by = (lats[i] - y) * kmPerUnitLat;
+      double dx = bx - ax;
+      double dy = by - ay;
+      double lengthSquared = dx * dx + dy * dy;
+      double t = lengthSquared > 0 ? -(ax * dx + ay * dy) / lengthSquared : 0;
+      t = t < 0 ? 0 : (t > 1 ? 1 : t);
+      double px = ax + t * dx;
+      double py = ay + t * dy;
+      double d = px * px + py * py;
+      if (d < best) {
+        best = d;
+        if (best <= stopBelowSquared) {
+          return best;
+        }
+      }
+      ax = bx;
+      ay = by;
+    }
+    return best;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof PolygonGeometry other
+        && Arrays.equals(ringOffsets, other.ringOffsets)
+        && Arrays.equals(lats, other.lats)
+        && Arrays.equals(lons, other.lons);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Arrays.hashCode(ringOffsets) + Arrays.hashCode(lats)) + Arrays.hashCode(lons);
+  }
+
+  /** Incrementally collects rings into growable primitive buffers. */
+  public static final class Builder {
+    private int[] lats = new int[64];
+    private int[] lons = new int[64];
+    private int[] ringOffsets = new int[] {0, 0, 0, 0};
+    private int points;
+    private int rings;
+    private boolean ringOpen;
+
+    private Builder() {}
+
+    /** Starts a new ring; the previous ring, if any, is closed. */
+    public Builder beginRing() {
+      endRing();
+      ringOpen = true;
+      return this;
+    }
+
+    /** Appends a vertex to the current ring, starting one if necessary. */
+    public Builder addPoint(double lon, double lat) {
+      if (!ringOpen) {
+        beginRing();
+      }
+      if (points == lats.length) {
+        lats = Arrays.copyOf(lats, points * 2);
+        lons = Arrays.copyOf(lons, points * 2);
+      }
+      lats[points] = (int) Math.round(lat * UNITS_PER_DEGREE);
+      lons[points] = (int) Math.round(lon * UNITS_PER_DEGREE);
+      points++;
+      return this;
+    }
+
+    /** Closes the current ring; empty rings are dropped. */
+    public Builder endRing() {
+      if (ringOpen && points > ringOffsets[rings]) {
+        if (rings + 2 > ringOffsets.length) {
+          ringOffsets = Arrays.copyOf(ringOffsets, ringOffsets.length * 2);
+        }
+        rings++;
+        ringOffsets[rings] = points;
+      }
+      ringOpen = false;
+      return this;
+    }
+
+    public PolygonGeometry build() {
+      endRing();
+      if (rings == 0) {
+        return EMPTY;
+      }
+      return new PolygonGeometry(
+          Arrays.copyOf(lats, points),
+          Arrays.copyOf(lons, points),
+          Arrays.copyOf(ringOffsets, rings + 1));
+    }
+  }
+}
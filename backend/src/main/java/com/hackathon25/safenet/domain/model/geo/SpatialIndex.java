@@ -0,0 +1,236 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable, bulk-loaded R-tree packed with the Sort-Tile-Recursive (STR) algorithm.
+ *
+ * <p>The tree is built once from a complete item set and never modified, which matches how feed
+ * snapshots are produced: every refresh builds a new index and swaps it in atomically. Node
+ * envelopes are kept in flat {@code double[]} arrays per level so a query walks primitive memory
+ * only and touches the items whose envelopes intersect the query box.
+ *
+ * @param <T> the indexed item type
+ */
+public final class SpatialIndex<T> {
+
+  private static final int NODE_CAPACITY = 16;
+  private static final SpatialIndex<?> EMPTY = new SpatialIndex<>(new Object[0], new double[0][]);
+
+  /** Items in STR order; level 0 of the tree. */
+  private final Object[] items;
+
+  /** Envelopes per level as [minLat, minLon, maxLat, maxLon] quadruples; level 0 = items. */
+  private final double[][] boxes;
+
+  /** Child ranges per level (1..n) into the level below as [start, end) pairs. */
+  private final int[][] children;
+
+  private SpatialIndex(Object[] items, double[][] boxes) {
+    this.items = items;
+    this.boxes = boxes;
+    this.children = new int[boxes.length][];
+  }
+
+  private SpatialIndex(Object[] items, double[][] boxes, int[][] children) {
+    this.items = items;
+    this.boxes = boxes;
+    this.children = children;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> SpatialIndex<T> empty() {
+    return (SpatialIndex<T>) EMPTY;
+  }
+
+  /**
+   * Bulk loads an index from the given items.
+   *
+   * @param source the items to index
+   * @param envelope function returning the bounding box of an item
+   * @return packed spatial index
+   */
+  public static <T> SpatialIndex<T> build(
+      List<? extends T> source, Function<? super T, BoundingBox> envelope) {
+    if (source.isEmpty()) {
+      return empty();
+    }
+
+    int n = source.size();
+    Object[] levelItems = source.toArray();
+    double[] levelBoxes = new double[n * 4];
+    for (int i = 0; i < n; i++) {
+      @SuppressWarnings("unchecked")
+      BoundingBox box = envelope.apply((T) levelItems[i]);
+      levelBoxes[i * 4] = box.minLat();
+      levelBoxes[i * 4 + 1] = box.minLon();
+      levelBoxes[i * 4 + 2] = box.maxLat();
+      levelBoxes[i * 4 + 3] = box.maxLon();
+    }
+
+    List<double[]> allBoxes = new ArrayList<>();
+    List<int[]> allChildren = new ArrayList<>();
+
+    // Level 0: reorder the items themselves into STR order.
+    int[] order = strOrder(levelBoxes, n);
+    Object[] sortedItems = new Object[n];
+    for (int i = 0; i < n; i++) {
+      sortedItems[i] = levelItems[order[i]];
+    }
+    double[] current = permuteBoxes(levelBoxes, order);
+    allBoxes.add(current);
+    allChildren.add(null);
+
+    int count = n;
+    while (count > 1) {
+      int parents = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+      double[] parentBoxes = new double[parents * 4];
+      int[] parentChildren = new int[parents * 2];
+      for (int p = 0; p < parents; p++) {
+        int start = p * NODE_CAPACITY;
+        int end = Math.min(start + NODE_CAPACITY, count);
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int c = start; c < end; c++) {
+          minLat = Math.min(minLat, current[c * 4]);
+          minLon = Math.min(minLon, current[c * 4 + 1]);
+          maxLat = Math.max(maxLat, current[c * 4 + 2]);
+          maxLon = Math.max(maxLon, current[c * 4 + 3]);
+        }
+        parentBoxes[p * 4] = minLat;
+        parentBoxes[p * 4 + 1] = minLon;
+        parentBoxes[p * 4 + 2] = maxLat;
+        parentBoxes[p * 4 + 3] = maxLon;
+        parentChildren[p * 2] = start;
+        parentChildren[p * 2 + 1] = end;
+      }
+
+      if (parents > 1) {
+        // Reorder the new level into STR order; child ranges travel with their node.
+        int[] parentOrder = strOrder(parentBoxes, parents);
+        parentBoxes = permuteBoxes(parentBoxes, parentOrder);
+        int[] reordered = new int[parents * 2];
+        for (int i = 0; i < parents; i++) {
+          reordered[i * 2] = parentChildren[parentOrder[i] * 2];
+          reordered[i * 2 + 1] = parentChildren[parentOrder[i] * 2 + 1];
+        }
+        parentChildren = reordered;
+      }
+
+      allBoxes.add(parentBoxes);
+      allChildren.add(parentChildren);
+      current = parentBoxes;
+      count = parents;
+    }
+
+    return new SpatialIndex<>(
+        sortedItems, allBoxes.toArray(new double[0][]), allChildren.toArray(new int[0][]));
+  }
+
+  /**
+   * Visits every item whose envelope intersects the query box.
+   *
+   * @param query the query box
+   * @param visitor callback receiving candidate items
+   */
+  @SuppressWarnings("unchecked")
+  public void query(BoundingBox query, Consumer<? super T> visitor) {
+    if (items.length == 0) {
+      return;
+    }
+    int top = boxes.length - 1;
+    // Stack of (level, index) pairs encoded as two parallel int arrays.
+    int[] levelStack = new int[64];
+    int[] indexStack = new int[64];
+    int sp = 0;
+    levelStack[sp] = top;
+    indexStack[sp++] = 0;
+
+    while (sp > 0) {
+      sp--;
+      int level = levelStack[sp];
+      int index = indexStack[sp];
+      double[] levelBoxes = boxes[level];
+      if (!query.intersects(
+          levelBoxes[index * 4],
+          levelBoxes[index * 4 + 1],
+          levelBoxes[index * 4 + 2],
+          levelBoxes[index * 4 + 3])) {
+        continue;
+      }
+      if (level == 0) {
+        visitor.accept((T) items[index]);
+        continue;
+      }
+      int[] ranges = children[level];
+      int start = ranges[index * 2];
+      int end = ranges[index * 2 + 1];
+      if (sp + (end - start) > levelStack.length) {
+        int size = Math.max(levelStack.length * 2, sp + (end - start));
+        levelStack = Arrays.copyOf(levelStack, size);
+        indexStack = Arrays.copyOf(indexStack, size);
+      }
+      for (int c = start; c < end; c++) {
+        levelStack[sp] = level - 1;
+        indexStack[sp++] = c;
+      }
+    }
+  }
+
+  /**
+   * Returns every item whose envelope intersects the query box.
+   *
+   * @param query the query box
+   * @return candidate items, in index order
+   */
+  public List<T> query(BoundingBox query) {
+    List<T> result = new ArrayList<>();
+    query(query, result::add);
+    return result;
+  }
+
+  public int size() {
+    return items.length;
+  }
+
+  /** Computes the STR ordering: slice by center longitude, then sort each slice by latitude. */
+  private static int[] strOrder(double[] levelBoxes, int count) {
+    Integer[] idx = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      idx[i] = i;
+    }
+    Comparator<Integer> byLon =
+        Comparator.comparingDouble(i -> levelBoxes[i * 4 + 1] + levelBoxes[i * 4 + 3]);
+    Comparator<Integer> byLat =
+        Comparator.comparingDouble(i -> levelBoxes[i * 4] + levelBoxes[i * 4 + 2]);
+    Arrays.sort(idx, byLon);
+
+    int leafCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+    int slices = (int) Math.ceil(Math.sqrt(leafCount));
+    int sliceSize = slices * NODE_CAPACITY;
+    for (int start = 0; start < count; start += sliceSize) {
+      Arrays.sort(idx, start, Math.min(start + sliceSize, count), byLat);
+    }
+
+    int[] order = new int[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = idx[i];
+    }
+    return order;
+  }
+
+  private static double[] permuteBoxes(double[] levelBoxes, int[] order) {
+    double[] result = new double[levelBoxes.length];
+    for (int i = 0; i < order.length; i++) {
+      System.arraycopy(levelBoxes, order[i] * 4, result, i * 4, 4);
+    }
+    return result;
+  }
+}
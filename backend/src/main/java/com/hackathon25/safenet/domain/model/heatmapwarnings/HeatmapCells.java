@@ -0,0 +1,15 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Non-empty heatmap cells of one grid level, as parallel arrays.
+ *
+ * @param precision geohash precision of the cells
+ * @param geohashes geohash of every cell
+ * @param intensities summed severity weight of every cell, same order as {@code geohashes}
+ * @param generatedAt time the underlying warning set was fetched
+ */
+public record HeatmapCells(
+    int precision, List<String> geohashes, float[] intensities, Instant generatedAt) {}
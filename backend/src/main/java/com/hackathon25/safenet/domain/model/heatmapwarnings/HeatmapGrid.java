@@ -0,0 +1,268 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.Geohash;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable warning heatmap over a fixed geohash-aligned grid covering Germany.
+ *
+ * <p>The finest level consists of geohash cells of precision {@value #MAX_PRECISION} (about 4.9 km
+ * × 3 km in Germany). Because geohash cells of every precision form a regular lat/lon grid and nest
+ * exactly, the coarser levels down to precision {@value #MIN_PRECISION} are derived from the finest
+ * one by taking the maximum over the contained cells. All levels are stored as dense {@code float}
+ * arrays, so a bounding box query only walks the covered rows and columns.
+ *
+ * <p>The static {@link #rasterize(PolygonGeometry)} maps a warning polygon to the finest-level
+ * cells whose center it covers, using a scanline fill per ring.
+ */
+public final class HeatmapGrid {
+
+  public static final int MIN_PRECISION = 3;
+  public static final int MAX_PRECISION = 5;
+
+  /** Area covered by the grid; snapped outwards to cells of the coarsest precision. */
+  private static final BoundingBox GERMANY = new BoundingBox(47.2, 5.8, 55.1, 15.1);
+
+  private static final Level[] LEVELS = new Level[MAX_PRECISION + 1];
+
+  static {
+    for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+      LEVELS[precision] = new Level(precision);
+    }
+  }
+
+  private static final Level FINEST = LEVELS[MAX_PRECISION];
+
+  /** Number of cells in the finest level, i.e. the range of indexes returned by rasterize. */
+  public static final int CELL_COUNT = FINEST.rows * FINEST.cols;
+
+  private static final HeatmapGrid EMPTY = of(new double[CELL_COUNT], Instant.EPOCH);
+
+  private final float[][] values;
+  private final Instant generatedAt;
+
+  private HeatmapGrid(float[][] values, Instant generatedAt) {
+    this.values = values;
+    this.generatedAt = generatedAt;
+  }
+
+  public static HeatmapGrid empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds all levels from accumulated finest-level intensities.
+   *
+   * @param intensities one value per finest-level cell, see {@link #CELL_COUNT}
+   * @param generatedAt time the underlying warning set was fetched
+   */
+  public static HeatmapGrid of(double[] intensities, Instant generatedAt) {
+    float[][] values = new float[MAX_PRECISION + 1][];
+    float[] finest = new float[CELL_COUNT];
+    for (int i = 0; i < CELL_COUNT; i++) {
+      // Incremental add/subtract can leave tiny rounding residue behind.
+      finest[i] = intensities[i] < 1e-6 ? 0f : (float) intensities[i];
+    }
+    values[MAX_PRECISION] = finest;
+    for (int precision = MAX_PRECISION - 1; precision >= MIN_PRECISION; precision--) {
+      Level level = LEVELS[precision];
+      float[] coarse = new float[level.rows * level.cols];
+      for (int row = 0; row < FINEST.rows; row++) {
+        int coarseRow = (FINEST.firstRow + row) / level.rowRatio - level.firstRow;
+        for (int col = 0; col < FINEST.cols; col++) {
+          float value = finest[row * FINEST.cols + col];
+          if (value > 0) {
+            int coarseCol = (FINEST.firstCol + col) / level.colRatio - level.firstCol;
+            int index = coarseRow * level.cols + coarseCol;
+            coarse[index] = Math.max(coarse[index], value);
+          }
+        }
+      }
+      values[precision] = coarse;
+    }
+    return new HeatmapGrid(values, generatedAt);
+  }
+
+  /**
+   * Returns all non-empty cells of the given precision that intersect the box.
+   *
+   * @param bounds requested area
+   * @param precision geohash precision, clamped to the supported range
+   * @return non-empty cells in row-major order
+   */
+  public HeatmapCells query(BoundingBox bounds, int precision) {
+    precision = Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    Level level = LEVELS[precision];
+    float[] data = values[precision];
+    int rowFrom = Math.max(0, level.row(bounds.minLat()));
+    int rowTo = Math.min(level.rows - 1, level.row(bounds.maxLat()));
+    int colFrom = Math.max(0, level.col(bounds.minLon()));
+    int colTo = Math.min(level.cols - 1, level.col(bounds.maxLon()));
+
+    List<String> cells = new ArrayList<>();
+    float[] intensities = new float[16];
+    for (int row = rowFrom; row <= rowTo; row++) {
+      for (int col = colFrom; col <= colTo; col++) {
+        float value = data[row * level.cols + col];
+        if (value > 0) {
+          if (cells.size() == intensities.length) {
+            intensities = Arrays.copyOf(intensities, intensities.length * 2);
+          }
+          intensities[cells.size()] = value;
+          cells.add(level.geohash(row, col));
+        }
+      }
+    }
+    return new HeatmapCells(
+        precision, cells, Arrays.copyOf(intensities, cells.size()), generatedAt);
+  }
+
+  public Instant getGeneratedAt() {
+    return generatedAt;
+  }
+
+  /**
+   * Maps a polygon to the finest-level cells whose center lies inside any of its rings. Rings too
+   * small to cover a cell center still mark the cell containing their bounding box center, so small
+   * warning areas do not disappear from the map.
+   *
+   * @return sorted, distinct cell indexes
+   */
+  public static int[] rasterize(PolygonGeometry polygon) {
+    BitSet cells = new BitSet(CELL_COUNT);
+    double[] crossings = new double[16];
+    for (int ring = 0; ring < polygon.ringCount(); ring++) {
+      int start = polygon.ringStart(ring);
+      int end = polygon.ringEnd(ring);
+      BoundingBox bounds = polygon.ringBounds(ring);
+      int rowFrom = Math.max(0, FINEST.row(bounds.minLat()));
+      int rowTo = Math.min(FINEST.rows - 1, FINEST.row(bounds.maxLat()));
+      boolean marked = false;
+      for (int row = rowFrom; row <= rowTo && end - start >= 3; row++) {
+        double y = FINEST.centerLat(row);
+        int count = 0;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+          double yi = polygon.lat(i);
+          double yj = polygon.lat(j);
+          if ((yi > y) != (yj > y)) {
+            if (count == crossings.length) {
+              crossings = Arrays.copyOf(crossings, count * 2);
+            }
+            double xi = polygon.lon(i);
+            crossings[count++] = xi + (polygon.lon(j) - xi) * (y - yi) / (yj - yi);
+          }
+        }
+        Arrays.sort(crossings, 0, count);
+        for (int k = 0; k + 1 < count; k += 2) {
+          // Columns whose center lies in [crossings[k], crossings[k + 1]].
+          int colFrom = Math.max(0, FINEST.col(crossings[k] - FINEST.cellLon / 2) + 1);
+          int colTo = Math.min(FINEST.cols - 1, FINEST.col(crossings[k + 1] - FINEST.cellLon / 2));
+          if (colFrom <= colTo) {
+            cells.set(row * FINEST.cols + colFrom, row * FINEST.cols + colTo + 1);
+            marked = true;
+          }
+        }
+      }
+      if (!marked) {
+        int row = FINEST.row((bounds.minLat() + bounds.maxLat()) / 2);
+        int col = FINEST.col((bounds.minLon() + bounds.maxLon()) / 2);
+        if (row >= 0 && row < FINEST.rows && col >= 0 && col < FINEST.cols) {
+          cells.set(row * FINEST.cols + col);
+        }
+      }
+    }
+    return cells.stream().toArray();
+  }
+
+  /**
+   * Heat contribution of a CAP severity value.
+   *
+   * @param severity CAP severity, e.g. {@code Extreme} or {@code Minor}
+   * @return weight between 0.1 and 1
+   */
+  public static float severityWeight(String severity) {
+    if (severity == null) {
+      return 0.1f;
+    }
+    return switch (severity.toLowerCase(Locale.ROOT)) {
+      case "extreme" -> 1.0f;
+      case "severe" -> 0.75f;
+      case "moderate" -> 0.5f;
+      case "minor" -> 0.25f;
+      default -> 0.1f;
+    };
+  }
+
+  /** Maps a web map zoom level to the geohash precision served at that zoom. */
+  public static int precisionForZoom(int zoom) {
+    if (zoom <= 6) {
+      return 3;
+    }
+    return zoom <= 9 ? 4 : 5;
+  }
+
+  /**
+   * Geometry of the grid at one geohash precision. Rows and columns are relative to the grid;
+   * adding {@code firstRow}/{@code firstCol} gives the position in the global {@link Geohash} grid.
+   */
+  private static final class Level {
+    private final int precision;
+    private final double cellLat;
+    private final double cellLon;
+    private final int firstRow;
+    private final int firstCol;
+    private final int rows;
+    private final int cols;
+
+    /** Number of finest-level rows/columns per cell of this level. */
+    private final int rowRatio;
+
+    private final int colRatio;
+
+    private Level(int precision) {
+      this.precision = precision;
+      this.cellLat = Geohash.cellHeight(precision);
+      this.cellLon = Geohash.cellWidth(precision);
+      // Cell sizes are powers of two apart, so the ratios are exact.
+      this.rowRatio = (int) (cellLat / Geohash.cellHeight(MAX_PRECISION));
+      this.colRatio = (int) (cellLon / Geohash.cellWidth(MAX_PRECISION));
+
+      // Snap the extent to whole cells of the coarsest level so all levels cover the same area.
+      double coarseLat = Geohash.cellHeight(MIN_PRECISION);
+      double coarseLon = Geohash.cellWidth(MIN_PRECISION);
+      int scaleLat = (int) (coarseLat / cellLat);
+      int scaleLon = (int) (coarseLon / cellLon);
+      int coarseFirstRow = (int) Math.floor((GERMANY.minLat() + 90) / coarseLat);
+      int coarseLastRow = (int) Math.floor((GERMANY.maxLat() + 90) / coarseLat);
+      int coarseFirstCol = (int) Math.floor((GERMANY.minLon() + 180) / coarseLon);
+      int coarseLastCol = (int) Math.floor((GERMANY.maxLon() + 180) / coarseLon);
+      this.firstRow = coarseFirstRow * scaleLat;
+      this.firstCol = coarseFirstCol * scaleLon;
+      this.rows = (coarseLastRow - coarseFirstRow + 1) * scaleLat;
+      this.cols = (coarseLastCol - coarseFirstCol + 1) * scaleLon;
+    }
+
+    private int row(double lat) {
+      return (int) Math.floor((lat + 90) / cellLat) - firstRow;
+    }
+
+    private int col(double lon) {
+      return (int) Math.floor((lon + 180) / cellLon) - firstCol;
+    }
+
+    private double centerLat(int row) {
+      return (firstRow + row + 0.5) * cellLat - 90;
+    }
+
+    private String geohash(int row, int col) {
+      return Geohash.ofCell(firstRow + row, firstCol + col, precision);
+    }
+  }
+}
@@ -1,6 +1,6 @@
 package com.hackathon25.safenet.domain.model.heatmapwarnings;
 
-import java.util.List;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,5 +15,5 @@ public class Warning {
   private String title;
   private String description;
   private String severity;
-  private List<List<List<Double>>> polygon;
+  private PolygonGeometry polygon;
 }
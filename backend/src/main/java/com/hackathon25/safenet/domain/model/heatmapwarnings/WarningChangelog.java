@@ -0,0 +1,112 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory changelog of warning snapshot diffs with monotonically increasing sequence
+ * numbers.
+ *
+ * <p>Every recorded diff gets the next sequence number. Only the latest {@code capacity} diffs are
+ * kept; a client whose sequence number is older than that, or unknown, gets a full snapshot instead
+ * of a delta. Sequence numbers start at the creation time in epoch milliseconds, so they keep
+ * increasing across restarts and numbers issued by a previous process are recognized as unknown
+ * rather than mistaken for current ones.
+ *
+ * <p>Not thread-safe; callers synchronize.
+ */
+public final class WarningChangelog {
+
+  private final int capacity;
+  private final Deque<Entry> entries = new ArrayDeque<>();
+  private long sequence;
+  private WarningSnapshot snapshot = WarningSnapshot.empty();
+
+  public WarningChangelog(int capacity, long firstSequence) {
+    this.capacity = capacity;
+    this.sequence = firstSequence;
+  }
+
+  /** Appends a diff and makes {@code next} the snapshot full responses are served from. */
+  public void record(WarningSnapshot next, WarningDiff diff) {
+    sequence++;
+    entries.addLast(new Entry(sequence, diff));
+    while (entries.size() > capacity) {
+      entries.removeFirst();
+    }
+    snapshot = next;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Computes the net changes after {@code since}. Multiple diffs touching the same warning are
+   * collapsed, e.g. a warning added and removed again in between is not reported at all.
+   *
+   * @param since last sequence number the client has seen, or {@code null} for a full snapshot
+   * @return delta, or a full snapshot if {@code since} is unknown or no longer covered
+   */
+  public WarningChanges changesSince(Long since) {
+    if (since == null || since > sequence || since < oldestCoveredSequence()) {
+      return new WarningChanges(sequence, true, snapshot.getWarnings(), List.of(), List.of());
+    }
+    if (since == sequence) {
+      return new WarningChanges(sequence, false, List.of(), List.of(), List.of());
+    }
+
+    // Whether each touched warning existed at 'since', decided by the first diff that touches it.
+    Map<String, Boolean> existedBefore = new LinkedHashMap<>();
+    Iterator<Entry> it = entries.descendingIterator();
+    List<Entry> newer = new ArrayList<>();
+    while (it.hasNext()) {
+      Entry entry = it.next();
+      if (entry.sequence() <= since) {
+        break;
+      }
+      newer.add(entry);
+    }
+    for (int i = newer.size() - 1; i >= 0; i--) {
+      WarningDiff diff = newer.get(i).diff();
+      diff.added().forEach(w -> existedBefore.putIfAbsent(w.getId(), false));
+      diff.updated().forEach(w -> existedBefore.putIfAbsent(w.getId(), true));
+      diff.removed().forEach(w -> existedBefore.putIfAbsent(w.getId(), true));
+    }
+
+    Map<String, Warning> current = new HashMap<>();
+    for (Warning warning : snapshot.getWarnings()) {
+      current.put(warning.getId(), warning);
+    }
+    List<Warning> added = new ArrayList<>();
+    List<Warning> updated = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    existedBefore.forEach(
+        (id, existed) -> {
+          Warning now = current.get(id);
+          if (now == null) {
+            if (existed) {
+              removed.add(id);
+            }
+          } else if (existed) {
+            updated.add(now);
+          } else {
+            added.add(now);
+          }
+        });
+    return new WarningChanges(sequence, false, added, updated, removed);
+  }
+
+  /** Smallest {@code since} that can still be answered with a delta. */
+  private long oldestCoveredSequence() {
+    return entries.isEmpty() ? sequence : entries.peekFirst().sequence() - 1;
+  }
+
+  private record Entry(long sequence, WarningDiff diff) {}
+}
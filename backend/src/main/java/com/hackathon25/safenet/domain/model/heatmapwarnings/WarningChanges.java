@@ -0,0 +1,21 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import java.util.List;
+
+/**
+ * Warning changes a client has to apply to get from its last seen sequence number to {@code
+ * sequence}.
+ *
+ * @param sequence current changelog sequence number, to be sent as {@code since} next time
+ * @param full whether this is a full snapshot; if so {@code added} holds every current warning and
+ *     the client has to discard its local state
+ * @param added warnings that are new since the requested sequence number
+ * @param updated warnings whose content changed since the requested sequence number
+ * @param removed identifiers of warnings that are gone since the requested sequence number
+ */
+public record WarningChanges(
+    long sequence,
+    boolean full,
+    List<Warning> added,
+    List<Warning> updated,
+    List<String> removed) {}
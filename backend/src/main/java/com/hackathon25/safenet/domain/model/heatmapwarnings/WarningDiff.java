@@ -0,0 +1,56 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between two consecutive warning snapshots, keyed by the MoWaS {@code identifier}.
+ *
+ * @param added warnings whose identifier was not present before
+ * @param updated warnings whose identifier was present before but whose content changed
+ * @param removed warnings whose identifier is no longer present
+ */
+public record WarningDiff(List<Warning> added, List<Warning> updated, List<Warning> removed) {
+
+  /**
+   * Compares two snapshots. If an identifier occurs more than once in a snapshot, the last
+   * occurrence wins, consistently on both sides.
+   */
+  public static WarningDiff between(WarningSnapshot previous, WarningSnapshot next) {
+    Map<String, Warning> before = byId(previous.getWarnings());
+    Map<String, Warning> after = byId(next.getWarnings());
+    List<Warning> added = new ArrayList<>();
+    List<Warning> updated = new ArrayList<>();
+    List<Warning> removed = new ArrayList<>();
+    after.forEach(
+        (id, warning) -> {
+          Warning old = before.get(id);
+          if (old == null) {
+            added.add(warning);
+          } else if (old != warning && !old.equals(warning)) {
+            updated.add(warning);
+          }
+        });
+    before.forEach(
+        (id, warning) -> {
+          if (!after.containsKey(id)) {
+            removed.add(warning);
+          }
+        });
+    return new WarningDiff(List.copyOf(added), List.copyOf(updated), List.copyOf(removed));
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+  }
+
+  private static Map<String, Warning> byId(List<Warning> warnings) {
+    Map<String, Warning> map = new LinkedHashMap<>();
+    for (Warning warning : warnings) {
+      map.put(warning.getId(), warning);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,102 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.geo.SpatialIndex;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the MoWaS warning feed at one point in time.
+ *
+ * <p>Every polygon of every warning is indexed by its bounding box in a {@link SpatialIndex}, so a
+ * nearby query only runs the exact radius check against candidate polygons instead of the whole
+ * feed. The exact check is done by {@link PolygonGeometry}, which also matches locations inside a
+ * polygon that are far away from all of its vertices.
+ */
+public final class WarningSnapshot {
+
+  private static final WarningSnapshot EMPTY =
+      new WarningSnapshot(List.of(), SpatialIndex.empty(), Instant.EPOCH);
+
+  private final List<Warning> warnings;
+  private final SpatialIndex<IndexedPolygon> index;
+  private final Instant fetchedAt;
+
+  private WarningSnapshot(
+      List<Warning> warnings, SpatialIndex<IndexedPolygon> index, Instant fetchedAt) {
+    this.warnings = warnings;
+    this.index = index;
+    this.fetchedAt = fetchedAt;
+  }
+
+  public static WarningSnapshot empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds a snapshot and its spatial index from a freshly parsed feed.
+   *
+   * @param warnings all warnings currently published by MoWaS
+   * @param fetchedAt time the feed was fetched
+   * @return indexed snapshot
+   */
+  public static WarningSnapshot of(List<Warning> warnings, Instant fetchedAt) {
+    List<IndexedPolygon> polygons = new ArrayList<>();
+    for (Warning warning : warnings) {
+      PolygonGeometry geometry = warning.getPolygon();
+      if (geometry == null) {
+        continue;
+      }
+      for (int ring = 0; ring < geometry.ringCount(); ring++) {
+        polygons.add(new IndexedPolygon(warning, geometry, ring, geometry.ringBounds(ring)));
+      }
+    }
+    return new WarningSnapshot(
+        List.copyOf(warnings), SpatialIndex.build(polygons, IndexedPolygon::bounds), fetchedAt);
+  }
+
+  /**
+   * Finds all warnings with a polygon that contains the location or lies within the radius.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return matching warnings in feed order, without duplicates
+   */
+  public List<Warning> findNearby(double lat, double lon, double radiusKm) {
+    Set<Warning> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+    index.query(
+        BoundingBox.around(lat, lon, radiusKm),
+        candidate -> {
+          if (!matched.contains(candidate.warning())
+              && candidate.geometry().ringWithinRadius(candidate.ring(), lat, lon, radiusKm)) {
+            matched.add(candidate.warning());
+          }
+        });
+    if (matched.isEmpty()) {
+      return List.of();
+    }
+    // Preserve feed order regardless of the order the index visits candidates in.
+    return warnings.stream().filter(matched::contains).toList();
+  }
+
+  public List<Warning> getWarnings() {
+    return warnings;
+  }
+
+  public Instant getFetchedAt() {
+    return fetchedAt;
+  }
+
+  public int size() {
+    return warnings.size();
+  }
+
+  private record IndexedPolygon(
+      Warning warning, PolygonGeometry geometry, int ring, BoundingBox bounds) {}
+}
@@ -2,17 +2,15 @@ package com.hackathon25.safenet.domain.model.helpcenters;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class HelpCenter {
-  private String type; // z.B. "node"
-  private long id;
-  private double lat;
-  private double lon;
-  private HelpCenterTags tags;
+  String type; // z.B. "node"
+  long id;
+  double lat;
+  double lon;
+  HelpCenterTags tags;
 }
@@ -0,0 +1,45 @@
+package com.hackathon25.safenet.domain.model.helpcenters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last help center of a page of nearest results, ordered by distance and then by
+ * id. Only valid for the location it was issued for.
+ *
+ * @param distanceKm distance of the last returned help center in kilometres
+ * @param id OSM id of the last returned help center
+ */
+public record HelpCenterCursor(double distanceKm, long id) {
+
+  /** Whether a help center at the given distance comes after this cursor. */
+  public boolean isBefore(double distanceKm, long id) {
+    int order = Double.compare(distanceKm, this.distanceKm);
+    return order > 0 || (order == 0 && id > this.id);
+  }
+
+  /** Opaque, URL-safe form of the cursor. */
+  public String encode() {
+    String plain = distanceKm + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(plain.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Parses a cursor returned by {@link #encode()}.
+   *
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static HelpCenterCursor decode(String value) {
+    try {
+      String plain = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII);
+      int separator = plain.indexOf(':');
+      return new HelpCenterCursor(
+          Double.parseDouble(plain.substring(0, separator)),
+          Long.parseLong(plain.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + value);
+    }
+  }
+}
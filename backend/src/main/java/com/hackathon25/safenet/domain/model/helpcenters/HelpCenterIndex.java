@@ -0,0 +1,93 @@
+package com.hackathon25.safenet.domain.model.helpcenters;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.GeoMath;
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory index of help centers, one {@link PointIndex} per amenity type.
+ *
+ * <p>Used by the offline help center provider; every reload of the source file builds a new index.
+ */
+public final class HelpCenterIndex {
+
+  private static final HelpCenterIndex EMPTY = new HelpCenterIndex(Map.of(), 0);
+
+  private final Map<String, PointIndex<HelpCenter>> byType;
+  private final int size;
+
+  private HelpCenterIndex(Map<String, PointIndex<HelpCenter>> byType, int size) {
+    this.byType = byType;
+    this.size = size;
+  }
+
+  public static HelpCenterIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds the index.
+   *
+   * @param helpCenters help centers to index; entries without an amenity tag are left out
+   */
+  public static HelpCenterIndex of(List<HelpCenter> helpCenters) {
+    Map<String, List<HelpCenter>> grouped = new HashMap<>();
+    for (HelpCenter helpCenter : helpCenters) {
+      String amenity = helpCenter.getTags() != null ? helpCenter.getTags().getAmenity() : null;
+      if (amenity != null) {
+        grouped.computeIfAbsent(amenity, type -> new ArrayList<>()).add(helpCenter);
+      }
+    }
+    Map<String, PointIndex<HelpCenter>> byType = new HashMap<>();
+    int size = 0;
+    for (Map.Entry<String, List<HelpCenter>> entry : grouped.entrySet()) {
+      byType.put(
+          entry.getKey(),
+          PointIndex.build(entry.getValue(), HelpCenter::getLat, HelpCenter::getLon));
+      size += entry.getValue().size();
+    }
+    return new HelpCenterIndex(Map.copyOf(byType), size);
+  }
+
+  /**
+   * Finds the help centers of one type within a bounding box.
+   *
+   * @param box area to search
+   * @param type OSM amenity, e.g. {@code hospital}
+   * @return help centers in the box, nearest to its center first
+   */
+  public List<HelpCenter> within(BoundingBox box, String type) {
+    PointIndex<HelpCenter> index = byType.get(type);
+    if (index == null) {
+      return List.of();
+    }
+    // Query the circle around the box center that reaches its farthest corner, then cut it to
+    // the box.
+    double lat = (box.minLat() + box.maxLat()) / 2;
+    double lon = (box.minLon() + box.maxLon()) / 2;
+    double radiusKm =
+        Math.max(
+            Math.max(
+                GeoMath.haversineKm(lat, lon, box.minLat(), box.minLon()),
+                GeoMath.haversineKm(lat, lon, box.minLat(), box.maxLon())),
+            Math.max(
+                GeoMath.haversineKm(lat, lon, box.maxLat(), box.minLon()),
+                GeoMath.haversineKm(lat, lon, box.maxLat(), box.maxLon())));
+    List<HelpCenter> result = new ArrayList<>();
+    for (PointIndex.Neighbour<HelpCenter> neighbour : index.withinRadius(lat, lon, radiusKm)) {
+      HelpCenter helpCenter = neighbour.item();
+      if (box.contains(helpCenter.getLat(), helpCenter.getLon())) {
+        result.add(helpCenter);
+      }
+    }
+    return result;
+  }
+
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,12 @@
+package com.hackathon25.safenet.domain.model.helpcenters;
+
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
+import java.util.List;
+
+/**
+ * One page of help centers ordered by distance.
+ *
+ * @param items help centers with their distance, nearest first
+ * @param next cursor of the following page, {@code null} on the last page
+ */
+public record HelpCenterPage(List<PointIndex.Neighbour<HelpCenter>> items, HelpCenterCursor next) {}
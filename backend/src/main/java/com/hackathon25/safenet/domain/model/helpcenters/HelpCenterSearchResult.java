@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.domain.model.helpcenters;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Help centers a provider found in a bounding box.
+ *
+ * @param byType help centers by amenity, in no particular order; every requested type has an entry
+ * @param complete {@code false} if the provider reported that the result may be cut short, e.g. by
+ *     an Overpass timeout
+ */
+public record HelpCenterSearchResult(Map<String, List<HelpCenter>> byType, boolean complete) {}
@@ -2,14 +2,12 @@ package com.hackathon25.safenet.domain.model.helpcenters;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class HelpCenterTags {
-  private String name;
-  private String amenity;
+  String name;
+  String amenity;
 }
@@ -0,0 +1,32 @@
+package com.hackathon25.safenet.domain.model.i18n;
+
+import com.hackathon25.safenet.domain.enums.Language;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Identifies a translation in the translation memory.
+ *
+ * @param contentHash hex SHA-256 of the source content
+ * @param source language of the content
+ * @param target language of the translation
+ * @param format {@code text} or {@code html}, as passed to the translation engine
+ */
+public record TranslationKey(String contentHash, Language source, Language target, String format) {
+
+  public static TranslationKey of(String content, Language source, Language target, String format) {
+    return new TranslationKey(sha256(content), source, target, format);
+  }
+
+  private static String sha256(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // Every JRE ships SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.hackathon25.safenet.domain.model.meteoalarm;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Language-neutral MeteoAlarm feed as parsed from the upstream RSS. Every language view served by
+ * the API is derived from one instance of this.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeteoAlarmFeed {
+  private String title;
+  private String description;
+  private String link;
+  private String language;
+  private Integer ttl;
+  private List<MeteoAlarmFeedItem> items;
+}
@@ -0,0 +1,67 @@
+package com.hackathon25.safenet.domain.model.meteoalarm;
+
+import com.hackathon25.safenet.domain.enums.Language;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One regional MeteoAlarm warning with the description text of every language the feed has. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeteoAlarmFeedItem {
+  private String title;
+
+  /** Full description as published, containing all language variants. */
+  private String description;
+
+  /** Description text per language; languages missing from the feed have no entry. */
+  private Map<Language, String> descriptions;
+
+  private String link;
+  private String guid;
+  private LocalDateTime pubDate;
+  private String region;
+
+  /** EMMA code of the region, e.g. {@code DE411}; {@code null} if the item does not carry one. */
+  private String regionCode;
+
+  private Integer awarenessLevel;
+  private Integer awarenessType;
+  private LocalDateTime validFrom;
+  private LocalDateTime validUntil;
+
+  /**
+   * Returns the item as served for one language, falling back to the full description if the feed
+   * has no text in that language.
+   */
+  public MeteoAlarmItem localize(Language language) {
+    String localized = descriptions != null ? descriptions.get(language) : null;
+    return MeteoAlarmItem.builder()
+        .title(title)
+        .description(localized != null ? localized : description)
+        .link(link)
+        .guid(guid)
+        .pubDate(pubDate)
+        .region(region)
+        .regionCode(regionCode)
+        .awarenessLevel(awarenessLevel)
+        .awarenessType(awarenessType)
+        .validFrom(validFrom)
+        .validUntil(validUntil)
+        .language(languageName(language))
+        .build();
+  }
+
+  /** Item language as the API has always served it, e.g. {@code german}. */
+  private static String languageName(Language language) {
+    return switch (language) {
+      case DE -> "german";
+      case EN -> "english";
+    };
+  }
+}
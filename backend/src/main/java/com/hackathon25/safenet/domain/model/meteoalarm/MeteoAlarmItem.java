@@ -21,6 +21,7 @@ public class MeteoAlarmItem {
   private LocalDateTime pubDate;
 
   private String region;
+  private String regionCode;
   private Integer awarenessLevel;
   private Integer awarenessType;
   private LocalDateTime validFrom;
@@ -0,0 +1,12 @@
+package com.hackathon25.safenet.domain.model.meteoalarm;
+
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+
+/**
+ * A MeteoAlarm warning region with its outline.
+ *
+ * @param code EMMA code of the region, e.g. {@code DE411}
+ * @param name region name, for logs
+ * @param geometry outline of the region
+ */
+public record MeteoAlarmRegion(String code, String name, PolygonGeometry geometry) {}
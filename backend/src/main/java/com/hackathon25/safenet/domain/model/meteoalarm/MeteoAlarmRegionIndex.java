@@ -0,0 +1,86 @@
+package com.hackathon25.safenet.domain.model.meteoalarm;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.geo.SpatialIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup of MeteoAlarm regions by EMMA code and by location.
+ *
+ * <p>Codes are matched case-insensitively and resolve to the code as stored in the table. Every
+ * ring of every region outline, holes included, is indexed by its bounding box in a {@link
+ * SpatialIndex}, so {@link #regionsAt} only runs the point-in-polygon test on candidates. A point
+ * is inside a region if an odd number of its rings contain it, which cuts out holes such as a city
+ * enclosed by a district.
+ */
+public final class MeteoAlarmRegionIndex {
+
+  private static final MeteoAlarmRegionIndex EMPTY = of(List.of());
+
+  private final Map<String, String> codesByKey;
+  private final SpatialIndex<IndexedRing> index;
+
+  private MeteoAlarmRegionIndex(Map<String, String> codesByKey, SpatialIndex<IndexedRing> index) {
+    this.codesByKey = codesByKey;
+    this.index = index;
+  }
+
+  public static MeteoAlarmRegionIndex empty() {
+    return EMPTY;
+  }
+
+  public static MeteoAlarmRegionIndex of(List<MeteoAlarmRegion> regions) {
+    Map<String, String> codesByKey = new HashMap<>();
+    List<IndexedRing> rings = new ArrayList<>();
+    for (MeteoAlarmRegion region : regions) {
+      codesByKey.put(key(region.code()), region.code());
+      PolygonGeometry geometry = region.geometry();
+      for (int ring = 0; ring < geometry.ringCount(); ring++) {
+        rings.add(new IndexedRing(region.code(), geometry, ring, geometry.ringBounds(ring)));
+      }
+    }
+    return new MeteoAlarmRegionIndex(
+        Map.copyOf(codesByKey), SpatialIndex.build(rings, IndexedRing::bounds));
+  }
+
+  /**
+   * Resolves an EMMA code as used in the feed.
+   *
+   * @return the code as stored in the table, or {@code null} if the region is not in the table
+   */
+  public String resolve(String code) {
+    return code != null ? codesByKey.get(key(code)) : null;
+  }
+
+  /** Returns the EMMA codes of all regions whose outline contains the point. */
+  public Set<String> regionsAt(double lat, double lon) {
+    Set<String> codes = new LinkedHashSet<>();
+    index.query(
+        new BoundingBox(lat, lon, lat, lon),
+        candidate -> {
+          if (candidate.geometry().ringContains(candidate.ring(), lat, lon)
+              && !codes.remove(candidate.code())) {
+            codes.add(candidate.code());
+          }
+        });
+    return codes;
+  }
+
+  /** Number of regions in the table. */
+  public int size() {
+    return codesByKey.size();
+  }
+
+  private static String key(String code) {
+    return code.trim().toUpperCase(Locale.ROOT);
+  }
+
+  private record IndexedRing(String code, PolygonGeometry geometry, int ring, BoundingBox bounds) {}
+}
@@ -0,0 +1,26 @@
+package com.hackathon25.safenet.domain.model.ninapolice;
+
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A NINA police warning together with its details and area, as published for one version of the
+ * warning.
+ */
+@Value
+@Builder
+public class NinaPoliceDetail {
+  /** Summary entry of the map data the details were fetched for. */
+  NinaPoliceItem item;
+
+  String headline;
+  String description;
+  String instruction;
+
+  /** Names of the affected areas, comma-separated. */
+  String areaDescription;
+
+  /** Affected area; empty if NINA publishes no geometry for the warning. */
+  PolygonGeometry geometry;
+}
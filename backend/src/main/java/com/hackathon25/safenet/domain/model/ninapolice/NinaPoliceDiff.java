@@ -0,0 +1,57 @@
+package com.hackathon25.safenet.domain.model.ninapolice;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between two consecutive NINA police feeds, keyed by the item {@code id}.
+ *
+ * @param added items whose id was not present before
+ * @param updated items whose id was present before with another version or content
+ * @param removed items whose id is no longer present
+ */
+public record NinaPoliceDiff(
+    List<NinaPoliceItem> added, List<NinaPoliceItem> updated, List<NinaPoliceItem> removed) {
+
+  /**
+   * Compares two feeds indexed by id. Unchanged items are shared between parses, so most entries
+   * are settled by an identity check.
+   */
+  public static NinaPoliceDiff between(
+      Map<String, NinaPoliceItem> previous, Map<String, NinaPoliceItem> next) {
+    List<NinaPoliceItem> added = new ArrayList<>();
+    List<NinaPoliceItem> updated = new ArrayList<>();
+    List<NinaPoliceItem> removed = new ArrayList<>();
+    next.forEach(
+        (id, item) -> {
+          NinaPoliceItem old = previous.get(id);
+          if (old == null) {
+            added.add(item);
+          } else if (old != item && !old.equals(item)) {
+            updated.add(item);
+          }
+        });
+    previous.forEach(
+        (id, item) -> {
+          if (!next.containsKey(id)) {
+            removed.add(item);
+          }
+        });
+    return new NinaPoliceDiff(List.copyOf(added), List.copyOf(updated), List.copyOf(removed));
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+  }
+
+  /** Indexes items by id; if an id occurs more than once, the last occurrence wins. */
+  public static Map<String, NinaPoliceItem> byId(List<NinaPoliceItem> items) {
+    Map<String, NinaPoliceItem> map = new LinkedHashMap<>();
+    for (NinaPoliceItem item : items) {
+      map.put(item.getId(), item);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,89 @@
+package com.hackathon25.safenet.domain.model.ninapolice;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.geo.SpatialIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable spatial index of the NINA police warnings with their areas.
+ *
+ * <p>Works like the MoWaS warning snapshot: every ring of every area is indexed by its bounding
+ * box, and a nearby query only runs the exact radius check against candidate rings.
+ */
+public final class NinaPoliceIndex {
+
+  private static final NinaPoliceIndex EMPTY = new NinaPoliceIndex(List.of(), SpatialIndex.empty());
+
+  private final List<NinaPoliceDetail> details;
+  private final SpatialIndex<IndexedRing> index;
+
+  private NinaPoliceIndex(List<NinaPoliceDetail> details, SpatialIndex<IndexedRing> index) {
+    this.details = details;
+    this.index = index;
+  }
+
+  public static NinaPoliceIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds the index.
+   *
+   * @param details warnings in feed order; warnings without geometry are kept but never match a
+   *     location
+   */
+  public static NinaPoliceIndex of(List<NinaPoliceDetail> details) {
+    List<IndexedRing> rings = new ArrayList<>();
+    for (NinaPoliceDetail detail : details) {
+      PolygonGeometry geometry = detail.getGeometry();
+      if (geometry == null) {
+        continue;
+      }
+      for (int ring = 0; ring < geometry.ringCount(); ring++) {
+        rings.add(new IndexedRing(detail, geometry, ring, geometry.ringBounds(ring)));
+      }
+    }
+    return new NinaPoliceIndex(
+        List.copyOf(details), SpatialIndex.build(rings, IndexedRing::bounds));
+  }
+
+  /**
+   * Finds all warnings with an area that contains the location or lies within the radius.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return matching warnings in feed order, without duplicates
+   */
+  public List<NinaPoliceDetail> findNearby(double lat, double lon, double radiusKm) {
+    Set<NinaPoliceDetail> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+    index.query(
+        BoundingBox.around(lat, lon, radiusKm),
+        candidate -> {
+          if (!matched.contains(candidate.detail())
+              && candidate.geometry().ringWithinRadius(candidate.ring(), lat, lon, radiusKm)) {
+            matched.add(candidate.detail());
+          }
+        });
+    if (matched.isEmpty()) {
+      return List.of();
+    }
+    return details.stream().filter(matched::contains).toList();
+  }
+
+  public List<NinaPoliceDetail> getDetails() {
+    return details;
+  }
+
+  public int size() {
+    return details.size();
+  }
+
+  private record IndexedRing(
+      NinaPoliceDetail detail, PolygonGeometry geometry, int ring, BoundingBox bounds) {}
+}
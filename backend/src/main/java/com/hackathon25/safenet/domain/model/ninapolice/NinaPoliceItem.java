@@ -1,19 +1,18 @@
 package com.hackathon25.safenet.domain.model.ninapolice;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+/** One NINA police warning. Immutable, as unchanged items are shared between consecutive parses. */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
 public class NinaPoliceItem {
-  private String id;
-  private Integer version;
-  private String startDate;
-  private String severity;
-  private String type;
-  private String i18nTitleDe;
+  String id;
+  Integer version;
+  String startDate;
+  String severity;
+  String type;
+  String i18nTitleDe;
 }
@@ -1,11 +1,15 @@
 package com.hackathon25.safenet.domain.model.notfalltipps;
 
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class NotfalltippsCategory {
   private String title;
   private List<NotfalltippsTip> tips;
@@ -1,10 +1,14 @@
 package com.hackathon25.safenet.domain.model.notfalltipps;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class NotfalltippsImage {
   private String src;
   private String title;
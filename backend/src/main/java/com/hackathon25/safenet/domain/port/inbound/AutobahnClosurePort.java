@@ -11,4 +11,14 @@ public interface AutobahnClosurePort {
    * @return List of AutobahnClosureItem containing closure data
    */
   List<AutobahnClosureItem> getAutobahnClosureData(String autobahnId);
+
+  /**
+   * Find the closures on all Autobahns within a radius of a location.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return closures in range, nearest first
+   */
+  List<AutobahnClosureItem> getClosuresNear(double lat, double lon, double radiusKm);
 }
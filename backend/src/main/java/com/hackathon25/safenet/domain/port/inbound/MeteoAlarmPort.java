@@ -1,13 +1,25 @@
 package com.hackathon25.safenet.domain.port.inbound;
 
+import com.hackathon25.safenet.domain.enums.Language;
 import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmResponse;
 
 public interface MeteoAlarmPort {
   /**
    * Fetch MeteoAlarm data for the specified language.
    *
-   * @param language Language code (e.g., "en", "de-DE")
+   * @param language language of the item descriptions
    * @return MeteoAlarmResponse containing alarm data
    */
-  MeteoAlarmResponse getMeteoAlarmData(String language);
+  MeteoAlarmResponse getMeteoAlarmData(Language language);
+
+  /**
+   * Fetch the MeteoAlarm alerts for the regions containing a location. Alerts for regions missing
+   * from the region table are always included.
+   *
+   * @param language language of the item descriptions
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @return MeteoAlarmResponse containing only the matching alerts
+   */
+  MeteoAlarmResponse getMeteoAlarmData(Language language, double lat, double lon);
 }
@@ -1,8 +1,19 @@
 package com.hackathon25.safenet.domain.port.inbound;
 
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
 import java.util.List;
 
 public interface NinaPolicePort {
   List<NinaPoliceItem> getNinaPoliceData();
+
+  /**
+   * Find the police warnings whose area contains a location or lies within a radius of it.
+   *
+   * @param lat latitude of the location
+   * @param lon longitude of the location
+   * @param radiusKm search radius in kilometres
+   * @return matching warnings with details and area, in feed order
+   */
+  List<NinaPoliceDetail> getNinaPoliceWarningsNearby(double lat, double lon, double radiusKm);
 }
@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.domain.port.inbound;
+
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningChanges;
+
+public interface WarningChangesPort {
+  /**
+   * Returns the warning changes after the given changelog sequence number.
+   *
+   * @param since last sequence number the client has applied, or {@code null} for a full snapshot
+   * @return delta, or a full snapshot if the client is too far behind
+   */
+  WarningChanges getChangesSince(Long since);
+}
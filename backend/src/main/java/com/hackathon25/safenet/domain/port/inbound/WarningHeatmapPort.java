@@ -0,0 +1,8 @@
+package com.hackathon25.safenet.domain.port.inbound;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.HeatmapCells;
+
+public interface WarningHeatmapPort {
+  HeatmapCells getHeatmap(BoundingBox bounds, int zoom);
+}
@@ -1,6 +1,6 @@
 package com.hackathon25.safenet.domain.port.outbound;
 
-import com.hackathon25.safenet.infrastructure.adapter.web.dto.autobahn.AutobahnClosureItemDto;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
 import java.util.List;
 
 /** Outbound port for fetching Autobahn closure data. */
@@ -9,7 +9,14 @@ public interface AutobahnClosureFeedPort {
    * Fetches and parses closure data from Autobahn API.
    *
    * @param autobahnId Autobahn identifier (e.g., "A1", "A2")
-   * @return List of AutobahnClosureItemDto containing closure data
+   * @return closures of the Autobahn
    */
-  List<AutobahnClosureItemDto> fetchClosureData(String autobahnId);
+  List<AutobahnClosureItem> fetchClosureData(String autobahnId);
+
+  /**
+   * Fetches the identifiers of all Autobahns known to the Autobahn API.
+   *
+   * @return Autobahn identifiers (e.g., "A1", "A2")
+   */
+  List<String> fetchRoadIds();
 }
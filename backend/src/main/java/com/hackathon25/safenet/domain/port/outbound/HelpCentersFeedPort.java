@@ -1,8 +1,16 @@
 package com.hackathon25.safenet.domain.port.outbound;
 
-import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
-import java.util.List;
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterSearchResult;
+import java.util.Set;
 
 public interface HelpCentersFeedPort {
-  List<HelpCenter> getHelpCenters(double lat, double lon, double radiusMeters, String type);
+  /**
+   * Fetches all help centers of the given amenity types within a bounding box.
+   *
+   * @param box area to search
+   * @param types OSM amenities, e.g. {@code hospital} and {@code police}
+   * @return help centers in the box by amenity, and whether the provider returned all of them
+   */
+  HelpCenterSearchResult getHelpCenters(BoundingBox box, Set<String> types);
 }
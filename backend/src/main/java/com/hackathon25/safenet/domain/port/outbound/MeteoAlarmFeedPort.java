@@ -1,11 +1,16 @@
 package com.hackathon25.safenet.domain.port.outbound;
 
-/** Outbound port for fetching MeteoAlarm RSS feed content. */
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
+
+/** Outbound port for fetching the MeteoAlarm RSS feed. */
 public interface MeteoAlarmFeedPort {
   /**
-   * Fetches the raw RSS feed content from MeteoAlarm.
+   * Fetches and parses the RSS feed from MeteoAlarm.
+   *
+   * <p>Items carry the description of every language. When the feed has not changed since the last
+   * call, the identical instance is returned again.
    *
-   * @return RSS feed content as String
+   * @return parsed feed
    */
-  String fetchFeedContent();
+  MeteoAlarmFeed fetchFeed();
 }
@@ -0,0 +1,14 @@
+package com.hackathon25.safenet.domain.port.outbound;
+
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmRegion;
+import java.util.List;
+
+/** Outbound port for the table of MeteoAlarm warning regions. */
+public interface MeteoAlarmRegionPort {
+  /**
+   * Loads all known MeteoAlarm regions with their outlines.
+   *
+   * @return regions, empty if the table is not available
+   */
+  List<MeteoAlarmRegion> loadRegions();
+}
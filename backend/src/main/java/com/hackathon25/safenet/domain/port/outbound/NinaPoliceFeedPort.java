@@ -1,8 +1,25 @@
 package com.hackathon25.safenet.domain.port.outbound;
 
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
 import java.util.List;
+import java.util.Map;
 
 public interface NinaPoliceFeedPort {
-  List<NinaPoliceItem> fetchFeedContent();
+  /**
+   * Fetches the NINA police warnings.
+   *
+   * @param known items of the previous fetch by id; entries with an unchanged version are returned
+   *     as the known instance instead of being parsed again
+   * @return current items in feed order
+   */
+  List<NinaPoliceItem> fetchFeedContent(Map<String, NinaPoliceItem> known);
+
+  /**
+   * Fetches the details and the area of one warning.
+   *
+   * @param item map data entry of the warning; details are fetched for its id
+   * @return details with geometry; the geometry is empty if NINA publishes none for the warning
+   */
+  NinaPoliceDetail fetchDetail(NinaPoliceItem item);
 }
@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.domain.port.outbound;
+
+import com.hackathon25.safenet.domain.model.i18n.TranslationKey;
+import java.util.Optional;
+
+public interface TranslationMemoryPort {
+
+  /** Find a stored translation */
+  Optional<String> findTranslation(TranslationKey key);
+
+  /** Store a translation; a translation stored concurrently under the same key wins */
+  void saveTranslation(TranslationKey key, String translation);
+}
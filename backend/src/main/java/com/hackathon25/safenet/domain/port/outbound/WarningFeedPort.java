@@ -3,6 +3,12 @@ package com.hackathon25.safenet.domain.port.outbound;
 import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
 import java.util.List;
 
+/** Outbound port for fetching the MoWaS warning feed. */
 public interface WarningFeedPort {
-  List<Warning> getWarningsNearby(double lat, double lon, double radiusKm);
+  /**
+   * Fetches and parses every warning currently published by MoWaS.
+   *
+   * @return all warnings of the feed
+   */
+  List<Warning> fetchWarnings();
 }
@@ -0,0 +1,118 @@
+package com.hackathon25.safenet.infrastructure.adapter.geo.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmRegion;
+import com.hackathon25.safenet.domain.port.outbound.MeteoAlarmRegionPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the MeteoAlarm region outlines from the geocodes file at {@code
+ * safenet.meteo-alarm.regions-file}.
+ *
+ * <p>The file is the GeoJSON {@code FeatureCollection} MeteoAlarm publishes for its warning
+ * regions: every feature carries the region code in {@code properties.code}, its kind in {@code
+ * properties.type} and a {@code Polygon} or {@code MultiPolygon} outline. Only {@code EMMA_ID}
+ * features are read, since those are the codes the feed items refer to; features without a type are
+ * read as well. Positions that are not a pair of numbers are skipped, so a malformed feature costs
+ * at most its own outline rather than the whole table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeteoAlarmRegionAdapter implements MeteoAlarmRegionPort {
+  private static final String EMMA_ID = "EMMA_ID";
+
+  private final ObjectMapper objectMapper;
+  private final ApplicationProperties applicationProperties;
+
+  @Override
+  public List<MeteoAlarmRegion> loadRegions() {
+    Path file = applicationProperties.getMeteoAlarm().getRegionsFile();
+    if (file == null) {
+      log.warn("safenet.meteo-alarm.regions-file is not set, MeteoAlarm alerts cannot be located");
+      return List.of();
+    }
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      List<MeteoAlarmRegion> regions = new ArrayList<>();
+      for (JsonNode feature : objectMapper.readTree(in).path("features")) {
+        JsonNode properties = feature.path("properties");
+        String type = properties.path("type").asText(EMMA_ID);
+        String code = properties.path("code").asText(null);
+        if (!EMMA_ID.equals(type) || code == null) {
+          continue;
+        }
+        Outline outline = outline(feature.path("geometry"));
+        if (outline.skippedPositions() > 0) {
+          log.warn(
+              "MeteoAlarm region {} has {} malformed positions, skipping them",
+              code,
+              outline.skippedPositions());
+        }
+        PolygonGeometry geometry = outline.geometry();
+        if (geometry.ringCount() == 0) {
+          log.warn("MeteoAlarm region {} has no polygon outline, skipping it", code);
+          continue;
+        }
+        regions.add(new MeteoAlarmRegion(code, properties.path("name").asText(code), geometry));
+      }
+      return regions;
+    } catch (IOException e) {
+      log.error("Failed to load MeteoAlarm regions from {}", file, e);
+      return List.of();
+    }
+  }
+
+  /** Collects every ring, outer rings and holes, of a {@code Polygon} or {@code MultiPolygon}. */
+  private static Outline outline(JsonNode geometry) {
+    PolygonGeometry.Builder builder = PolygonGeometry.builder();
+    JsonNode coordinates = geometry.path("coordinates");
+    int skipped =
+        switch (geometry.path("type").asText()) {
+          case "Polygon" -> addRings(builder, coordinates);
+          case "MultiPolygon" -> {
+            int sum = 0;
+            for (JsonNode polygon : coordinates) {
+              sum += addRings(builder, polygon);
+            }
+            yield sum;
+          }
+          // Other shapes cannot contain a location.
+          default -> 0;
+        };
+    return new Outline(builder.build(), skipped);
+  }
+
+  /**
+   * Adds the rings of one polygon.
+   *
+   * @return number of malformed positions skipped
+   */
+  private static int addRings(PolygonGeometry.Builder builder, JsonNode polygon) {
+    int skipped = 0;
+    for (JsonNode ring : polygon) {
+      builder.beginRing();
+      for (JsonNode point : ring) {
+        if (point.size() >= 2 && point.get(0).isNumber() && point.get(1).isNumber()) {
+          builder.addPoint(point.get(0).asDouble(), point.get(1).asDouble());
+        } else {
+          skipped++;
+        }
+      }
+    }
+    return skipped;
+  }
+
+  private record Outline(PolygonGeometry geometry, int skippedPositions) {}
+}
@@ -1,60 +1,82 @@
 package com.hackathon25.safenet.infrastructure.adapter.helpcenters.persistence;
 
+import com.hackathon25.safenet.application.service.helpcenters.OverpassHelpCenterParser;
+import com.hackathon25.safenet.application.service.helpcenters.OverpassResponse;
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
 import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterSearchResult;
 import com.hackathon25.safenet.domain.port.outbound.HelpCentersFeedPort;
-import com.hackathon25.safenet.infrastructure.adapter.helpcenters.mapper.HelpCenterMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-/** Adapter to fetch HelpCenters (like hospitals) from Overpass API */
+/**
+ * Adapter to fetch HelpCenters (like hospitals) from Overpass API. Replaced by the {@link
+ * OfflineHelpCenterAdapter} when {@code safenet.help-centers.offline.enabled} is set.
+ */
 @Slf4j
 @Component
+@ConditionalOnProperty(
+    prefix = "safenet.help-centers.offline",
+    name = "enabled",
+    havingValue = "false",
+    matchIfMissing = true)
 @RequiredArgsConstructor
 public class HelpCenterAdapter implements HelpCentersFeedPort {
 
-  private final RestTemplate restTemplate = new RestTemplate();
-  private final HelpCenterMapper helpCenterMapper;
+  private final RestTemplate restTemplate;
 
   @Override
-  public List<HelpCenter> getHelpCenters(double lat, double lon, double radiusMeters, String type) {
+  public HelpCenterSearchResult getHelpCenters(BoundingBox box, Set<String> types) {
     try {
-      String overpassQuery =
+      String bbox =
           String.format(
-              Locale.US,
-              """
-                    [out:json];
-                    node["amenity"="%s"](around:%f,%f,%f);
-                    out;
-                    """,
-              type,
-              radiusMeters,
-              lat,
-              lon);
+              Locale.US, "(%f,%f,%f,%f)", box.minLat(), box.minLon(), box.maxLat(), box.maxLon());
+      // One union over all types, so a map view costs a single round trip
+      StringBuilder overpassQuery = new StringBuilder("[out:json];\n(\n");
+      for (String type : types) {
+        overpassQuery.append("  node[\"amenity\"=\"").append(type).append("\"]").append(bbox);
+        overpassQuery.append(";\n");
+      }
+      overpassQuery.append(");\nout;\n");
 
       String url = "https://overpass-api.de/api/interpreter";
+      byte[] body = overpassQuery.toString().getBytes(StandardCharsets.UTF_8);
 
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.TEXT_PLAIN);
+      // Decoded straight from the response stream, large responses never become maps
+      OverpassResponse parsed =
+          restTemplate.execute(
+              url,
+              HttpMethod.POST,
+              request -> {
+                request.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+                request.getBody().write(body);
+              },
+              response -> OverpassHelpCenterParser.parse(response.getBody()));
+      if (parsed.remark() != null) {
+        // Overpass answers timeouts and memory exhaustion with 200 and whatever it found so far
+        log.warn("Overpass returned a partial response for {}: {}", types, parsed.remark());
+      }
 
-      HttpEntity<String> request = new HttpEntity<>(overpassQuery, headers);
-      ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
-
-      List<Map<String, Object>> elements =
-          (List<Map<String, Object>>) response.getBody().get("elements");
-      if (elements == null) return List.of();
-
-      return elements.stream()
-          .map(helpCenterMapper::mapOverpassNode)
-          .filter(Objects::nonNull)
-          .toList();
+      Map<String, List<HelpCenter>> byType = new HashMap<>();
+      types.forEach(type -> byType.put(type, new ArrayList<>()));
+      for (HelpCenter helpCenter : parsed.helpCenters()) {
+        if (helpCenter.getTags() == null) continue;
+        List<HelpCenter> group = byType.get(helpCenter.getTags().getAmenity());
+        if (group != null) group.add(helpCenter);
+      }
+      return new HelpCenterSearchResult(byType, parsed.remark() == null);
 
+    } catch (BulkheadFullException e) {
+      log.warn("Overpass API busy, rejecting HelpCenters request: {}", e.getMessage());
+      throw e;
     } catch (Exception e) {
       log.error("Error fetching HelpCenters from Overpass API: {}", e.getMessage());
       throw new RuntimeException("An error occurred whgile trying to access HelpCenters", e);
@@ -0,0 +1,116 @@
+package com.hackathon25.safenet.infrastructure.adapter.helpcenters.persistence;
+
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.application.service.helpcenters.HelpCentersReloadedEvent;
+import com.hackathon25.safenet.application.service.helpcenters.OverpassHelpCenterParser;
+import com.hackathon25.safenet.application.service.helpcenters.OverpassResponse;
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterIndex;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterSearchResult;
+import com.hackathon25.safenet.domain.port.outbound.HelpCentersFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves help centers from a local OSM extract instead of the public Overpass API.
+ *
+ * <p>The file at {@code safenet.help-centers.offline.file} is an Overpass JSON export of the
+ * hospitals, police and fire stations and shelters of the covered area. It is loaded into a {@link
+ * HelpCenterIndex} and checked for changes on the {@code help-centers-offline} feed interval; a
+ * changed file is loaded into a new index that replaces the old one, and a {@link
+ * HelpCentersReloadedEvent} drops the tiles cached from it. If a reload fails the previous index
+ * stays in place.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "safenet.help-centers.offline",
+    name = "enabled",
+    havingValue = "true")
+public class OfflineHelpCenterAdapter implements HelpCentersFeedPort {
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final Path file;
+  private final FeedScheduler.Feed<HelpCenterIndex> feed;
+
+  /** Modification time of the file the current index was loaded from. Guarded by {@code this}. */
+  private FileTime loadedModified;
+
+  /** Index loaded from that file. Guarded by {@code this}. */
+  private HelpCenterIndex loaded;
+
+  public OfflineHelpCenterAdapter(
+      ApplicationEventPublisher eventPublisher,
+      FeedScheduler feedScheduler,
+      ApplicationProperties applicationProperties) {
+    this.eventPublisher = eventPublisher;
+    this.file =
+        Objects.requireNonNull(
+            applicationProperties.getHelpCenters().getOffline().getFile(),
+            "safenet.help-centers.offline.file must be set");
+    this.feed = feedScheduler.register("help-centers-offline", this::reload);
+  }
+
+  @Override
+  public HelpCenterSearchResult getHelpCenters(BoundingBox box, Set<String> types) {
+    HelpCenterIndex index = feed.get();
+    Map<String, List<HelpCenter>> byType = new HashMap<>();
+    for (String type : types) {
+      byType.put(type, index != null ? index.within(box, type) : List.of());
+    }
+    return new HelpCenterSearchResult(byType, true);
+  }
+
+  synchronized HelpCenterIndex reload() {
+    FileTime modified;
+    try {
+      modified = Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Offline help center file not readable: " + file, e);
+    }
+    if (loaded != null && modified.equals(loadedModified)) {
+      return loaded;
+    }
+
+    long start = System.nanoTime();
+    List<HelpCenter> helpCenters = read();
+    loaded = HelpCenterIndex.of(helpCenters);
+    loadedModified = modified;
+    log.info(
+        "Loaded {} offline help centers from {} in {} ms",
+        loaded.size(),
+        file,
+        (System.nanoTime() - start) / 1_000_000);
+    eventPublisher.publishEvent(new HelpCentersReloadedEvent(loaded.size()));
+    return loaded;
+  }
+
+  private List<HelpCenter> read() {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      OverpassResponse response = OverpassHelpCenterParser.parse(in);
+      if (response.remark() != null) {
+        log.warn("Offline help center file {} may be incomplete: {}", file, response.remark());
+      }
+      return response.helpCenters();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Offline help center file not valid: " + file, e);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.hackathon25.safenet.infrastructure.adapter.http;
+
+import com.hackathon25.safenet.application.service.feed.SingleFlight;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Performs conditional GET requests against upstream feeds.
+ *
+ * <p>For every URL the {@code ETag} and {@code Last-Modified} validators of the last successful
+ * response are kept together with the value the caller decoded from it. The next request sends them
+ * as {@code If-None-Match} / {@code If-Modified-Since}; when the upstream answers {@code 304 Not
+ * Modified} the previously decoded value is returned as-is and the body is neither downloaded nor
+ * parsed again. Callers can rely on getting the identical instance back in that case.
+ *
+ * <p>Concurrent fetches of the same URL, e.g. the per-language MeteoAlarm feeds, are coalesced into
+ * one request through {@link SingleFlight}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalFeedClient {
+
+  private final RestTemplate restTemplate;
+  private final SingleFlight singleFlight;
+  private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Fetches the URL and decodes the body with the extractor, unless the upstream reports that the
+   * content has not changed since the last call.
+   *
+   * @param url feed URL, also used as the validator cache key; a URL must always be decoded with
+   *     the same extractor
+   * @param extractor decoder for a full {@code 200} response
+   * @return the freshly decoded value, or the value decoded last time on {@code 304}
+   */
+  public <T> T fetch(String url, ResponseExtractor<T> extractor) {
+    return singleFlight.execute("feed", url, () -> fetchConditionally(url, extractor));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T fetchConditionally(String url, ResponseExtractor<T> extractor) {
+    CachedResponse cached = cache.get(url);
+    return restTemplate.execute(
+        url,
+        HttpMethod.GET,
+        request -> {
+          if (cached != null) {
+            if (cached.eTag() != null) {
+              request.getHeaders().setIfNoneMatch(cached.eTag());
+            }
+            if (cached.lastModified() != -1) {
+              request.getHeaders().setIfModifiedSince(cached.lastModified());
+            }
+          }
+        },
+        response -> {
+          if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug("Feed {} not modified, reusing previous result", url);
+            return (T) cached.value();
+          }
+          T value = extractor.extractData(response);
+          HttpHeaders headers = response.getHeaders();
+          String eTag = headers.getETag();
+          long lastModified = headers.getLastModified();
+          if (value != null && (eTag != null || lastModified != -1)) {
+            cache.put(url, new CachedResponse(eTag, lastModified, value));
+          } else {
+            cache.remove(url);
+          }
+          return value;
+        });
+  }
+
+  /** Conditional variant of {@code getForObject(url, String.class)}. */
+  public String fetchString(String url) {
+    return fetch(url, ConditionalFeedClient::readBody);
+  }
+
+  /** Reads the body using the charset of the content type, defaulting to UTF-8. */
+  public static String readBody(ClientHttpResponse response) throws IOException {
+    MediaType contentType = response.getHeaders().getContentType();
+    Charset charset =
+        contentType != null && contentType.getCharset() != null
+            ? contentType.getCharset()
+            : StandardCharsets.UTF_8;
+    return StreamUtils.copyToString(response.getBody(), charset);
+  }
+
+  private record CachedResponse(String eTag, long lastModified, Object value) {}
+}
@@ -0,0 +1,67 @@
+package com.hackathon25.safenet.infrastructure.adapter.postgres.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity for the translation memory. Maps to the 'translation_memory' table in
+ * PostgreSQL/Supabase. Stores machine translations by SHA-256 of the source content, languages and
+ * format, so every node and every restart reuses them instead of calling the translation engine
+ * again. The table is created by {@code db/translation_memory.sql}.
+ */
+@Entity
+@Table(
+    name = "translation_memory",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_translation_memory_key",
+          columnNames = {"content_hash", "source_language", "target_language", "format"})
+    })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationMemoryEntity {
+
+  /** Primary key - UUID generated by database */
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(name = "id", updatable = false, nullable = false)
+  private UUID id;
+
+  /** Hex SHA-256 of the source content */
+  @Column(name = "content_hash", nullable = false, length = 64)
+  @NotNull(message = "Content hash is required")
+  private String contentHash;
+
+  /** Language of the source content, e.g. DE */
+  @Column(name = "source_language", nullable = false, length = 8)
+  @NotNull(message = "Source language is required")
+  private String sourceLanguage;
+
+  /** Language of the translation, e.g. EN */
+  @Column(name = "target_language", nullable = false, length = 8)
+  @NotNull(message = "Target language is required")
+  private String targetLanguage;
+
+  /** Format the content was translated as: text or html */
+  @Column(name = "format", nullable = false, length = 8)
+  @NotNull(message = "Format is required")
+  private String format;
+
+  /** The translated content */
+  @Column(name = "translation", nullable = false, columnDefinition = "TEXT")
+  @NotNull(message = "Translation is required")
+  private String translation;
+
+  /** Record creation timestamp */
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @Builder.Default
+  private Instant createdAt = Instant.now();
+}
@@ -1,20 +1,30 @@
 package com.hackathon25.safenet.infrastructure.adapter.postgres.persistence;
 
+import com.hackathon25.safenet.application.config.http.Bulkhead;
+import com.hackathon25.safenet.application.config.http.BulkheadRegistry;
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
 import com.hackathon25.safenet.domain.port.outbound.NotificationRepositoryPort;
 import java.util.List;
 import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+@Slf4j
 @Component
 public class EmergencyNotificationAdapter implements NotificationRepositoryPort {
 
   private final WebClient client;
 
-  public EmergencyNotificationAdapter() {
+  // Eigenes Kontingent für Expo, damit langsame andere Upstreams Notrufe nicht blockieren
+  private final Bulkhead bulkhead;
+
+  public EmergencyNotificationAdapter(
+      WebClient.Builder webClientBuilder, BulkheadRegistry bulkheadRegistry) {
     // Base URL für Expo Push Notifications
-    this.client = WebClient.builder().baseUrl("https://exp.host").build();
+    this.client = webClientBuilder.baseUrl("https://exp.host").build();
+    this.bulkhead = bulkheadRegistry.forHost("exp.host");
   }
 
   /**
@@ -39,28 +49,34 @@ public class EmergencyNotificationAdapter implements NotificationRepositoryPort
 
     try {
       String response =
-          client
-              .post()
-              .uri("/--/api/v2/push/send")
-              .header("Accept", "application/json")
-              .header("Content-Type", "application/json")
-              .bodyValue(List.of(message))
-              .retrieve()
-              .bodyToMono(String.class)
-              .block(); // blockiert kurz, um die Antwort zu erhalten
+          bulkhead.execute(
+              () ->
+                  client
+                      .post()
+                      .uri("/--/api/v2/push/send")
+                      .header("Accept", "application/json")
+                      .header("Content-Type", "application/json")
+                      .bodyValue(List.of(message))
+                      .retrieve()
+                      .bodyToMono(String.class)
+                      .block()); // blockiert kurz, um die Antwort zu erhalten
 
-      System.out.println("Push Response: " + response);
+      log.debug("Expo push response: {}", response);
       return true; // Nachricht erfolgreich gesendet
 
     } catch (WebClientResponseException e) {
       // Server-seitiger Fehler (HTTP 4xx oder 5xx)
-      System.err.println(
-          "Expo Push Error: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
+      log.warn("Expo push failed: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+      return false;
+
+    } catch (BulkheadFullException e) {
+      // Zu viele gleichzeitige Push-Aufrufe, sofort abgelehnt
+      log.warn("Expo push rejected: {}", e.getMessage());
       return false;
 
     } catch (Exception e) {
       // Netzwerk oder sonstige Fehler
-      e.printStackTrace();
+      log.warn("Expo push failed", e);
       return false;
     }
   }
@@ -0,0 +1,45 @@
+package com.hackathon25.safenet.infrastructure.adapter.postgres.persistence;
+
+import com.hackathon25.safenet.domain.model.i18n.TranslationKey;
+import com.hackathon25.safenet.domain.port.outbound.TranslationMemoryPort;
+import com.hackathon25.safenet.infrastructure.adapter.postgres.entity.TranslationMemoryEntity;
+import com.hackathon25.safenet.infrastructure.adapter.postgres.repository.TranslationMemoryJpaRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationMemoryJpaAdapter implements TranslationMemoryPort {
+
+  private final TranslationMemoryJpaRepository jpaRepository;
+
+  @Override
+  public Optional<String> findTranslation(TranslationKey key) {
+    return jpaRepository
+        .findByContentHashAndSourceLanguageAndTargetLanguageAndFormat(
+            key.contentHash(), key.source().name(), key.target().name(), key.format())
+        .map(TranslationMemoryEntity::getTranslation);
+  }
+
+  @Override
+  public void saveTranslation(TranslationKey key, String translation) {
+    log.debug("Saving translation: hash={}, {}->{}", key.contentHash(), key.source(), key.target());
+    try {
+      jpaRepository.save(
+          TranslationMemoryEntity.builder()
+              .contentHash(key.contentHash())
+              .sourceLanguage(key.source().name())
+              .targetLanguage(key.target().name())
+              .format(key.format())
+              .translation(translation)
+              .build());
+    } catch (DataIntegrityViolationException e) {
+      // Another node stored the same translation first
+      log.debug("Translation {} already stored", key.contentHash());
+    }
+  }
+}
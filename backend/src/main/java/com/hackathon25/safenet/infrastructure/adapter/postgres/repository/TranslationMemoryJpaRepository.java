@@ -0,0 +1,20 @@
+package com.hackathon25.safenet.infrastructure.adapter.postgres.repository;
+
+import com.hackathon25.safenet.infrastructure.adapter.postgres.entity.TranslationMemoryEntity;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for {@link TranslationMemoryEntity}.
+ *
+ * <p>Lookups go through the unique key of content hash, languages and format.
+ */
+@Repository
+public interface TranslationMemoryJpaRepository
+    extends JpaRepository<TranslationMemoryEntity, UUID> {
+
+  Optional<TranslationMemoryEntity> findByContentHashAndSourceLanguageAndTargetLanguageAndFormat(
+      String contentHash, String sourceLanguage, String targetLanguage, String format);
+}
@@ -1,13 +1,13 @@
 package com.hackathon25.safenet.infrastructure.adapter.rss.persistance;
 
 import com.hackathon25.safenet.application.service.autobahn.AutobahnClosureParser;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
 import com.hackathon25.safenet.domain.port.outbound.AutobahnClosureFeedPort;
-import com.hackathon25.safenet.infrastructure.adapter.web.dto.autobahn.AutobahnClosureItemDto;
+import com.hackathon25.safenet.infrastructure.adapter.http.ConditionalFeedClient;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -15,20 +15,20 @@ import org.springframework.web.client.RestTemplate;
 public class AutobahnClosureFeedAdapter implements AutobahnClosureFeedPort {
 
   private static final String AUTOBAHN_API_BASE_URL = "https://verkehr.autobahn.de/o/autobahn";
-  private final RestTemplate restTemplate;
+  private final ConditionalFeedClient feedClient;
 
   @Override
-  public List<AutobahnClosureItemDto> fetchClosureData(String autobahnId) {
+  public List<AutobahnClosureItem> fetchClosureData(String autobahnId) {
     String url = String.format("%s/%s/services/closure", AUTOBAHN_API_BASE_URL, autobahnId);
 
     try {
-      log.info("Fetching Autobahn closure data from: {}", url);
-      String response = restTemplate.getForObject(url, String.class);
-      log.debug("Successfully fetched closure data for {}", autobahnId);
-
-      // Parse JSON response to DTOs using the parser
-      List<AutobahnClosureItemDto> closures = AutobahnClosureParser.parseClosureData(response);
-      log.info("Successfully parsed {} closures for Autobahn {}", closures.size(), autobahnId);
+      log.debug("Fetching Autobahn closure data from: {}", url);
+      // Bind the response stream to closures; unchanged data is served from the last parse
+      List<AutobahnClosureItem> closures =
+          feedClient.fetch(
+              url,
+              response -> AutobahnClosureParser.parseClosureData(response.getBody(), autobahnId));
+      log.debug("Successfully parsed {} closures for Autobahn {}", closures.size(), autobahnId);
 
       return closures;
     } catch (Exception e) {
@@ -36,4 +36,14 @@ public class AutobahnClosureFeedAdapter implements AutobahnClosureFeedPort {
       throw new RuntimeException("Failed to fetch Autobahn closure data", e);
     }
   }
+
+  @Override
+  public List<String> fetchRoadIds() {
+    List<String> roads =
+        feedClient.fetch(
+            AUTOBAHN_API_BASE_URL + "/",
+            response -> AutobahnClosureParser.parseRoadIds(response.getBody()));
+    log.debug("Autobahn API lists {} roads", roads.size());
+    return roads;
+  }
 }
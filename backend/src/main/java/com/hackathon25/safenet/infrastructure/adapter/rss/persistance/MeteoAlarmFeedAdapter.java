@@ -1,19 +1,31 @@
 package com.hackathon25.safenet.infrastructure.adapter.rss.persistance;
 
+import com.hackathon25.safenet.application.service.meteo.MeteoAlarmParser;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
 import com.hackathon25.safenet.domain.port.outbound.MeteoAlarmFeedPort;
+import com.hackathon25.safenet.infrastructure.adapter.http.ConditionalFeedClient;
+import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 @Component
 @RequiredArgsConstructor
 public class MeteoAlarmFeedAdapter implements MeteoAlarmFeedPort {
   private static final String METEO_ALARM_URL =
       "https://feeds.meteoalarm.org/feeds/meteoalarm-legacy-rss-germany";
-  private final RestTemplate restTemplate;
+  private final ConditionalFeedClient feedClient;
 
   @Override
-  public String fetchFeedContent() {
-    return restTemplate.getForObject(METEO_ALARM_URL, String.class);
+  public MeteoAlarmFeed fetchFeed() {
+    return feedClient.fetch(
+        METEO_ALARM_URL,
+        response -> {
+          try {
+            return MeteoAlarmParser.parse(response.getBody());
+          } catch (XMLStreamException e) {
+            throw new IOException("Malformed MeteoAlarm feed", e);
+          }
+        });
   }
 }
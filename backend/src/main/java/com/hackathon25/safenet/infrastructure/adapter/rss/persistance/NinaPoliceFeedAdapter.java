@@ -1,24 +1,60 @@
 package com.hackathon25.safenet.infrastructure.adapter.rss.persistance;
 
+import com.hackathon25.safenet.application.service.ninapolice.NinaPoliceDetailParser;
+import com.hackathon25.safenet.application.service.ninapolice.NinaPoliceParser;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
 import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
-import com.hackathon25.safenet.infrastructure.adapter.rss.mapper.NinaPoliceApiMapper;
+import com.hackathon25.safenet.infrastructure.adapter.http.ConditionalFeedClient;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class NinaPoliceFeedAdapter implements NinaPoliceFeedPort {
-  private static final String NINA_POLICE_URL =
-      "https://nina.api.proxy.bund.dev/api31/police/mapData.json";
+  private static final String NINA_API_BASE_URL = "https://nina.api.proxy.bund.dev/api31";
+  private static final String NINA_POLICE_URL = NINA_API_BASE_URL + "/police/mapData.json";
+  private final ConditionalFeedClient feedClient;
   private final RestTemplate restTemplate;
-  private final NinaPoliceApiMapper mapper = new NinaPoliceApiMapper();
 
   @Override
-  public List<NinaPoliceItem> fetchFeedContent() {
-    String rawJson = restTemplate.getForObject(NINA_POLICE_URL, String.class);
-    return mapper.toDomain(rawJson);
+  public List<NinaPoliceItem> fetchFeedContent(Map<String, NinaPoliceItem> known) {
+    return feedClient.fetch(
+        NINA_POLICE_URL, response -> NinaPoliceParser.parsePoliceData(response.getBody(), known));
+  }
+
+  @Override
+  public NinaPoliceDetail fetchDetail(NinaPoliceItem item) {
+    // Details are immutable per version and cached by the caller, so no conditional request
+    NinaPoliceDetail.NinaPoliceDetailBuilder detail =
+        restTemplate.execute(
+            NINA_API_BASE_URL + "/warnings/{id}.json",
+            HttpMethod.GET,
+            null,
+            response -> NinaPoliceDetailParser.parseDetail(response.getBody(), item),
+            item.getId());
+    return detail.geometry(fetchGeometry(item.getId())).build();
+  }
+
+  private PolygonGeometry fetchGeometry(String id) {
+    try {
+      return restTemplate.execute(
+          NINA_API_BASE_URL + "/warnings/{id}.geojson",
+          HttpMethod.GET,
+          null,
+          response -> NinaPoliceDetailParser.parseGeometry(response.getBody()),
+          id);
+    } catch (HttpClientErrorException.NotFound e) {
+      log.debug("No geometry published for NINA warning {}", id);
+      return PolygonGeometry.empty();
+    }
   }
 }
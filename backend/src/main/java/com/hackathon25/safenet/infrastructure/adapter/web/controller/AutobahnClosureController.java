@@ -25,19 +25,27 @@ public class AutobahnClosureController {
 
     log.info("Received request for Autobahn closure data: {}", autobahnId);
 
-    try {
-      List<AutobahnClosureItem> closures = autobahnClosurePort.getAutobahnClosureData(autobahnId);
-      List<AutobahnClosureItemDto> response =
-          closures.stream().map(AutobahnClosureItemDto::from).collect(Collectors.toList());
+    List<AutobahnClosureItem> closures = autobahnClosurePort.getAutobahnClosureData(autobahnId);
+    List<AutobahnClosureItemDto> response =
+        closures.stream().map(AutobahnClosureItemDto::from).collect(Collectors.toList());
 
-      log.info("Successfully returned {} closures for Autobahn {}", response.size(), autobahnId);
-      return ResponseEntity.ok(response);
-
-    } catch (Exception e) {
-      log.error(
-          "Unexpected error processing request for Autobahn {}: {}", autobahnId, e.getMessage());
+    log.info("Successfully returned {} closures for Autobahn {}", response.size(), autobahnId);
+    return ResponseEntity.ok(response);
+  }
 
-      return ResponseEntity.internalServerError().body(List.of());
+  @GetMapping("/closures")
+  public ResponseEntity<List<AutobahnClosureItemDto>> getClosuresNearby(
+      @RequestParam double lat,
+      @RequestParam double lon,
+      @RequestParam(defaultValue = "25") double radiusKm) {
+    if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || radiusKm <= 0 || radiusKm > 500) {
+      throw new IllegalArgumentException("Coordinates or radius out of range");
     }
+    List<AutobahnClosureItemDto> response =
+        autobahnClosurePort.getClosuresNear(lat, lon, radiusKm).stream()
+            .map(AutobahnClosureItemDto::from)
+            .toList();
+    log.debug("Returned {} closures within {} km", response.size(), radiusKm);
+    return ResponseEntity.ok(response);
   }
 }
@@ -1,7 +1,10 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.controller;
 
 import com.hackathon25.safenet.application.service.helpcenters.HelpCentersService;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterCursor;
 import com.hackathon25.safenet.infrastructure.adapter.web.dto.helpCenters.HelpCenterResponseDto;
+import java.util.Set;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -11,14 +14,52 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class HelpCenterController {
 
+  /** OSM amenity values; they end up in the Overpass query. */
+  private static final Pattern AMENITY = Pattern.compile("[a-z_]{1,32}");
+
+  private static final int MAX_TYPES = 8;
+
+  private static final int MAX_LIMIT = 100;
+
   private final HelpCentersService helpCenterService;
 
+  /**
+   * Finds help centers around a location, nearest first.
+   *
+   * <p>Without {@code limit} all help centers within the radius are returned. With {@code limit}
+   * only the closest ones are, together with a {@code nextCursor} that fetches the following page
+   * when passed back as {@code cursor} with the same location, radius and types.
+   *
+   * @param radius search radius in metres
+   * @param type one or more amenities, repeated or comma separated, e.g. {@code
+   *     hospital,police,fire_station,pharmacy}
+   * @param limit page size of the k-nearest mode, 1 to 100
+   * @param cursor {@code nextCursor} of the previous page
+   */
   @GetMapping("/api/v1/helpcenters")
   public HelpCenterResponseDto getHelpCenters(
       @RequestParam double lat,
       @RequestParam double lon,
       @RequestParam double radius,
-      @RequestParam(defaultValue = "hospital") String type) {
-    return HelpCenterResponseDto.from(helpCenterService.findHelpCenters(lat, lon, radius, type));
+      @RequestParam(defaultValue = "hospital") Set<String> type,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String cursor) {
+    if (type.isEmpty()
+        || type.size() > MAX_TYPES
+        || !type.stream().allMatch(amenity -> AMENITY.matcher(amenity).matches())) {
+      throw new IllegalArgumentException("Invalid help center types: " + type);
+    }
+    if (limit == null) {
+      if (cursor != null) {
+        throw new IllegalArgumentException("A cursor requires a limit");
+      }
+      return HelpCenterResponseDto.from(helpCenterService.findHelpCenters(lat, lon, radius, type));
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+    HelpCenterCursor after = cursor != null ? HelpCenterCursor.decode(cursor) : null;
+    return HelpCenterResponseDto.from(
+        helpCenterService.findNearestHelpCenters(lat, lon, radius, type, limit, after));
   }
 }
@@ -1,6 +1,7 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.controller;
 
 import com.hackathon25.safenet.application.service.meteo.MeteoAlarmService;
+import com.hackathon25.safenet.domain.enums.Language;
 import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -31,18 +33,14 @@ public class MeteoAlarmController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved weather alerts"),
         @ApiResponse(
             responseCode = "500",
-            description = "Internal server error while fetching weather data")
+            description = "Internal server error while fetching weather data"),
+        @ApiResponse(responseCode = "503", description = "Weather data has not been loaded yet")
       })
   @GetMapping("/alerts/english")
   public ResponseEntity<MeteoAlarmResponse> getWeatherAlertsEnglish() {
     log.info("Fetching weather alerts in English");
-    try {
-      MeteoAlarmResponse response = meteoAlarmService.getMeteoAlarmData("english");
-      return ResponseEntity.ok(response);
-    } catch (Exception e) {
-      log.error("Error fetching English weather alerts", e);
-      return ResponseEntity.internalServerError().build();
-    }
+    MeteoAlarmResponse response = meteoAlarmService.getMeteoAlarmData(Language.EN);
+    return ResponseEntity.ok(response);
   }
 
   @Operation(
@@ -54,17 +52,43 @@ public class MeteoAlarmController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved weather alerts"),
         @ApiResponse(
             responseCode = "500",
-            description = "Internal server error while fetching weather data")
+            description = "Internal server error while fetching weather data"),
+        @ApiResponse(responseCode = "503", description = "Weather data has not been loaded yet")
       })
   @GetMapping("/alerts/german")
   public ResponseEntity<MeteoAlarmResponse> getWeatherAlertsGerman() {
     log.info("Fetching weather alerts in German");
-    try {
-      MeteoAlarmResponse response = meteoAlarmService.getMeteoAlarmData("german");
-      return ResponseEntity.ok(response);
-    } catch (Exception e) {
-      log.error("Error fetching German weather alerts", e);
-      return ResponseEntity.internalServerError().build();
+    MeteoAlarmResponse response = meteoAlarmService.getMeteoAlarmData(Language.DE);
+    return ResponseEntity.ok(response);
+  }
+
+  @Operation(
+      summary = "Get weather alerts for a location",
+      description =
+          "Returns only the MeteoAlarm alerts for the regions containing the given location, matched by EMMA region code. Answers 503 if no region outlines are configured")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved weather alerts"),
+        @ApiResponse(responseCode = "400", description = "Invalid coordinates"),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error while fetching weather data"),
+        @ApiResponse(
+            responseCode = "503",
+            description =
+                "Weather data has not been loaded yet, or no region outlines are configured")
+      })
+  @GetMapping("/alerts")
+  public ResponseEntity<MeteoAlarmResponse> getWeatherAlertsNearby(
+      @RequestParam double lat,
+      @RequestParam double lon,
+      @RequestParam(defaultValue = "en") String lang) {
+    if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+      throw new IllegalArgumentException("Coordinates out of range");
     }
+    Language language = Language.fromCodeOrDefault(lang, Language.EN);
+    log.info("Fetching weather alerts for location in {}", language);
+    MeteoAlarmResponse response = meteoAlarmService.getMeteoAlarmData(language, lat, lon);
+    return ResponseEntity.ok(response);
   }
 }
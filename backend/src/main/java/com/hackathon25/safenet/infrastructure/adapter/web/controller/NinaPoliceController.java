@@ -2,6 +2,7 @@ package com.hackathon25.safenet.infrastructure.adapter.web.controller;
 
 import com.hackathon25.safenet.application.service.ninapolice.NinaPoliceService;
 import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.ninaPolice.NinaPoliceDetailDto;
 import com.hackathon25.safenet.infrastructure.adapter.web.dto.ninaPolice.NinaPoliceResponseDto;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -25,13 +27,24 @@ public class NinaPoliceController {
   @GetMapping("/alerts")
   public ResponseEntity<NinaPoliceResponseDto> getPoliceAlerts() {
     log.info("Fetching NINA police alerts");
-    try {
-      List<NinaPoliceItem> items = ninaPoliceService.getNinaPoliceData();
-      NinaPoliceResponseDto dto = NinaPoliceResponseDto.from(items);
-      return ResponseEntity.ok(dto);
-    } catch (Exception e) {
-      log.error("Error fetching NINA police alerts", e);
-      return ResponseEntity.internalServerError().build();
+    List<NinaPoliceItem> items = ninaPoliceService.getNinaPoliceData();
+    NinaPoliceResponseDto dto = NinaPoliceResponseDto.from(items);
+    return ResponseEntity.ok(dto);
+  }
+
+  @GetMapping("/alerts/nearby")
+  public ResponseEntity<List<NinaPoliceDetailDto>> getPoliceAlertsNearby(
+      @RequestParam double lat,
+      @RequestParam double lon,
+      @RequestParam(defaultValue = "10") double radiusKm) {
+    if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || radiusKm <= 0 || radiusKm > 500) {
+      throw new IllegalArgumentException("Coordinates or radius out of range");
     }
+    List<NinaPoliceDetailDto> response =
+        ninaPoliceService.getNinaPoliceWarningsNearby(lat, lon, radiusKm).stream()
+            .map(NinaPoliceDetailDto::from)
+            .toList();
+    log.debug("Returned {} police alerts within {} km", response.size(), radiusKm);
+    return ResponseEntity.ok(response);
   }
 }
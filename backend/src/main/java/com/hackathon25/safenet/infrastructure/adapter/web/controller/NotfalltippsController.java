@@ -29,29 +29,18 @@ public class NotfalltippsController {
   @GetMapping("/tips")
   public ResponseEntity<NotfalltippsRootDto> getNotfalltippsDefault() {
     log.info("Fetching NINA Notfalltipps (default language: de)");
-    try {
-      NotfalltippsRoot localizedRoot =
-          notfalltippsLocalizationService.getLocalizedTips(Language.DE);
-      NotfalltippsRootDto dto = NotfalltippsRootDto.from(localizedRoot);
-      return ResponseEntity.ok(dto);
-    } catch (Exception e) {
-      log.error("Error fetching NINA Notfalltipps", e);
-      return ResponseEntity.internalServerError().build();
-    }
+    NotfalltippsRoot localizedRoot = notfalltippsLocalizationService.getLocalizedTips(Language.DE);
+    NotfalltippsRootDto dto = NotfalltippsRootDto.from(localizedRoot);
+    return ResponseEntity.ok(dto);
   }
 
   @GetMapping("/tips/{lang}")
   public ResponseEntity<NotfalltippsRootDto> getNotfalltippsByLang(
       @PathVariable("lang") String lang) {
     log.info("Fetching NINA Notfalltipps with lang={}", lang);
-    try {
-      Language target = languageResolver.resolve(lang);
-      NotfalltippsRoot localizedRoot = notfalltippsLocalizationService.getLocalizedTips(target);
-      NotfalltippsRootDto dto = NotfalltippsRootDto.from(localizedRoot);
-      return ResponseEntity.ok(dto);
-    } catch (Exception e) {
-      log.error("Error fetching NINA Notfalltipps for lang={}", lang, e);
-      return ResponseEntity.internalServerError().build();
-    }
+    Language target = languageResolver.resolve(lang);
+    NotfalltippsRoot localizedRoot = notfalltippsLocalizationService.getLocalizedTips(target);
+    NotfalltippsRootDto dto = NotfalltippsRootDto.from(localizedRoot);
+    return ResponseEntity.ok(dto);
   }
 }
@@ -1,7 +1,12 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.controller;
 
-import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
-import com.hackathon25.safenet.domain.port.outbound.WarningFeedPort;
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.port.inbound.WarningChangesPort;
+import com.hackathon25.safenet.domain.port.inbound.WarningHeatmapPort;
+import com.hackathon25.safenet.domain.port.inbound.WarningPort;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings.WarningChangesDto;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings.WarningDto;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings.WarningHeatmapDto;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,20 +24,46 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/warnings")
 public class WarningController {
 
-    private final WarningFeedPort warningProviderPort;
+    private final WarningPort warningPort;
+    private final WarningHeatmapPort warningHeatmapPort;
+    private final WarningChangesPort warningChangesPort;
 
-    public WarningController(WarningFeedPort warningProviderPort) {
-        this.warningProviderPort = warningProviderPort;
+    public WarningController(WarningPort warningPort, WarningHeatmapPort warningHeatmapPort, WarningChangesPort warningChangesPort) {
+        this.warningPort = warningPort;
+        this.warningHeatmapPort = warningHeatmapPort;
+        this.warningChangesPort = warningChangesPort;
     }
 
     @GetMapping
     @Operation(summary = "Get warnings nearby a location", description = "Retrieves emergency warnings from MOWAS that affect a specific location or area within a given radius")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieved warnings", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Warning.class))), @ApiResponse(responseCode = "400", description = "Invalid parameters provided"), @ApiResponse(responseCode = "500", description = "Internal server error or MOWAS API unavailable")})
-    public ResponseEntity<List<Warning>> getWarningsNearby(
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieved warnings", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WarningDto.class))), @ApiResponse(responseCode = "400", description = "Invalid parameters provided"), @ApiResponse(responseCode = "500", description = "Internal server error or MOWAS API unavailable"), @ApiResponse(responseCode = "503", description = "Warning data has not been loaded yet")})
+    public ResponseEntity<List<WarningDto>> getWarningsNearby(
             @RequestParam double lat,
             @RequestParam double lon,
             @RequestParam(defaultValue = "10") double radiusKm
     ) {
-        return ResponseEntity.ok(warningProviderPort.getWarningsNearby(lat, lon, radiusKm));
+        return ResponseEntity.ok(
+                warningPort.getWarningsNearby(lat, lon, radiusKm).stream().map(WarningDto::from).toList());
+    }
+
+    @GetMapping("/heatmap")
+    @Operation(summary = "Get the warning heatmap for a map viewport", description = "Returns the non-empty cells of the precomputed MOWAS warning heatmap within a bounding box, at a grid resolution matching the map zoom level")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieved heatmap cells", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WarningHeatmapDto.class))), @ApiResponse(responseCode = "400", description = "Invalid parameters provided"), @ApiResponse(responseCode = "503", description = "Warning data has not been loaded yet")})
+    public ResponseEntity<WarningHeatmapDto> getHeatmap(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(defaultValue = "8") int zoom
+    ) {
+        BoundingBox bounds = new BoundingBox(minLat, minLon, maxLat, maxLon);
+        return ResponseEntity.ok(WarningHeatmapDto.from(warningHeatmapPort.getHeatmap(bounds, zoom)));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get warning changes since a sequence number", description = "Returns the MOWAS warnings added, updated and removed since the given changelog sequence number. Without 'since', or if the client is too far behind, a full snapshot is returned")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieved warning changes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WarningChangesDto.class))), @ApiResponse(responseCode = "400", description = "Invalid parameters provided"), @ApiResponse(responseCode = "503", description = "Warning data has not been loaded yet")})
+    public ResponseEntity<WarningChangesDto> getChanges(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(WarningChangesDto.from(warningChangesPort.getChangesSince(since)));
     }
 }
@@ -19,6 +19,10 @@ public class AutobahnClosureItemDto {
   @Schema(description = "Unique identifier")
   private String identifier;
 
+  @JsonProperty("roadId")
+  @Schema(description = "Autobahn the closure belongs to, e.g. A1")
+  private String roadId;
+
   @JsonProperty("title")
   @Schema(description = "Closure title")
   private String title;
@@ -89,6 +93,7 @@ public class AutobahnClosureItemDto {
 
     return AutobahnClosureItemDto.builder()
         .identifier(item.getIdentifier())
+        .roadId(item.getRoadId())
         .title(item.getTitle())
         .subtitle(item.getSubtitle())
         .extent(item.getExtent())
@@ -1,6 +1,7 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.dto.helpCenters;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
 import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.ArrayList;
@@ -28,8 +29,13 @@ class HelpCenterItemDto {
   @JsonProperty("tags")
   private List<String> tags;
 
-  public static HelpCenterItemDto from(HelpCenter helpCenter) {
-    if (helpCenter == null) return null;
+  @JsonProperty("distanceMeters")
+  @Schema(description = "Great-circle distance from the requested location in metres")
+  private long distanceMeters;
+
+  public static HelpCenterItemDto from(PointIndex.Neighbour<HelpCenter> neighbour) {
+    if (neighbour == null) return null;
+    HelpCenter helpCenter = neighbour.item();
 
     List<String> tagsList = new ArrayList<>();
     if (helpCenter.getTags() != null) {
@@ -41,6 +47,7 @@ class HelpCenterItemDto {
         .lat(helpCenter.getLat())
         .lon(helpCenter.getLon())
         .tags(tagsList)
+        .distanceMeters(Math.round(neighbour.distanceKm() * 1000))
         .build();
   }
 }
@@ -1,7 +1,10 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.dto.helpCenters;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hackathon25.safenet.domain.model.geo.PointIndex;
 import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterPage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,10 +20,23 @@ public class HelpCenterResponseDto {
   @Schema(description = "List of help center items")
   private List<HelpCenterItemDto> items;
 
-  public static HelpCenterResponseDto from(List<HelpCenter> items) {
+  @JsonProperty("nextCursor")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Cursor of the next page in the k-nearest mode, absent on the last page")
+  private String nextCursor;
+
+  public static HelpCenterResponseDto from(List<PointIndex.Neighbour<HelpCenter>> items) {
     if (items == null) return null;
     return HelpCenterResponseDto.builder()
         .items(items.stream().map(HelpCenterItemDto::from).collect(Collectors.toList()))
         .build();
   }
+
+  public static HelpCenterResponseDto from(HelpCenterPage page) {
+    if (page == null) return null;
+    return HelpCenterResponseDto.builder()
+        .items(page.items().stream().map(HelpCenterItemDto::from).collect(Collectors.toList()))
+        .nextCursor(page.next() != null ? page.next().encode() : null)
+        .build();
+  }
 }
@@ -0,0 +1,66 @@
+package com.hackathon25.safenet.infrastructure.adapter.web.dto.ninaPolice;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
+import com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings.PolygonGeometrySerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/** Data Transfer Object for NinaPoliceDetail */
+@Data
+@Builder
+@Schema(description = "NINA police alert with details and area")
+public class NinaPoliceDetailDto {
+
+  @JsonProperty("alert")
+  @Schema(description = "Summary of the police alert")
+  private NinaPoliceItemDto alert;
+
+  @JsonProperty("headline")
+  @Schema(description = "Headline of the alert")
+  private String headline;
+
+  @JsonProperty("description")
+  @Schema(description = "Description of the alert")
+  private String description;
+
+  @JsonProperty("instruction")
+  @Schema(description = "Recommended actions")
+  private String instruction;
+
+  @JsonProperty("areaDescription")
+  @Schema(description = "Names of the affected areas", example = "Stadt Köln")
+  private String areaDescription;
+
+  @JsonProperty("polygon")
+  @JsonSerialize(using = PolygonGeometrySerializer.class)
+  @Schema(
+      description = "Polygon rings defining the alert area as [lon, lat] pairs",
+      type = "array",
+      example = "[[[6.9, 50.9], [7.0, 50.9], [7.0, 51.0], [6.9, 50.9]]]")
+  private PolygonGeometry polygon;
+
+  /**
+   * Maps a domain {@link NinaPoliceDetail} to a {@link NinaPoliceDetailDto}.
+   *
+   * @param detail the domain police alert details
+   * @return the mapped NinaPoliceDetailDto
+   */
+  public static NinaPoliceDetailDto from(NinaPoliceDetail detail) {
+    if (detail == null) {
+      return null;
+    }
+
+    return NinaPoliceDetailDto.builder()
+        .alert(NinaPoliceItemDto.from(detail.getItem()))
+        .headline(detail.getHeadline())
+        .description(detail.getDescription())
+        .instruction(detail.getInstruction())
+        .areaDescription(detail.getAreaDescription())
+        .polygon(detail.getGeometry())
+        .build();
+  }
+}
@@ -0,0 +1,35 @@
+package com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import java.io.IOException;
+
+/**
+ * Writes a packed {@link PolygonGeometry} in the public polygon shape {@code [[[lon, lat], ...],
+ * ...]} directly from its primitive arrays, without materializing nested lists.
+ */
+public class PolygonGeometrySerializer extends StdSerializer<PolygonGeometry> {
+
+  public PolygonGeometrySerializer() {
+    super(PolygonGeometry.class);
+  }
+
+  @Override
+  public void serialize(PolygonGeometry geometry, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartArray();
+    for (int ring = 0; ring < geometry.ringCount(); ring++) {
+      gen.writeStartArray();
+      for (int i = geometry.ringStart(ring); i < geometry.ringEnd(ring); i++) {
+        gen.writeStartArray();
+        gen.writeNumber(geometry.lon(i));
+        gen.writeNumber(geometry.lat(i));
+        gen.writeEndArray();
+      }
+      gen.writeEndArray();
+    }
+    gen.writeEndArray();
+  }
+}
@@ -0,0 +1,56 @@
+package com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningChanges;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/** Data Transfer Object for a warning delta since a changelog sequence number */
+@Data
+@Builder
+@Schema(description = "Warning changes since a changelog sequence number")
+public class WarningChangesDto {
+
+  @JsonProperty("sequence")
+  @Schema(
+      description = "Current sequence number, to be passed as 'since' on the next poll",
+      example = "1760688000123")
+  private long sequence;
+
+  @JsonProperty("full")
+  @Schema(
+      description =
+          "True if this is a full snapshot; 'added' then holds all current warnings and local"
+              + " state must be replaced")
+  private boolean full;
+
+  @JsonProperty("added")
+  @Schema(description = "Warnings added since the given sequence number")
+  private List<WarningDto> added;
+
+  @JsonProperty("updated")
+  @Schema(description = "Warnings changed since the given sequence number")
+  private List<WarningDto> updated;
+
+  @JsonProperty("removed")
+  @Schema(description = "Identifiers of warnings removed since the given sequence number")
+  private List<String> removed;
+
+  /**
+   * Maps domain {@link WarningChanges} to a {@link WarningChangesDto}.
+   *
+   * @param changes the warning changes
+   * @return the mapped WarningChangesDto
+   */
+  public static WarningChangesDto from(WarningChanges changes) {
+    return WarningChangesDto.builder()
+        .sequence(changes.sequence())
+        .full(changes.full())
+        .added(changes.added().stream().map(WarningDto::from).toList())
+        .updated(changes.updated().stream().map(WarningDto::from).toList())
+        .removed(changes.removed())
+        .build();
+  }
+}
@@ -1,9 +1,10 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
 import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.util.List;
 import lombok.Builder;
 import lombok.Data;
 
@@ -32,8 +33,12 @@ public class WarningDto {
   private String severity;
 
   @JsonProperty("polygon")
-  @Schema(description = "Polygon coordinates defining the warning area")
-  private List<List<List<Double>>> polygon;
+  @JsonSerialize(using = PolygonGeometrySerializer.class)
+  @Schema(
+      description = "Polygon rings defining the warning area as [lon, lat] pairs",
+      type = "array",
+      example = "[[[7.0982, 50.7374], [7.1105, 50.7374], [7.1105, 50.7452], [7.0982, 50.7374]]]")
+  private PolygonGeometry polygon;
 
   /**
    * Maps a domain {@link Warning} to a {@link WarningDto}.
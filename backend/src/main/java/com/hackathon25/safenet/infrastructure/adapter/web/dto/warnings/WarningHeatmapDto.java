@@ -0,0 +1,49 @@
+package com.hackathon25.safenet.infrastructure.adapter.web.dto.warnings;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.HeatmapCells;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/** Data Transfer Object for the warning heatmap, as parallel cell and intensity arrays */
+@Data
+@Builder
+@Schema(description = "Warning heatmap cells within a bounding box")
+public class WarningHeatmapDto {
+
+  @JsonProperty("precision")
+  @Schema(description = "Geohash precision of the returned cells", example = "4")
+  private int precision;
+
+  @JsonProperty("cells")
+  @Schema(description = "Geohashes of all non-empty cells", example = "[\"u1hc\", \"u1hf\"]")
+  private List<String> cells;
+
+  @JsonProperty("intensities")
+  @Schema(
+      description = "Summed severity weight per cell, in the same order as cells",
+      example = "[0.75, 1.25]")
+  private float[] intensities;
+
+  @JsonProperty("generatedAt")
+  @Schema(description = "Time the underlying warnings were fetched")
+  private Instant generatedAt;
+
+  /**
+   * Maps domain {@link HeatmapCells} to a {@link WarningHeatmapDto}.
+   *
+   * @param cells the heatmap cells
+   * @return the mapped WarningHeatmapDto
+   */
+  public static WarningHeatmapDto from(HeatmapCells cells) {
+    return WarningHeatmapDto.builder()
+        .precision(cells.precision())
+        .cells(cells.geohashes())
+        .intensities(cells.intensities())
+        .generatedAt(cells.generatedAt())
+        .build();
+  }
+}
@@ -1,6 +1,9 @@
 package com.hackathon25.safenet.infrastructure.adapter.web.exception;
 
 import com.hackathon25.safenet.domain.exception.friend.*;
+import com.hackathon25.safenet.domain.exception.meteoalarm.MeteoAlarmRegionsUnavailableException;
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
 import com.hackathon25.safenet.domain.exception.user.UserNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
@@ -8,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -513,6 +517,82 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
   }
 
+  /**
+   * Handle calls rejected because the bulkhead of an upstream service is saturated.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with SERVICE_UNAVAILABLE status
+   */
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ErrorResponse> handleBulkheadFull(
+      BulkheadFullException ex, WebRequest request) {
+    log.warn("Upstream busy: {}", ex.getMessage());
+
+    ErrorResponse errorResponse =
+        ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(ex.getErrorCode())
+            .message("The service is temporarily busy, please try again shortly")
+            .path(getPath(request))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(errorResponse);
+  }
+
+  /**
+   * Handle requests for feed data before the first load of that feed succeeded.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with SERVICE_UNAVAILABLE status
+   */
+  @ExceptionHandler(FeedNotReadyException.class)
+  public ResponseEntity<ErrorResponse> handleFeedNotReady(
+      FeedNotReadyException ex, WebRequest request) {
+    log.warn("Feed not ready: {}", ex.getMessage());
+
+    ErrorResponse errorResponse =
+        ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(ex.getErrorCode())
+            .message("The data is still being loaded, please try again shortly")
+            .path(getPath(request))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "5")
+        .body(errorResponse);
+  }
+
+  /**
+   * Handle location queries for MeteoAlarm alerts while no region outlines are loaded.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with SERVICE_UNAVAILABLE status
+   */
+  @ExceptionHandler(MeteoAlarmRegionsUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleMeteoAlarmRegionsUnavailable(
+      MeteoAlarmRegionsUnavailableException ex, WebRequest request) {
+    log.warn("MeteoAlarm location query rejected: {}", ex.getMessage());
+
+    ErrorResponse errorResponse =
+        ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(ex.getErrorCode())
+            .message("Weather alerts cannot be filtered by location at the moment")
+            .path(getPath(request))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+  }
+
   /** Handle all other exceptions */
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
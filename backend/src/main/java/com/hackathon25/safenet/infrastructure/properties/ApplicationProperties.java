@@ -13,4 +13,16 @@ public class ApplicationProperties {
   @NotNull private Security security = new Security();
 
   @NotNull private SpringDoc springDoc = new SpringDoc();
+
+  @NotNull private Warnings warnings = new Warnings();
+
+  @NotNull private Feeds feeds = new Feeds();
+
+  @NotNull private Http http = new Http();
+
+  @NotNull private HelpCenters helpCenters = new HelpCenters();
+
+  @NotNull private MeteoAlarm meteoAlarm = new MeteoAlarm();
+
+  @NotNull private Translation translation = new Translation();
 }
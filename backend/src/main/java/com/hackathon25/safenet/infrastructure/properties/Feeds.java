@@ -0,0 +1,46 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class Feeds {
+
+  /** Threads used for background feed refreshes. */
+  private int poolSize = 4;
+
+  /** Refresh interval of feeds without an entry in {@link #intervals}. */
+  private Duration defaultInterval = Duration.ofMinutes(5);
+
+  /** Refresh interval per feed name, e.g. {@code warnings} or {@code meteo-alarm}. */
+  private Map<String, Duration> intervals = new HashMap<>();
+
+  /** Upper bound of the random delay added to every refresh so feeds do not fire in lockstep. */
+  private Duration jitter = Duration.ofSeconds(15);
+
+  /** How long a request waits for the very first load of a feed before it gets no data. */
+  private Duration initialLoadTimeout = Duration.ofSeconds(10);
+
+  /** Concurrent upstream calls of feeds that fan out over many URLs, e.g. one per autobahn. */
+  private int fetchParallelism = 8;
+
+  /** How long a caller waits for an identical in-flight upstream call it was coalesced into. */
+  private Duration singleFlightTimeout = Duration.ofSeconds(15);
+
+  /** Whether the last good value of every feed is persisted for a warm start. */
+  private boolean snapshotsEnabled = true;
+
+  /** Directory holding the persisted feed snapshots, one file per feed. */
+  private Path snapshotDirectory =
+      Path.of(System.getProperty("java.io.tmpdir"), "safenet", "feed-snapshots");
+
+  /** Persisted snapshots older than this are not served after a restart. */
+  private Duration snapshotMaxAge = Duration.ofDays(1);
+
+  public Duration intervalFor(String feed) {
+    return intervals.getOrDefault(feed, defaultInterval);
+  }
+}
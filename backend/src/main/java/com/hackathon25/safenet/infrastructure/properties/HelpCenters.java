@@ -0,0 +1,49 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+@Data
+public class HelpCenters {
+
+  /** Geohash precision of the cached tiles; 5 is roughly 4.9 km by 4.9 km. */
+  private int tilePrecision = 5;
+
+  /** Queries covering more tiles than this use coarser tiles. */
+  private int maxTilesPerQuery = 16;
+
+  /**
+   * Coarsest tiles a query may fall back to; 4 is roughly 39 km by 19.5 km. Queries that would
+   * still cover more than {@link #maxTilesPerQuery} tiles are rejected.
+   */
+  private int minTilePrecision = 4;
+
+  /** How long a fetched tile is served before it is fetched again. */
+  private Duration tileTtl = Duration.ofMinutes(30);
+
+  /** How long a tile from an incomplete provider response, e.g. an Overpass timeout, is served. */
+  private Duration partialTileTtl = Duration.ofMinutes(1);
+
+  /** Estimated memory the tile cache may use. */
+  private DataSize tileCacheMaxSize = DataSize.ofMegabytes(32);
+
+  /** Local help center provider used instead of the public Overpass API. */
+  private Offline offline = new Offline();
+
+  /** Configuration properties for the offline help center provider. */
+  @Data
+  public static class Offline {
+
+    /** Whether help centers are served from {@link #file} instead of the Overpass API. */
+    private boolean enabled = false;
+
+    /**
+     * Overpass JSON export of the help center nodes, e.g. the result of {@code
+     * node["amenity"~"hospital|police|fire_station|shelter"](area); out;}. Reloaded when it
+     * changes, checked on the {@code help-centers-offline} feed interval.
+     */
+    private Path file;
+  }
+}
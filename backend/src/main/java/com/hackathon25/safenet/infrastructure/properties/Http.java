@@ -0,0 +1,69 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * Configuration properties for outbound HTTP calls to upstream APIs.
+ *
+ * <p>Timeouts default to {@link #connectTimeout} and {@link #readTimeout} and can be overridden per
+ * upstream host in {@link #upstreams}. The same goes for the bulkhead limits that cap how many
+ * calls to one host may run or wait at the same time.
+ */
+@Data
+public class Http {
+
+  private Duration connectTimeout = Duration.ofSeconds(5);
+  private Duration readTimeout = Duration.ofSeconds(30);
+  private int maxConcurrentCalls = 16;
+  private int maxWaitingCalls = 8;
+  private Duration maxWait = Duration.ofMillis(500);
+
+  /** Overrides by host name, e.g. {@code warnung.bund.de}. */
+  private Map<String, Upstream> upstreams = new HashMap<>();
+
+  public Duration connectTimeoutFor(String host) {
+    Upstream upstream = upstreams.get(host);
+    return upstream != null && upstream.getConnectTimeout() != null
+        ? upstream.getConnectTimeout()
+        : connectTimeout;
+  }
+
+  public Duration readTimeoutFor(String host) {
+    Upstream upstream = upstreams.get(host);
+    return upstream != null && upstream.getReadTimeout() != null
+        ? upstream.getReadTimeout()
+        : readTimeout;
+  }
+
+  public int maxConcurrentCallsFor(String host) {
+    Upstream upstream = upstreams.get(host);
+    return upstream != null && upstream.getMaxConcurrentCalls() != null
+        ? upstream.getMaxConcurrentCalls()
+        : maxConcurrentCalls;
+  }
+
+  public int maxWaitingCallsFor(String host) {
+    Upstream upstream = upstreams.get(host);
+    return upstream != null && upstream.getMaxWaitingCalls() != null
+        ? upstream.getMaxWaitingCalls()
+        : maxWaitingCalls;
+  }
+
+  public Duration maxWaitFor(String host) {
+    Upstream upstream = upstreams.get(host);
+    return upstream != null && upstream.getMaxWait() != null ? upstream.getMaxWait() : maxWait;
+  }
+
+  /** Configuration properties for a single upstream host. */
+  @Data
+  public static class Upstream {
+    private Duration connectTimeout;
+    private Duration readTimeout;
+    private Integer maxConcurrentCalls;
+    private Integer maxWaitingCalls;
+    private Duration maxWait;
+  }
+}
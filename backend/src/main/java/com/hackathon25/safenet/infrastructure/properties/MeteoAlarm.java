@@ -0,0 +1,14 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import java.nio.file.Path;
+import lombok.Data;
+
+@Data
+public class MeteoAlarm {
+
+  /**
+   * MeteoAlarm geocodes GeoJSON with the outline of every warning region, keyed by the EMMA code in
+   * {@code properties.code}. Without it location queries cannot filter and answer 503.
+   */
+  private Path regionsFile;
+}
@@ -0,0 +1,13 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import lombok.Data;
+
+@Data
+public class Translation {
+
+  /**
+   * Translations kept in memory in front of the persistent translation memory; older ones are read
+   * back from the database.
+   */
+  private long memoryMaxEntries = 10_000;
+}
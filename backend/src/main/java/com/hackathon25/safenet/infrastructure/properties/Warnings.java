@@ -0,0 +1,10 @@
+package com.hackathon25.safenet.infrastructure.properties;
+
+import lombok.Data;
+
+@Data
+public class Warnings {
+
+  /** Number of refreshes kept in the delta-sync changelog before clients get a full snapshot. */
+  private int changelogCapacity = 256;
+}
@@ -0,0 +1,18 @@
+-- Translation memory of LibreTranslateTranslationService (TranslationMemoryEntity).
+--
+-- Profiles running with spring.jpa.hibernate.ddl-auto: validate (the default and prod profiles)
+-- fail at startup until this table exists. Apply once per database before deploying:
+--
+--   psql "$DATABASE_URL" -f src/main/resources/db/translation_memory.sql
+
+CREATE TABLE IF NOT EXISTS translation_memory (
+    id              UUID PRIMARY KEY,
+    content_hash    VARCHAR(64)              NOT NULL,
+    source_language VARCHAR(8)               NOT NULL,
+    target_language VARCHAR(8)               NOT NULL,
+    format          VARCHAR(8)               NOT NULL,
+    translation     TEXT                     NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_translation_memory_key
+        UNIQUE (content_hash, source_language, target_language, format)
+);
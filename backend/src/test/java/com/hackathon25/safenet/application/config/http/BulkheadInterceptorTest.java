@@ -0,0 +1,95 @@
+package com.hackathon25.safenet.application.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+class BulkheadInterceptorTest {
+
+  private static final ClientHttpRequestExecution OK =
+      (request, body) ->
+          new MockClientHttpResponse("body".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+  private BulkheadInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    ApplicationProperties properties = new ApplicationProperties();
+    properties.getHttp().setMaxConcurrentCalls(1);
+    properties.getHttp().setMaxWait(Duration.ZERO);
+    interceptor =
+        new BulkheadInterceptor(new BulkheadRegistry(properties, new SimpleMeterRegistry()));
+  }
+
+  @Test
+  void holdsThePermitUntilTheResponseIsClosed() throws IOException {
+    ClientHttpResponse response = call("upstream.example", OK);
+
+    assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8))
+        .isEqualTo("body");
+    assertThatThrownBy(() -> call("upstream.example", OK))
+        .isInstanceOf(BulkheadFullException.class);
+
+    response.close();
+    call("upstream.example", OK).close();
+  }
+
+  @Test
+  void closingTwiceReleasesThePermitOnce() throws IOException {
+    ClientHttpResponse response = call("upstream.example", OK);
+    response.close();
+    response.close();
+
+    ClientHttpResponse next = call("upstream.example", OK);
+
+    assertThatThrownBy(() -> call("upstream.example", OK))
+        .isInstanceOf(BulkheadFullException.class);
+    next.close();
+  }
+
+  @Test
+  void releasesThePermitWhenTheRequestFails() throws IOException {
+    assertThatThrownBy(
+            () ->
+                call(
+                    "upstream.example",
+                    (request, body) -> {
+                      throw new IOException("connection refused");
+                    }))
+        .isInstanceOf(IOException.class);
+
+    call("upstream.example", OK).close();
+  }
+
+  @Test
+  void hostsHaveSeparatePermits() throws IOException {
+    ClientHttpResponse slow = call("slow.example", OK);
+
+    call("fast.example", OK).close();
+
+    slow.close();
+  }
+
+  private ClientHttpResponse call(String host, ClientHttpRequestExecution execution)
+      throws IOException {
+    MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.GET, URI.create("https://" + host + "/feed"));
+    return interceptor.intercept(request, new byte[0], execution);
+  }
+}
@@ -0,0 +1,111 @@
+package com.hackathon25.safenet.application.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.domain.exception.upstream.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void rejectsImmediatelyWhenFullAndWaitingIsDisabled() {
+    Bulkhead bulkhead = bulkhead(2, 8, Duration.ZERO);
+    bulkhead.acquire();
+    bulkhead.acquire();
+
+    assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+    bulkhead.release();
+    bulkhead.acquire();
+
+    assertThat(calls("permitted")).isEqualTo(3);
+    assertThat(calls("rejected")).isEqualTo(1);
+    assertThat(gauge("safenet.bulkhead.active")).isEqualTo(2);
+  }
+
+  @Test
+  void waitingCallerIsRejectedAfterMaxWait() {
+    Bulkhead bulkhead = bulkhead(1, 1, Duration.ofMillis(100));
+    bulkhead.acquire();
+
+    long start = System.nanoTime();
+    assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+    long waited = System.nanoTime() - start;
+
+    assertThat(waited).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    assertThat(waited).isLessThan(TimeUnit.SECONDS.toNanos(2));
+    assertThat(gauge("safenet.bulkhead.waiting")).isZero();
+  }
+
+  @Test
+  void waitingCallerGetsTheReleasedPermit() throws Exception {
+    Bulkhead bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+    bulkhead.acquire();
+
+    CompletableFuture<Void> waiter = CompletableFuture.runAsync(bulkhead::acquire);
+    awaitWaiting(1);
+    bulkhead.release();
+
+    waiter.get(5, TimeUnit.SECONDS);
+    assertThat(gauge("safenet.bulkhead.active")).isEqualTo(1);
+    assertThat(gauge("safenet.bulkhead.waiting")).isZero();
+  }
+
+  @Test
+  void callersBeyondTheQueueAreRejectedWithoutWaiting() throws Exception {
+    Bulkhead bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+    bulkhead.acquire();
+    CompletableFuture<Void> waiter = CompletableFuture.runAsync(bulkhead::acquire);
+    awaitWaiting(1);
+
+    long start = System.nanoTime();
+    assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    bulkhead.release();
+    waiter.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void executeReleasesThePermitWhenTheCallFails() {
+    Bulkhead bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+    assertThatThrownBy(
+            () ->
+                bulkhead.execute(
+                    () -> {
+                      throw new IllegalStateException("upstream down");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+    assertThat(gauge("safenet.bulkhead.active")).isZero();
+  }
+
+  private Bulkhead bulkhead(int maxConcurrentCalls, int maxWaitingCalls, Duration maxWait) {
+    return new Bulkhead("upstream", maxConcurrentCalls, maxWaitingCalls, maxWait, meterRegistry);
+  }
+
+  private double calls(String result) {
+    return meterRegistry.get("safenet.bulkhead.calls").tag("result", result).counter().count();
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).tag("name", "upstream").gauge().value();
+  }
+
+  private void awaitWaiting(int callers) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (gauge("safenet.bulkhead.waiting") < callers && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(gauge("safenet.bulkhead.waiting")).isEqualTo(callers);
+  }
+}
@@ -0,0 +1,166 @@
+package com.hackathon25.safenet.application.service.autobahn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hackathon25.safenet.application.service.feed.FeedCodec;
+import com.hackathon25.safenet.domain.model.autobahn.AutobahnClosureItem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AutobahnClosureParserTest {
+
+  @Test
+  void bindsTheUpstreamFieldNamesAndInjectsTheRoad() throws IOException {
+    List<AutobahnClosureItem> closures =
+        parse(
+            """
+            {"closure": [{
+              "identifier": "c1",
+              "title": "A1 | Kreuz A - AS B",
+              "display_type": "CLOSURE",
+              "isBlocked": "false",
+              "future": false,
+              "coordinate": {"lat": "51.5", "long": "7.5"},
+              "description": ["Beginn: 17.10.26", "Fahrstreifen gesperrt"],
+              "startTimestamp": "2026-10-17T08:00:00",
+              "impact": {"lower": "", "symbols": ["cross"]},
+              "unknown": [1, {"nested": true}]
+            }]}
+            """);
+
+    assertThat(closures).hasSize(1);
+    AutobahnClosureItem closure = closures.get(0);
+    assertThat(closure.getIdentifier()).isEqualTo("c1");
+    assertThat(closure.getRoadId()).isEqualTo("A1");
+    assertThat(closure.getTitle()).isEqualTo("A1 | Kreuz A - AS B");
+    assertThat(closure.getDisplayType()).isEqualTo("CLOSURE");
+    assertThat(closure.getIsBlocked()).isFalse();
+    assertThat(closure.getFuture()).isFalse();
+    assertThat(closure.getCoordinate().getLat()).isEqualTo("51.5");
+    assertThat(closure.getCoordinate().getLng()).isEqualTo("7.5");
+    assertThat(closure.getDescription())
+        .containsExactly("Beginn: 17.10.26", "Fahrstreifen gesperrt");
+    assertThat(closure.getStartTimestamp()).isEqualTo(LocalDateTime.of(2026, 10, 17, 8, 0));
+    assertThat(closure.getGeometry()).isNull();
+  }
+
+  @Test
+  void dropsTheOffsetOfStartTimestamps() throws IOException {
+    List<AutobahnClosureItem> closures =
+        parse(
+            """
+            {"closure": [
+              {"identifier": "colon", "startTimestamp": "2026-10-17T08:00:00+02:00"},
+              {"identifier": "compact", "startTimestamp": "2026-10-17T08:00:00+0200"},
+              {"identifier": "utc", "startTimestamp": "2026-10-17T08:00:00Z"},
+              {"identifier": "garbage", "startTimestamp": "17.10.2026 08:00"},
+              {"identifier": "blank", "startTimestamp": " "}
+            ]}
+            """);
+
+    LocalDateTime eight = LocalDateTime.of(2026, 10, 17, 8, 0);
+    assertThat(closures)
+        .extracting(AutobahnClosureItem::getStartTimestamp)
+        .containsExactly(eight, eight, eight, null, null);
+  }
+
+  @Test
+  void streamsLineAndPointPositionsIntoAFlatArray() throws IOException {
+    List<AutobahnClosureItem> closures =
+        parse(
+            """
+            {"closure": [
+              {"identifier": "line", "geometry": {"type": "LineString",
+                "coordinates": [[7.0, 51.0], [7.1, 51.05, 120.5], [7, 51]]}},
+              {"identifier": "point", "geometry": {"type": "Point", "coordinates": [7.2, 51.2]}}
+            ]}
+            """);
+
+    assertThat(closures.get(0).getGeometry().getType()).isEqualTo("LineString");
+    assertThat(closures.get(0).getGeometry().getCoordinates())
+        .containsExactly(7.0, 51.0, 7.1, 51.05, 7.0, 51.0);
+    assertThat(closures.get(1).getGeometry().getCoordinates()).containsExactly(7.2, 51.2);
+  }
+
+  @Test
+  void readsOtherShapesAndMalformedPositionsAsNoLine() throws IOException {
+    List<AutobahnClosureItem> closures =
+        parse(
+            """
+            {"closure": [
+              {"identifier": "polygon", "geometry": {"type": "Polygon",
+                "coordinates": [[[7.0, 51.0], [7.1, 51.0], [7.0, 51.1], [7.0, 51.0]]]}},
+              {"identifier": "short", "geometry": {"type": "LineString",
+                "coordinates": [[7.0, 51.0], [7.1]]}},
+              {"identifier": "text", "geometry": {"type": "LineString",
+                "coordinates": [[7.0, 51.0], ["7.1", "51.0"]]}},
+              {"identifier": "object", "geometry": {"type": "LineString",
+                "coordinates": [[7.0, 51.0], {"lon": 7.1}]}},
+              {"identifier": "empty", "geometry": {"type": "LineString", "coordinates": []}},
+              {"identifier": "string", "geometry": {"type": "LineString", "coordinates": "7,51"}},
+              {"identifier": "after", "title": "still read"}
+            ]}
+            """);
+
+    assertThat(closures).hasSize(7);
+    assertThat(closures.subList(0, 6))
+        .allSatisfy(closure -> assertThat(closure.getGeometry().getCoordinates()).isNull());
+    assertThat(closures.get(0).getGeometry().getType()).isEqualTo("Polygon");
+    assertThat(closures.get(6).getTitle()).isEqualTo("still read");
+  }
+
+  @Test
+  void readsAResponseWithoutClosuresAsEmpty() throws IOException {
+    assertThat(parse("{}")).isEmpty();
+    assertThat(parse("{\"closure\": null}")).isEmpty();
+    assertThat(parse("{\"closure\": [null]}")).isEmpty();
+  }
+
+  @Test
+  void parsesAndTrimsRoadIds() throws IOException {
+    List<String> roads =
+        AutobahnClosureParser.parseRoadIds(stream("{\"roads\": [\"A1\", \"A60 \", null]}"));
+
+    assertThat(roads).containsExactly("A1", "A60");
+  }
+
+  @Test
+  void parsedClosuresRoundTripThroughTheSnapshotCodec() throws IOException {
+    List<AutobahnClosureItem> closures =
+        parse(
+            """
+            {"closure": [{"identifier": "c1", "display_type": "CLOSURE",
+              "coordinate": {"lat": "51.5", "long": "7.5"},
+              "startTimestamp": "2026-10-17T08:00:00+02:00",
+              "geometry": {"type": "LineString", "coordinates": [[7.0, 51.0], [7.1, 51.05]]}}]}
+            """);
+    FeedCodec<List<AutobahnClosureItem>> codec =
+        FeedCodec.json(
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            new TypeReference<List<AutobahnClosureItem>>() {});
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    codec.write(closures, out);
+    List<AutobahnClosureItem> restored = codec.read(new ByteArrayInputStream(out.toByteArray()));
+
+    assertThat(restored).isEqualTo(closures);
+    assertThat(restored.get(0).getGeometry().getCoordinates())
+        .containsExactly(7.0, 51.0, 7.1, 51.05);
+  }
+
+  private static List<AutobahnClosureItem> parse(String json) throws IOException {
+    return AutobahnClosureParser.parseClosureData(stream(json), "A1");
+  }
+
+  private static ByteArrayInputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
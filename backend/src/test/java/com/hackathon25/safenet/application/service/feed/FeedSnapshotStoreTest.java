@@ -0,0 +1,123 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FeedSnapshotStoreTest {
+
+  private static final FeedCodec<Map<String, List<Integer>>> CODEC =
+      FeedCodec.json(new ObjectMapper(), new TypeReference<>() {});
+
+  @TempDir Path directory;
+
+  private final ApplicationProperties properties = new ApplicationProperties();
+  private FeedSnapshotStore store;
+
+  @BeforeEach
+  void setUp() {
+    properties.getFeeds().setSnapshotDirectory(directory);
+    store = new FeedSnapshotStore(properties);
+  }
+
+  @Test
+  void readsBackWhatWasWritten() {
+    Map<String, List<Integer>> value = Map.of("a", List.of(1, 2, 3), "b", List.of());
+    Instant before = Instant.now().minusMillis(1);
+
+    store.save("warnings", value, CODEC);
+    FeedSnapshotStore.Restored<Map<String, List<Integer>>> restored = store.load("warnings", CODEC);
+
+    assertThat(restored).isNotNull();
+    assertThat(restored.value()).isEqualTo(value);
+    assertThat(restored.storedAt()).isBetween(before, Instant.now().plusMillis(1));
+  }
+
+  @Test
+  void laterSaveReplacesTheSnapshotWithoutLeavingTemporaryFiles() throws IOException {
+    store.save("warnings", Map.of("a", List.of(1)), CODEC);
+    store.save("warnings", Map.of("b", List.of(2)), CODEC);
+
+    assertThat(store.load("warnings", CODEC).value()).isEqualTo(Map.of("b", List.of(2)));
+    try (var files = Files.list(directory)) {
+      assertThat(files).containsExactly(directory.resolve("warnings.snapshot"));
+    }
+  }
+
+  @Test
+  void keyedFeedNamesAreSafeFileNames() {
+    store.save("autobahn-closures:A1/../x", Map.of("a", List.of(1)), CODEC);
+
+    assertThat(directory.resolve("autobahn-closures_A1_.._x.snapshot")).isRegularFile();
+    assertThat(store.load("autobahn-closures:A1/../x", CODEC)).isNotNull();
+  }
+
+  @Test
+  void missingSnapshotLoadsNothing() {
+    assertThat(store.load("warnings", CODEC)).isNull();
+  }
+
+  @Test
+  void disabledStoreNeitherWritesNorReads() {
+    store.save("warnings", Map.of("a", List.of(1)), CODEC);
+    properties.getFeeds().setSnapshotsEnabled(false);
+
+    store.save("other", Map.of("a", List.of(1)), CODEC);
+
+    assertThat(store.load("warnings", CODEC)).isNull();
+    assertThat(directory.resolve("other.snapshot")).doesNotExist();
+  }
+
+  @Test
+  void ignoresSnapshotsOlderThanTheMaximumAge() {
+    store.save("warnings", Map.of("a", List.of(1)), CODEC);
+    properties.getFeeds().setSnapshotMaxAge(Duration.ofSeconds(-1));
+
+    assertThat(store.load("warnings", CODEC)).isNull();
+  }
+
+  @Test
+  void ignoresFilesWithAnotherFormat() throws IOException {
+    Files.write(directory.resolve("warnings.snapshot"), "{\"a\":[1]}".getBytes());
+
+    assertThat(store.load("warnings", CODEC)).isNull();
+  }
+
+  @Test
+  void ignoresTruncatedSnapshots() throws IOException {
+    store.save("warnings", Map.of("a", List.of(1, 2, 3)), CODEC);
+    Path file = directory.resolve("warnings.snapshot");
+    byte[] bytes = Files.readAllBytes(file);
+
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+    assertThat(store.load("warnings", CODEC)).isNull();
+  }
+
+  @Test
+  void ignoresPayloadsTheCodecCannotRead() {
+    FeedCodec<String> broken =
+        FeedCodec.json(new ObjectMapper(), new TypeReference<String>() {})
+            .adapt(
+                value -> value,
+                value -> {
+                  throw new IllegalStateException("unreadable");
+                });
+    store.save("warnings", "value", broken);
+
+    assertThat(store.load("warnings", broken)).isNull();
+  }
+}
@@ -0,0 +1,137 @@
+package com.hackathon25.safenet.application.service.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SingleFlight singleFlight =
+      new SingleFlight(meterRegistry, new ApplicationProperties());
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+  }
+
+  @Test
+  void concurrentCallersShareTheLeadersResult() throws Exception {
+    CompletableFuture<Object> leader = async("feed", "url", blockingLoader(new Object()));
+    awaitCount("leader", 1);
+    CompletableFuture<Object> follower = async("feed", "url", blockingLoader(new Object()));
+    awaitCount("coalesced", 1);
+
+    release.countDown();
+
+    Object result = leader.get(5, TimeUnit.SECONDS);
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void followersGetTheLeadersException() throws Exception {
+    IllegalStateException failure = new IllegalStateException("upstream down");
+    CompletableFuture<Object> leader =
+        async(
+            "feed",
+            "url",
+            () -> {
+              await();
+              throw failure;
+            });
+    awaitCount("leader", 1);
+    CompletableFuture<Object> follower = async("feed", "url", blockingLoader("unused"));
+    awaitCount("coalesced", 1);
+
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+  }
+
+  @Test
+  void followerGivesUpAfterItsTimeout() throws Exception {
+    CompletableFuture<Object> leader = async("feed", "url", blockingLoader("late"));
+    awaitCount("leader", 1);
+
+    long start = System.nanoTime();
+    assertThatThrownBy(
+            () -> singleFlight.execute("feed", "url", Duration.ofMillis(50), () -> "own"))
+        .hasCauseInstanceOf(TimeoutException.class);
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+    assertThat(count("timeout")).isEqualTo(1);
+    release.countDown();
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+  }
+
+  @Test
+  void onlyIdenticalKeysOfTheSameGroupAreCoalesced() throws Exception {
+    CompletableFuture<Object> leader = async("feed", "url", blockingLoader("a"));
+    awaitCount("leader", 1);
+
+    assertThat(singleFlight.execute("feed", "other", () -> "b")).isEqualTo("b");
+    assertThat(singleFlight.execute("detail", "url", () -> "c")).isEqualTo("c");
+
+    release.countDown();
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    assertThat(count("coalesced")).isZero();
+  }
+
+  @Test
+  void completedCallsAreNotCached() {
+    assertThat(singleFlight.execute("feed", "url", () -> loads.incrementAndGet())).isEqualTo(1);
+    assertThat(singleFlight.execute("feed", "url", () -> loads.incrementAndGet())).isEqualTo(2);
+    assertThat(count("leader")).isEqualTo(2);
+  }
+
+  private CompletableFuture<Object> async(String group, Object key, Supplier<Object> loader) {
+    return CompletableFuture.supplyAsync(() -> singleFlight.execute(group, key, loader));
+  }
+
+  private Supplier<Object> blockingLoader(Object result) {
+    return () -> {
+      loads.incrementAndGet();
+      await();
+      return result;
+    };
+  }
+
+  private void await() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private double count(String role) {
+    return meterRegistry.find("safenet.single.flight.calls").tag("role", role).counters().stream()
+        .mapToDouble(Counter::count)
+        .sum();
+  }
+
+  private void awaitCount(String role, int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (count(role) < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(count(role)).isEqualTo(expected);
+  }
+}
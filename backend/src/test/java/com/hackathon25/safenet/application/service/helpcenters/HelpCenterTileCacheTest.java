@@ -0,0 +1,162 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.application.service.feed.SingleFlight;
+import com.hackathon25.safenet.domain.model.geo.GeoMath;
+import com.hackathon25.safenet.domain.model.geo.PointIndex.Neighbour;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterPage;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterSearchResult;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterTags;
+import com.hackathon25.safenet.domain.port.outbound.HelpCentersFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class HelpCenterTileCacheTest {
+
+  private static final double LAT = 52.52;
+  private static final double LON = 13.405;
+  private static final Set<String> TYPES = Set.of("hospital", "police");
+
+  private final List<HelpCenter> helpCenters = helpCenters();
+  private final AtomicInteger requests = new AtomicInteger();
+  private final HelpCentersFeedPort feedPort =
+      (box, types) -> {
+        requests.incrementAndGet();
+        Map<String, List<HelpCenter>> byType =
+            helpCenters.stream()
+                .filter(helpCenter -> box.contains(helpCenter.getLat(), helpCenter.getLon()))
+                .filter(helpCenter -> types.contains(helpCenter.getTags().getAmenity()))
+                .collect(Collectors.groupingBy(helpCenter -> helpCenter.getTags().getAmenity()));
+        return new HelpCenterSearchResult(byType, true);
+      };
+  private final HelpCenterTileCache cache = cache(new ApplicationProperties());
+
+  @Test
+  void findReturnsEveryHelpCenterInTheRadiusNearestFirst() {
+    List<Neighbour<HelpCenter>> found = cache.find(LAT, LON, 5_000, TYPES);
+
+    List<HelpCenter> expected =
+        helpCenters.stream()
+            .filter(helpCenter -> TYPES.contains(helpCenter.getTags().getAmenity()))
+            .filter(helpCenter -> distanceKm(helpCenter) <= 5)
+            .toList();
+    assertThat(found).extracting(Neighbour::item).containsExactlyInAnyOrderElementsOf(expected);
+    for (int i = 1; i < found.size(); i++) {
+      Neighbour<HelpCenter> previous = found.get(i - 1);
+      Neighbour<HelpCenter> current = found.get(i);
+      assertThat(
+              previous.distanceKm() < current.distanceKm()
+                  || (previous.distanceKm() == current.distanceKm()
+                      && previous.item().getId() < current.item().getId()))
+          .isTrue();
+    }
+  }
+
+  @Test
+  void pagesWalkTheSameOrderAsFindWithoutGapsOrDuplicates() {
+    List<Neighbour<HelpCenter>> all = cache.find(LAT, LON, 5_000, TYPES);
+
+    for (int limit : new int[] {1, 3, 7, 50, all.size(), all.size() + 1}) {
+      List<Neighbour<HelpCenter>> paged = new ArrayList<>();
+      HelpCenterPage page = cache.findNearest(LAT, LON, 5_000, TYPES, limit, null);
+      paged.addAll(page.items());
+      while (page.next() != null) {
+        assertThat(page.items()).hasSize(limit);
+        page = cache.findNearest(LAT, LON, 5_000, TYPES, limit, page.next());
+        paged.addAll(page.items());
+      }
+
+      assertThat(paged).extracting(Neighbour::item).containsExactlyElementsOf(items(all));
+    }
+  }
+
+  @Test
+  void lastPageHasNoCursor() {
+    int total = cache.find(LAT, LON, 5_000, TYPES).size();
+
+    assertThat(cache.findNearest(LAT, LON, 5_000, TYPES, total, null).next()).isNull();
+    assertThat(cache.findNearest(LAT, LON, 5_000, TYPES, total - 1, null).next()).isNotNull();
+    assertThat(cache.findNearest(LAT, LON, 10, Set.of("hospital"), 5, null).items()).isEmpty();
+  }
+
+  @Test
+  void cachedTilesAreNotFetchedAgain() {
+    cache.find(LAT, LON, 5_000, TYPES);
+    cache.findNearest(LAT, LON, 5_000, TYPES, 10, null);
+    cache.find(LAT, LON, 2_000, Set.of("police"));
+
+    assertThat(requests.get()).isEqualTo(1);
+  }
+
+  @Test
+  void reloadDropsTheCachedTiles() {
+    cache.find(LAT, LON, 5_000, TYPES);
+
+    cache.onHelpCentersReloaded(new HelpCentersReloadedEvent(helpCenters.size()));
+    cache.find(LAT, LON, 5_000, TYPES);
+
+    assertThat(requests.get()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsRadiiCoveringTooManyTiles() {
+    assertThatThrownBy(() -> cache.find(LAT, LON, 200_000, TYPES))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private HelpCenterTileCache cache(ApplicationProperties properties) {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    return new HelpCenterTileCache(
+        feedPort, new SingleFlight(meterRegistry, properties), properties, meterRegistry);
+  }
+
+  /**
+   * Random help centers around the query location, plus groups at equal distances: several at one
+   * spot, and pairs mirrored east and west of the query.
+   */
+  private static List<HelpCenter> helpCenters() {
+    Random random = new Random(29);
+    List<HelpCenter> result = new ArrayList<>();
+    long id = 1;
+    for (int i = 0; i < 400; i++) {
+      result.add(
+          helpCenter(
+              id++,
+              i % 2 == 0 ? "hospital" : "police",
+              LAT + (random.nextDouble() - 0.5) * 0.12,
+              LON + (random.nextDouble() - 0.5) * 0.2));
+    }
+    for (int i = 0; i < 6; i++) {
+      result.add(helpCenter(1_000 - i, i % 2 == 0 ? "hospital" : "police", LAT + 0.01, LON));
+    }
+    for (int i = 1; i <= 5; i++) {
+      result.add(helpCenter(2_000 + i, "police", LAT, LON - i * 0.005));
+      result.add(helpCenter(3_000 - i, "hospital", LAT, LON + i * 0.005));
+    }
+    result.add(helpCenter(4_000, "pharmacy", LAT, LON));
+    return result;
+  }
+
+  private static HelpCenter helpCenter(long id, String amenity, double lat, double lon) {
+    return new HelpCenter("node", id, lat, lon, new HelpCenterTags("Name " + id, amenity));
+  }
+
+  private static double distanceKm(HelpCenter helpCenter) {
+    return GeoMath.haversineKm(LAT, LON, helpCenter.getLat(), helpCenter.getLon());
+  }
+
+  private static List<HelpCenter> items(List<Neighbour<HelpCenter>> neighbours) {
+    return neighbours.stream().map(Neighbour::item).toList();
+  }
+}
@@ -0,0 +1,128 @@
+package com.hackathon25.safenet.application.service.helpcenters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenter;
+import com.hackathon25.safenet.domain.model.helpcenters.HelpCenterTags;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class OverpassHelpCenterParserTest {
+
+  @Test
+  void readsNodesWithTheirTags() throws IOException {
+    OverpassResponse response =
+        parse(
+            """
+            {"version": 0.6, "generator": "Overpass API",
+             "osm3s": {"timestamp_osm_base": "2026-10-17T08:00:00Z", "copyright": "ODbL"},
+             "elements": [
+               {"type": "node", "id": 101, "lat": 50.7374, "lon": 7.0982,
+                "tags": {"amenity": "hospital", "name": "Uniklinik", "phone": "+49 228",
+                         "opening_hours": "24/7"}},
+               {"type": "node", "id": 102, "lat": 50.74, "lon": 7.1,
+                "tags": {"amenity": "hospital"}},
+               {"type": "node", "id": 103, "lat": 50.75, "lon": 7.11}
+             ]}
+            """);
+
+    assertThat(response.remark()).isNull();
+    assertThat(response.helpCenters())
+        .containsExactly(
+            new HelpCenter(
+                "node", 101, 50.7374, 7.0982, new HelpCenterTags("Uniklinik", "hospital")),
+            new HelpCenter("node", 102, 50.74, 7.1, new HelpCenterTags(null, "hospital")),
+            new HelpCenter("node", 103, 50.75, 7.11, null));
+  }
+
+  @Test
+  void sharesRepeatedTypesAndAmenities() throws IOException {
+    OverpassResponse response =
+        parse(
+            """
+            {"elements": [
+              {"type": "node", "id": 1, "lat": 50, "lon": 7, "tags": {"amenity": "police"}},
+              {"type": "node", "id": 2, "lat": 51, "lon": 8, "tags": {"amenity": "police"}}
+            ]}
+            """);
+
+    HelpCenter first = response.helpCenters().get(0);
+    HelpCenter second = response.helpCenters().get(1);
+    assertThat(second.getType()).isSameAs(first.getType());
+    assertThat(second.getTags().getAmenity()).isSameAs(first.getTags().getAmenity());
+  }
+
+  @Test
+  void dropsElementsWithoutIdOrLocation() throws IOException {
+    OverpassResponse response =
+        parse(
+            """
+            {"elements": [
+              {"type": "way", "id": 1, "nodes": [1, 2, 3], "tags": {"amenity": "hospital"}},
+              {"type": "node", "lat": 50, "lon": 7},
+              {"type": "node", "id": "3", "lat": 50, "lon": 7},
+              {"type": "node", "id": 4, "lon": 7},
+              {"type": "node", "id": 5, "lat": 50},
+              {"type": "node", "id": 6, "lat": "50", "lon": 7},
+              {"type": "node", "id": 7, "lat": 50, "lon": 7},
+              42,
+              [1, 2]
+            ]}
+            """);
+
+    assertThat(response.helpCenters()).extracting(HelpCenter::getId).containsExactly(7L);
+  }
+
+  @Test
+  void keepsTheRemarkOfATruncatedResponse() throws IOException {
+    OverpassResponse response =
+        parse(
+            """
+            {"elements": [{"type": "node", "id": 1, "lat": 50, "lon": 7}],
+             "remark": "runtime error: Query timed out in \\"query\\" at line 1 after 25 seconds."}
+            """);
+
+    assertThat(response.helpCenters()).hasSize(1);
+    assertThat(response.remark())
+        .isEqualTo("runtime error: Query timed out in \"query\" at line 1 after 25 seconds.");
+  }
+
+  @Test
+  void skipsUnknownFieldsAndTagsOfAnyShape() throws IOException {
+    OverpassResponse response =
+        parse(
+            """
+            {"remark": {"not": "a string"},
+             "elements": [
+               {"type": "node", "id": 1, "timestamp": "2026-10-17T08:00:00Z",
+                "members": [{"ref": 2, "role": ""}], "center": {"lat": 1, "lon": 2},
+                "lat": 50, "lon": 7,
+                "tags": {"addr:street": "Hauptstr.", "nested": {"name": "not this one"},
+                         "list": ["a"], "name": "Wache", "amenity": "police"}},
+               {"type": "node", "id": 2, "lat": 51, "lon": 8, "tags": "none"}
+             ],
+             "extra": [{"elements": []}]}
+            """);
+
+    assertThat(response.remark()).isNull();
+    assertThat(response.helpCenters())
+        .containsExactly(
+            new HelpCenter("node", 1, 50, 7, new HelpCenterTags("Wache", "police")),
+            new HelpCenter("node", 2, 51, 8, null));
+  }
+
+  @Test
+  void readsAnythingButAnObjectAsEmpty() throws IOException {
+    OverpassResponse response = parse("[{\"type\": \"node\", \"id\": 1, \"lat\": 50, \"lon\": 7}]");
+
+    assertThat(response.helpCenters()).isEmpty();
+    assertThat(response.remark()).isNull();
+  }
+
+  private static OverpassResponse parse(String json) throws IOException {
+    return OverpassHelpCenterParser.parse(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,122 @@
+package com.hackathon25.safenet.application.service.i18n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.model.i18n.TranslationKey;
+import com.hackathon25.safenet.domain.port.outbound.TranslationMemoryPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TranslationMemoryTest {
+
+  private final FakePort port = new FakePort();
+  private final ApplicationProperties properties = new ApplicationProperties();
+
+  @Test
+  void missInMemoryFallsThroughToThePersistentTier() {
+    TranslationKey key = TranslationKey.of("Hochwasser", Language.DE, Language.EN, "text");
+    port.stored.put(key, "Flood");
+    TranslationMemory memory = memory();
+
+    assertThat(memory.find(key)).isEqualTo("Flood");
+    assertThat(memory.find(key)).isEqualTo("Flood");
+    assertThat(port.lookups).isEqualTo(1);
+  }
+
+  @Test
+  void unknownContentIsAMissAndNotRemembered() {
+    TranslationKey key = TranslationKey.of("Sturm", Language.DE, Language.EN, "text");
+    TranslationMemory memory = memory();
+
+    assertThat(memory.find(key)).isNull();
+    port.stored.put(key, "Storm");
+    assertThat(memory.find(key)).isEqualTo("Storm");
+  }
+
+  @Test
+  void savedTranslationsAreServedFromMemoryAndStored() {
+    TranslationKey key = TranslationKey.of("Sturm", Language.DE, Language.EN, "text");
+    TranslationMemory memory = memory();
+
+    memory.save(key, "Storm");
+
+    assertThat(memory.find(key)).isEqualTo("Storm");
+    assertThat(port.lookups).isZero();
+    assertThat(port.stored).containsEntry(key, "Storm");
+  }
+
+  @Test
+  void persistentTierFailuresAreMisses() {
+    TranslationKey key = TranslationKey.of("Sturm", Language.DE, Language.EN, "text");
+    TranslationMemory memory = memory();
+    port.failing = true;
+
+    assertThat(memory.find(key)).isNull();
+
+    memory.save(key, "Storm");
+    assertThat(memory.find(key)).isEqualTo("Storm");
+    assertThat(port.stored).isEmpty();
+  }
+
+  @Test
+  void keysSeparateContentLanguagesAndFormat() {
+    TranslationKey text = TranslationKey.of("<b>Sturm</b>", Language.DE, Language.EN, "text");
+    TranslationKey html = TranslationKey.of("<b>Sturm</b>", Language.DE, Language.EN, "html");
+    TranslationKey reverse = TranslationKey.of("<b>Sturm</b>", Language.EN, Language.DE, "text");
+    TranslationKey other = TranslationKey.of("<b>Sturm!</b>", Language.DE, Language.EN, "text");
+    TranslationMemory memory = memory();
+
+    memory.save(text, "&lt;b&gt;Storm&lt;/b&gt;");
+    memory.save(html, "<b>Storm</b>");
+
+    assertThat(memory.find(text)).isEqualTo("&lt;b&gt;Storm&lt;/b&gt;");
+    assertThat(memory.find(html)).isEqualTo("<b>Storm</b>");
+    assertThat(memory.find(reverse)).isNull();
+    assertThat(memory.find(other)).isNull();
+    assertThat(text).isEqualTo(TranslationKey.of("<b>Sturm</b>", Language.DE, Language.EN, "text"));
+    assertThat(text.contentHash())
+        .hasSize(64)
+        .isEqualTo(reverse.contentHash())
+        .isNotEqualTo(other.contentHash());
+  }
+
+  @Test
+  void contentHashIsTheHexSha256OfTheUtf8Content() {
+    assertThat(TranslationKey.of("", Language.DE, Language.EN, "text").contentHash())
+        .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    assertThat(TranslationKey.of("abc", Language.DE, Language.EN, "text").contentHash())
+        .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+  }
+
+  private TranslationMemory memory() {
+    return new TranslationMemory(port, properties, new SimpleMeterRegistry());
+  }
+
+  private static final class FakePort implements TranslationMemoryPort {
+    private final Map<TranslationKey, String> stored = new HashMap<>();
+    private boolean failing;
+    private int lookups;
+
+    @Override
+    public Optional<String> findTranslation(TranslationKey key) {
+      lookups++;
+      if (failing) {
+        throw new IllegalStateException("database unavailable");
+      }
+      return Optional.ofNullable(stored.get(key));
+    }
+
+    @Override
+    public void saveTranslation(TranslationKey key, String translation) {
+      if (failing) {
+        throw new IllegalStateException("database unavailable");
+      }
+      stored.put(key, translation);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.hackathon25.safenet.application.service.meteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.enums.Language;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeed;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmFeedItem;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+
+class MeteoAlarmParserTest {
+
+  /** Legacy feed layout: the overview item first, then one item per warned region. */
+  private static final String FEED =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <rss version="2.0"><channel>
+        <title>MeteoAlarm Germany</title>
+        <description>Warnings for Germany</description>
+        <link>https://www.meteoalarm.org</link>
+        <language>de-DE</language>
+        <ttl>5</ttl>
+        <image><title>Logo</title><url>https://www.meteoalarm.org/logo.png</url></image>
+        <item>
+          <title>Germany</title>
+          <description><![CDATA[<table><tr><td>Overview</td></tr></table>]]></description>
+          <link>https://www.meteoalarm.org/en/live/region/DE</link>
+        </item>
+        <item>
+          <title>Kreis Ahrweiler</title>
+          <description><![CDATA[<table><tr><td><img src="aw13.jpg" alt="awt:1 level:3"></td>\
+      <td><b>From: </b><i>2026-10-17T10:00:00+02:00</i></td>\
+      <td><b>Until: </b><i>2026-10-18T06:00:00+02:00</i></td></tr></table>
+      deutsch(de-DE): Es tritt Sturm mit Geschwindigkeiten bis 85 km/h auf.
+      english(en): There is a risk of gale force winds up to 85 km/h.
+      ]]></description>
+          <link>https://www.meteoalarm.org/en/live/region/DE/DE412</link>
+          <guid isPermaLink="false">DE412-20261017</guid>
+          <pubDate>Sat, 17 Oct 26 08:00:00 +0000</pubDate>
+          <category><nested>skipped</nested></category>
+        </item>
+        <item>
+          <title>Stadt Bonn</title>
+          <description><![CDATA[<table><tr><td><img src="aw51.jpg" alt="awt:5 level:1"></td>\
+      <td><b>From: </b><i>not a date</i></td></tr></table>
+      english(en): Frost.
+      ]]></description>
+          <guid isPermaLink="false">DE007-20261017</guid>
+          <pubDate>yesterday</pubDate>
+        </item>
+      </channel></rss>
+      """;
+
+  @Test
+  void readsTheChannelAndSkipsTheOverviewItem() throws XMLStreamException {
+    MeteoAlarmFeed feed = parse(FEED);
+
+    assertThat(feed.getTitle()).isEqualTo("MeteoAlarm Germany");
+    assertThat(feed.getDescription()).isEqualTo("Warnings for Germany");
+    assertThat(feed.getLink()).isEqualTo("https://www.meteoalarm.org");
+    assertThat(feed.getLanguage()).isEqualTo("de-DE");
+    assertThat(feed.getTtl()).isEqualTo(5);
+    assertThat(feed.getItems())
+        .extracting(MeteoAlarmFeedItem::getTitle)
+        .containsExactly("Kreis Ahrweiler", "Stadt Bonn");
+  }
+
+  @Test
+  void readsTheItemFields() throws XMLStreamException {
+    MeteoAlarmFeedItem item = parse(FEED).getItems().get(0);
+
+    assertThat(item.getRegion()).isEqualTo("Kreis Ahrweiler");
+    assertThat(item.getLink()).isEqualTo("https://www.meteoalarm.org/en/live/region/DE/DE412");
+    assertThat(item.getGuid()).isEqualTo("DE412-20261017");
+    assertThat(item.getRegionCode()).isEqualTo("DE412");
+    assertThat(item.getAwarenessType()).isEqualTo(1);
+    assertThat(item.getAwarenessLevel()).isEqualTo(3);
+    assertThat(item.getDescription()).contains("awt:1 level:3", "deutsch(de-DE):", "english(en):");
+  }
+
+  @Test
+  void splitsTheDescriptionByLanguage() throws XMLStreamException {
+    MeteoAlarmFeed feed = parse(FEED);
+
+    assertThat(feed.getItems().get(0).getDescriptions())
+        .containsOnlyKeys(Language.DE, Language.EN)
+        .containsEntry(Language.DE, "Es tritt Sturm mit Geschwindigkeiten bis 85 km/h auf.")
+        .containsEntry(Language.EN, "There is a risk of gale force winds up to 85 km/h.");
+    assertThat(feed.getItems().get(1).getDescriptions())
+        .containsOnlyKeys(Language.EN)
+        .containsEntry(Language.EN, "Frost.");
+  }
+
+  @Test
+  void readsTheDatesAsLocalTimeOfTheirOffset() throws XMLStreamException {
+    MeteoAlarmFeed feed = parse(FEED);
+    MeteoAlarmFeedItem item = feed.getItems().get(0);
+
+    assertThat(item.getPubDate()).isEqualTo(LocalDateTime.of(2026, 10, 17, 8, 0));
+    assertThat(item.getValidFrom()).isEqualTo(LocalDateTime.of(2026, 10, 17, 10, 0));
+    assertThat(item.getValidUntil()).isEqualTo(LocalDateTime.of(2026, 10, 18, 6, 0));
+  }
+
+  @Test
+  void readsUnparseableOrMissingValuesAsNull() throws XMLStreamException {
+    MeteoAlarmFeedItem item = parse(FEED).getItems().get(1);
+
+    assertThat(item.getLink()).isNull();
+    assertThat(item.getRegionCode()).isEqualTo("DE007");
+    assertThat(item.getPubDate()).isNull();
+    assertThat(item.getValidFrom()).isNull();
+    assertThat(item.getValidUntil()).isNull();
+  }
+
+  @Test
+  void feedWithOnlyTheOverviewHasNoItems() throws XMLStreamException {
+    MeteoAlarmFeed feed =
+        parse(
+            "<rss><channel><title>MeteoAlarm Germany</title><ttl>x</ttl>"
+                + "<item><title>Germany</title></item></channel></rss>");
+
+    assertThat(feed.getTitle()).isEqualTo("MeteoAlarm Germany");
+    assertThat(feed.getTtl()).isNull();
+    assertThat(feed.getItems()).isEmpty();
+  }
+
+  @Test
+  void extractsTheRegionCodeFromTheLink() {
+    assertThat(
+            MeteoAlarmParser.extractRegionCode(
+                "https://www.meteoalarm.org/en/live/region/DE/DE412", "other"))
+        .isEqualTo("DE412");
+  }
+
+  @Test
+  void fallsBackToTheGuid() {
+    assertThat(MeteoAlarmParser.extractRegionCode("https://www.meteoalarm.org", "DE007-20261017"))
+        .isEqualTo("DE007");
+    assertThat(MeteoAlarmParser.extractRegionCode(null, "DE007-20261017")).isEqualTo("DE007");
+  }
+
+  @Test
+  void returnsNullWithoutACode() {
+    assertThat(MeteoAlarmParser.extractRegionCode("https://www.meteoalarm.org/DE", null)).isNull();
+    assertThat(MeteoAlarmParser.extractRegionCode("region/DE4123", "xDE412")).isNull();
+    assertThat(MeteoAlarmParser.extractRegionCode(null, null)).isNull();
+  }
+
+  private static MeteoAlarmFeed parse(String xml) throws XMLStreamException {
+    return MeteoAlarmParser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+}
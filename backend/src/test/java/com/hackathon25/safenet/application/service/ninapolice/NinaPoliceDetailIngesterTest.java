@@ -0,0 +1,131 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.application.service.feed.FeedSnapshotStore;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDiff;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NinaPoliceDetailIngesterTest {
+
+  private final ApplicationProperties properties = new ApplicationProperties();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final List<String> fetched = new CopyOnWriteArrayList<>();
+  private FeedScheduler feedScheduler;
+  private NinaPoliceDetailIngester ingester;
+
+  @BeforeEach
+  void setUp() {
+    properties.getFeeds().setSnapshotsEnabled(false);
+    properties.getFeeds().setInitialLoadTimeout(Duration.ofMillis(10));
+    feedScheduler = new FeedScheduler(properties, new FeedSnapshotStore(properties));
+    NinaPoliceFeedPort feedPort =
+        new NinaPoliceFeedPort() {
+          @Override
+          public List<NinaPoliceItem> fetchFeedContent(Map<String, NinaPoliceItem> known) {
+            throw new IllegalStateException("not used");
+          }
+
+          @Override
+          public NinaPoliceDetail fetchDetail(NinaPoliceItem item) {
+            try {
+              release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            fetched.add(item.getId() + "@" + item.getVersion());
+            return NinaPoliceDetail.builder().item(item).headline(item.getId()).build();
+          }
+        };
+    NinaPoliceIngester ninaPoliceIngester =
+        new NinaPoliceIngester(feedPort, event -> {}, feedScheduler, new ObjectMapper());
+    ingester =
+        new NinaPoliceDetailIngester(feedPort, ninaPoliceIngester, feedScheduler, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    ingester.destroy();
+    feedScheduler.destroy();
+  }
+
+  @Test
+  void isNotReadyBeforeTheFirstSync() {
+    assertThatThrownBy(ingester::current).isInstanceOf(FeedNotReadyException.class);
+  }
+
+  @Test
+  void eventsDoNotWaitForTheDetailRequests() throws InterruptedException {
+    long start = System.nanoTime();
+    ingester.onPoliceWarningsChanged(changed(item("a", 1)));
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    assertThatThrownBy(ingester::current).isInstanceOf(FeedNotReadyException.class);
+
+    release.countDown();
+    awaitIndexed(1);
+    assertThat(ingester.current().getDetails())
+        .extracting(NinaPoliceDetail::getHeadline)
+        .containsExactly("a");
+  }
+
+  @Test
+  void eventsQueuedBehindARunningSyncAreCoalesced() throws InterruptedException {
+    ingester.onPoliceWarningsChanged(changed(item("a", 1)));
+    Thread.sleep(100);
+    ingester.onPoliceWarningsChanged(changed(item("a", 2)));
+    ingester.onPoliceWarningsChanged(changed(item("a", 3)));
+    ingester.onPoliceWarningsChanged(changed(item("a", 3), item("b", 1)));
+
+    release.countDown();
+    awaitIndexed(2);
+
+    // The intermediate version 2 is never fetched.
+    assertThat(fetched.get(0)).isEqualTo("a@1");
+    assertThat(fetched).containsExactlyInAnyOrder("a@1", "a@3", "b@1");
+    assertThat(ingester.current().getDetails())
+        .extracting(detail -> detail.getItem().getVersion())
+        .containsExactly(3, 1);
+  }
+
+  private void awaitIndexed(int size) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      try {
+        if (ingester.current().size() == size) {
+          return;
+        }
+      } catch (FeedNotReadyException e) {
+        // Not synced yet.
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private static NinaPoliceChangedEvent changed(NinaPoliceItem... items) {
+    List<NinaPoliceItem> list = List.of(items);
+    return new NinaPoliceChangedEvent(
+        list, NinaPoliceDiff.between(Map.of(), NinaPoliceDiff.byId(list)));
+  }
+
+  private static NinaPoliceItem item(String id, int version) {
+    return NinaPoliceItem.builder().id(id).version(version).build();
+  }
+}
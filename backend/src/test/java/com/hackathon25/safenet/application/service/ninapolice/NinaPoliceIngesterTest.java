@@ -0,0 +1,109 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.application.service.feed.FeedSnapshotStore;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDetail;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDiff;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import com.hackathon25.safenet.domain.port.outbound.NinaPoliceFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NinaPoliceIngesterTest {
+
+  private final ApplicationProperties properties = new ApplicationProperties();
+  private final List<NinaPoliceChangedEvent> events = new ArrayList<>();
+  private String response;
+  private FeedScheduler feedScheduler;
+  private NinaPoliceIngester ingester;
+
+  @BeforeEach
+  void setUp() {
+    properties.getFeeds().setSnapshotsEnabled(false);
+    feedScheduler = new FeedScheduler(properties, new FeedSnapshotStore(properties));
+    NinaPoliceFeedPort feedPort =
+        new NinaPoliceFeedPort() {
+          @Override
+          public List<NinaPoliceItem> fetchFeedContent(Map<String, NinaPoliceItem> known) {
+            try {
+              return NinaPoliceParser.parsePoliceData(
+                  new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)), known);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+
+          @Override
+          public NinaPoliceDetail fetchDetail(NinaPoliceItem item) {
+            throw new IllegalStateException("not used");
+          }
+        };
+    ingester =
+        new NinaPoliceIngester(
+            feedPort,
+            event -> events.add((NinaPoliceChangedEvent) event),
+            feedScheduler,
+            new ObjectMapper());
+  }
+
+  @AfterEach
+  void tearDown() {
+    feedScheduler.destroy();
+  }
+
+  @Test
+  void reportsAddedUpdatedAndRemovedItems() {
+    response = "[" + entry("a", 1) + "," + entry("b", 1) + "," + entry("c", 1) + "]";
+    List<NinaPoliceItem> first = ingester.refresh();
+    response = "[" + entry("a", 1) + "," + entry("b", 2) + "," + entry("d", 1) + "]";
+
+    List<NinaPoliceItem> second = ingester.refresh();
+
+    assertThat(second).extracting(NinaPoliceItem::getId).containsExactly("a", "b", "d");
+    assertThat(second.get(0)).isSameAs(first.get(0));
+    assertThat(events).hasSize(2);
+    NinaPoliceDiff diff = events.get(1).diff();
+    assertThat(diff.added()).extracting(NinaPoliceItem::getId).containsExactly("d");
+    assertThat(diff.updated()).containsExactly(second.get(1));
+    assertThat(diff.removed()).containsExactly(first.get(2));
+  }
+
+  @Test
+  void evictedItemsAreMaterializedAgainWhenTheyReturn() {
+    response = "[" + entry("a", 1) + "," + entry("b", 1) + "]";
+    NinaPoliceItem evicted = ingester.refresh().get(1);
+    response = "[" + entry("a", 1) + "]";
+    ingester.refresh();
+    response = "[" + entry("a", 1) + "," + entry("b", 1) + "]";
+
+    List<NinaPoliceItem> items = ingester.refresh();
+
+    assertThat(items.get(1)).isEqualTo(evicted).isNotSameAs(evicted);
+    assertThat(events.get(2).diff().added()).containsExactly(items.get(1));
+  }
+
+  @Test
+  void unchangedFeedPublishesNothing() {
+    response = "[" + entry("a", 1) + "]";
+    List<NinaPoliceItem> first = ingester.refresh();
+
+    assertThat(ingester.refresh()).isSameAs(first);
+    assertThat(events).hasSize(1);
+  }
+
+  private static String entry(String id, int version) {
+    return "{\"id\": \"" + id + "\", \"version\": " + version + ", \"type\": \"Alert\"}";
+  }
+}
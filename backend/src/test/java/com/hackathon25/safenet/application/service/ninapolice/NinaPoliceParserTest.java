@@ -0,0 +1,110 @@
+package com.hackathon25.safenet.application.service.ninapolice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceDiff;
+import com.hackathon25.safenet.domain.model.ninapolice.NinaPoliceItem;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NinaPoliceParserTest {
+
+  private static final String FEED =
+      """
+      [
+        {"id": "pol.1", "version": 2, "startDate": "2026-10-17T08:00:00+02:00",
+         "severity": "Minor", "type": "Alert",
+         "i18nTitle": {"de": "Vermisste Person", "en": "Missing person"},
+         "transKeys": {"event": "BBK-EVC-001"}, "unknown": [1, 2]},
+        {"id": "pol.2", "version": 1, "severity": "Severe", "type": "Update",
+         "i18nTitle": {"en": "Only English"}},
+        "not an entry"
+      ]
+      """;
+
+  @Test
+  void readsEntriesInFeedOrder() throws IOException {
+    List<NinaPoliceItem> items = parse(FEED, Map.of());
+
+    assertThat(items).hasSize(2);
+    assertThat(items.get(0))
+        .isEqualTo(
+            NinaPoliceItem.builder()
+                .id("pol.1")
+                .version(2)
+                .startDate("2026-10-17T08:00:00+02:00")
+                .severity("Minor")
+                .type("Alert")
+                .i18nTitleDe("Vermisste Person")
+                .build());
+    assertThat(items.get(1).getId()).isEqualTo("pol.2");
+    assertThat(items.get(1).getI18nTitleDe()).isNull();
+  }
+
+  @Test
+  void reusesKnownInstancesWhenTheVersionIsUnchanged() throws IOException {
+    List<NinaPoliceItem> first = parse(FEED, Map.of());
+
+    List<NinaPoliceItem> second = parse(FEED, NinaPoliceDiff.byId(first));
+
+    assertThat(second).hasSize(2);
+    assertThat(second.get(0)).isSameAs(first.get(0));
+    assertThat(second.get(1)).isSameAs(first.get(1));
+  }
+
+  @Test
+  void reusesTheKnownInstanceEvenIfTheVersionComesFirst() throws IOException {
+    NinaPoliceItem known = NinaPoliceItem.builder().id("pol.1").version(2).type("Alert").build();
+
+    List<NinaPoliceItem> items =
+        parse(
+            "[{\"version\": 2, \"type\": \"Changed\", \"id\": \"pol.1\", \"severity\": \"x\"},"
+                + " {\"id\": \"pol.3\", \"version\": 1}]",
+            Map.of("pol.1", known));
+
+    assertThat(items.get(0)).isSameAs(known);
+    assertThat(items.get(1).getId()).isEqualTo("pol.3");
+  }
+
+  @Test
+  void materializesAnEntryAgainWhenItsVersionChanged() throws IOException {
+    List<NinaPoliceItem> first = parse(FEED, Map.of());
+
+    List<NinaPoliceItem> second =
+        parse(FEED.replace("\"version\": 2", "\"version\": 3"), NinaPoliceDiff.byId(first));
+
+    assertThat(second.get(0)).isNotSameAs(first.get(0));
+    assertThat(second.get(0).getVersion()).isEqualTo(3);
+    assertThat(second.get(0).getI18nTitleDe()).isEqualTo("Vermisste Person");
+    assertThat(second.get(1)).isSameAs(first.get(1));
+  }
+
+  @Test
+  void entriesWithoutAVersionDefaultToZero() throws IOException {
+    NinaPoliceItem known = NinaPoliceItem.builder().id("pol.1").version(0).build();
+
+    List<NinaPoliceItem> items =
+        parse("[{\"id\": \"pol.1\", \"type\": \"Alert\"}]", Map.of("pol.1", known));
+
+    // Without a version in the entry the known instance cannot be matched, so it is parsed again.
+    assertThat(items.get(0)).isNotSameAs(known);
+    assertThat(items.get(0).getVersion()).isZero();
+    assertThat(items.get(0).getType()).isEqualTo("Alert");
+  }
+
+  @Test
+  void readsAnythingButAnArrayAsNoEntries() throws IOException {
+    assertThat(parse("{\"id\": \"pol.1\"}", Map.of())).isEmpty();
+    assertThat(parse("[]", Map.of())).isEmpty();
+  }
+
+  private static List<NinaPoliceItem> parse(String json, Map<String, NinaPoliceItem> known)
+      throws IOException {
+    return NinaPoliceParser.parsePoliceData(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), known);
+  }
+}
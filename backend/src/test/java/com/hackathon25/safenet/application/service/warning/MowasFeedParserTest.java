@@ -0,0 +1,150 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MowasFeedParserTest {
+
+  @Test
+  void scansPlainDecimals() {
+    assertScan("7.123456", 7.123456);
+    assertScan("-7.123456", -7.123456);
+    assertScan("+7.5", 7.5);
+    assertScan("42", 42);
+    assertScan("007.25", 7.25);
+    assertScan(".5", 0.5);
+    assertScan("5.", 5);
+    assertScan("0.0", 0);
+  }
+
+  @Test
+  void keepsTheSignOfNegativeZero() {
+    double[] out = new double[1];
+
+    MowasFeedParser.scanNumber("-0.0".toCharArray(), 0, 4, out);
+
+    assertThat(Double.doubleToRawLongBits(out[0])).isEqualTo(Double.doubleToRawLongBits(-0.0));
+  }
+
+  @Test
+  void stopsAtTheFirstCharacterThatIsNotPartOfTheNumber() {
+    char[] buf = "8.5,50.25 9".toCharArray();
+    double[] out = new double[1];
+
+    assertThat(MowasFeedParser.scanNumber(buf, 0, buf.length, out)).isEqualTo(3);
+    assertThat(out[0]).isEqualTo(8.5);
+    assertThat(MowasFeedParser.scanNumber(buf, 4, buf.length, out)).isEqualTo(9);
+    assertThat(out[0]).isEqualTo(50.25);
+    assertThat(MowasFeedParser.scanNumber("1.2.3".toCharArray(), 0, 5, out)).isEqualTo(3);
+    assertThat(out[0]).isEqualTo(1.2);
+  }
+
+  @Test
+  void respectsTheEndOfTheRange() {
+    double[] out = new double[1];
+
+    assertThat(MowasFeedParser.scanNumber("12345".toCharArray(), 1, 3, out)).isEqualTo(3);
+    assertThat(out[0]).isEqualTo(23);
+  }
+
+  @Test
+  void returnsTheStartWithoutANumber() {
+    double[] out = new double[1];
+
+    assertThat(MowasFeedParser.scanNumber("-".toCharArray(), 0, 1, out)).isZero();
+    assertThat(MowasFeedParser.scanNumber(".".toCharArray(), 0, 1, out)).isZero();
+    assertThat(MowasFeedParser.scanNumber("x1".toCharArray(), 0, 2, out)).isZero();
+    assertThat(MowasFeedParser.scanNumber("1e".toCharArray(), 0, 2, out)).isZero();
+  }
+
+  @Test
+  void fallsBackForExponentsAndLongNumbers() {
+    assertScan("1e3", 1000);
+    assertScan("-2.5E-2", -0.025);
+    assertScan("1234567890123456789", 1234567890123456789d);
+    assertScan("0.1234567890123456789", 0.1234567890123456789);
+    assertScan("0.00000000000000000000001", 1e-23);
+    assertScan("9007199254740993", 9007199254740993d);
+  }
+
+  @Test
+  void matchesParseDoubleOnRandomCoordinates() {
+    Random random = new Random(7);
+    for (int i = 0; i < 100_000; i++) {
+      int decimals = random.nextInt(18);
+      String text =
+          String.format(Locale.ROOT, "%." + decimals + "f", (random.nextDouble() - 0.5) * 360);
+      assertScan(text, Double.parseDouble(text));
+    }
+  }
+
+  @Test
+  void scanRingSkipsMalformedPairs() {
+    char[] buf = "8,50 x,1 9,50,1 9,51  8.5,51.5\n".toCharArray();
+    PolygonGeometry.Builder builder = PolygonGeometry.builder().beginRing();
+
+    MowasFeedParser.scanRing(buf, 0, buf.length, builder);
+    PolygonGeometry polygon = builder.build();
+
+    assertThat(polygon.pointCount()).isEqualTo(3);
+    assertThat(polygon.lon(1)).isEqualTo(9);
+    assertThat(polygon.lat(1)).isEqualTo(51);
+    assertThat(polygon.lon(2)).isEqualTo(8.5);
+    assertThat(polygon.lat(2)).isEqualTo(51.5);
+  }
+
+  @Test
+  void parsesAlertsWithTheFirstInfoBlockAndAllAreaRings() throws IOException {
+    String feed =
+        """
+        [{"identifier":"mow.DE-1","sender":"x","code":["DVN:2"],
+          "info":[{"headline":"Rauch","description":"Fenster schließen","severity":"Minor",
+                   "area":[{"areaDesc":"A","polygon":["8,50 9,50 9,51 8,50"]},
+                           {"areaDesc":"B","polygon":["10,52 11,52 11,53","12,52 13,52 13,53"]}]},
+                  {"headline":"Smoke","severity":"Severe"}]},
+         {"identifier":"mow.DE-2","info":[]}]
+        """;
+
+    List<Warning> warnings = parse(feed);
+
+    assertThat(warnings).hasSize(2);
+    Warning first = warnings.get(0);
+    assertThat(first.getId()).isEqualTo("mow.DE-1");
+    assertThat(first.getTitle()).isEqualTo("Rauch");
+    assertThat(first.getDescription()).isEqualTo("Fenster schließen");
+    assertThat(first.getSeverity()).isEqualTo("Minor");
+    assertThat(first.getPolygon().ringCount()).isEqualTo(3);
+    assertThat(first.getPolygon().contains(50.2, 8.7)).isTrue();
+    Warning second = warnings.get(1);
+    assertThat(second.getId()).isEqualTo("mow.DE-2");
+    assertThat(second.getPolygon()).isSameAs(PolygonGeometry.empty());
+  }
+
+  @Test
+  void rejectsAFeedThatIsNotAnArray() {
+    assertThatThrownBy(() -> parse("{\"identifier\":\"x\"}")).isInstanceOf(IOException.class);
+  }
+
+  private static List<Warning> parse(String json) throws IOException {
+    return MowasFeedParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static void assertScan(String text, double expected) {
+    double[] out = new double[1];
+
+    int end = MowasFeedParser.scanNumber(text.toCharArray(), 0, text.length(), out);
+
+    assertThat(end).as(text).isEqualTo(text.length());
+    assertThat(out[0]).as(text).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,92 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon25.safenet.application.service.feed.FeedScheduler;
+import com.hackathon25.safenet.application.service.feed.FeedSnapshotStore;
+import com.hackathon25.safenet.domain.exception.upstream.FeedNotReadyException;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import com.hackathon25.safenet.domain.port.outbound.WarningFeedPort;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WarningIngesterTest {
+
+  private final ApplicationProperties properties = new ApplicationProperties();
+  private final List<Object> events = new ArrayList<>();
+  private FeedScheduler feedScheduler;
+
+  @BeforeEach
+  void setUp() {
+    properties.getFeeds().setSnapshotsEnabled(false);
+    properties.getFeeds().setJitter(Duration.ZERO);
+    feedScheduler = new FeedScheduler(properties, new FeedSnapshotStore(properties));
+  }
+
+  @AfterEach
+  void tearDown() {
+    feedScheduler.destroy();
+  }
+
+  @Test
+  void isNotReadyBeforeTheFirstLoad() {
+    properties.getFeeds().setInitialLoadTimeout(Duration.ofMillis(10));
+    WarningIngester ingester = ingester(() -> List.of(warning("a")));
+
+    assertThatThrownBy(ingester::current).isInstanceOf(FeedNotReadyException.class);
+    assertThatThrownBy(() -> changelog(ingester).getChangesSince(null))
+        .isInstanceOf(FeedNotReadyException.class);
+  }
+
+  @Test
+  void isNotReadyWhileTheUpstreamFails() {
+    WarningIngester ingester =
+        ingester(
+            () -> {
+              throw new IllegalStateException("MoWaS unavailable");
+            });
+    feedScheduler.start();
+
+    assertThatThrownBy(ingester::current)
+        .isInstanceOf(FeedNotReadyException.class)
+        .hasMessageContaining("warnings");
+  }
+
+  @Test
+  void servesTheFirstLoadAndAnnouncesIt() {
+    WarningIngester ingester = ingester(() -> List.of(warning("a"), warning("b")));
+    feedScheduler.start();
+
+    assertThat(ingester.current().getWarnings())
+        .extracting(Warning::getId)
+        .containsExactlyInAnyOrder("a", "b");
+    assertThat(events).singleElement().isInstanceOf(WarningsChangedEvent.class);
+  }
+
+  @Test
+  void anEmptyFeedIsReadyWithoutAnnouncingAnything() {
+    WarningIngester ingester = ingester(List::of);
+    feedScheduler.start();
+
+    assertThat(ingester.current().size()).isZero();
+    assertThat(events).isEmpty();
+  }
+
+  private WarningIngester ingester(WarningFeedPort feedPort) {
+    return new WarningIngester(feedPort, events::add, feedScheduler);
+  }
+
+  private WarningChangelogService changelog(WarningIngester ingester) {
+    return new WarningChangelogService(ingester, properties);
+  }
+
+  private static Warning warning(String id) {
+    return Warning.builder().id(id).title(id).severity("Minor").build();
+  }
+}
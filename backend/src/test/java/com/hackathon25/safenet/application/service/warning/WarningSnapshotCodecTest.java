@@ -0,0 +1,52 @@
+package com.hackathon25.safenet.application.service.warning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.application.service.feed.FeedSnapshotStore;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.Warning;
+import com.hackathon25.safenet.domain.model.heatmapwarnings.WarningSnapshot;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WarningSnapshotCodecTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void snapshotSurvivesAStoreRoundTrip() {
+    ApplicationProperties properties = new ApplicationProperties();
+    properties.getFeeds().setSnapshotDirectory(directory);
+    FeedSnapshotStore store = new FeedSnapshotStore(properties);
+    WarningSnapshotCodec codec = new WarningSnapshotCodec();
+    PolygonGeometry polygon =
+        PolygonGeometry.builder()
+            .beginRing()
+            .addPoint(8.1234567, 50.7654321)
+            .addPoint(9, 50)
+            .addPoint(9, 51)
+            .beginRing()
+            .addPoint(-0.5, -10.25)
+            .addPoint(0.5, -10.25)
+            .addPoint(0, -9.75)
+            .build();
+    List<Warning> warnings =
+        List.of(
+            new Warning("mow.DE-1", "Rauch über Köln", "Fenster schließen", "Minor", polygon),
+            new Warning("mow.DE-2", null, "", null, PolygonGeometry.empty()),
+            new Warning("mow.DE-3", "Ohne Fläche", null, "Severe", null));
+    WarningSnapshot snapshot =
+        WarningSnapshot.of(warnings, Instant.parse("2026-10-17T08:00:00.123Z"));
+
+    store.save("warnings", snapshot, codec);
+    WarningSnapshot restored = store.load("warnings", codec).value();
+
+    assertThat(restored.getWarnings()).isEqualTo(warnings);
+    assertThat(restored.getFetchedAt()).isEqualTo(snapshot.getFetchedAt());
+    assertThat(restored.findNearby(50.5, 8.8, 1)).containsExactly(warnings.get(0));
+  }
+}
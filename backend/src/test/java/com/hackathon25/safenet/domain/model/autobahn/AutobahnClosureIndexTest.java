@@ -0,0 +1,157 @@
+package com.hackathon25.safenet.domain.model.autobahn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hackathon25.safenet.domain.model.geo.GeoMath;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AutobahnClosureIndexTest {
+
+  @Test
+  void locatesTheLineAndThePoint() {
+    AutobahnClosureItem closure =
+        closure("c1", line(7.0, 51.0, 7.1, 51.05, 7.2, 51.02), point("51.5", "7.5"));
+
+    AutobahnClosureIndex.LocatedClosure located = AutobahnClosureIndex.locate(closure);
+
+    assertThat(located.line())
+        .isSameAs(closure.getGeometry().getCoordinates())
+        .containsExactly(7.0, 51.0, 7.1, 51.05, 7.2, 51.02);
+    assertThat(located.pointLat()).isEqualTo(51.5);
+    assertThat(located.pointLon()).isEqualTo(7.5);
+    assertThat(located.bounds().minLat()).isEqualTo(51.0);
+    assertThat(located.bounds().maxLat()).isEqualTo(51.5);
+    assertThat(located.bounds().minLon()).isEqualTo(7.0);
+    assertThat(located.bounds().maxLon()).isEqualTo(7.5);
+  }
+
+  @Test
+  void skipsPositionsOutOfRangeAndInvalidCoordinates() {
+    AutobahnClosureItem closure =
+        closure(
+            "c1",
+            line(7.0, 51.0, 7.2, 95.0, 190.0, 51.0, 7.1, Double.NaN, 7.3, 51.1),
+            point("north", "7.5"));
+
+    AutobahnClosureIndex.LocatedClosure located = AutobahnClosureIndex.locate(closure);
+
+    assertThat(located.line()).containsExactly(7.0, 51.0, 7.3, 51.1);
+    assertThat(located.pointLat()).isNaN();
+    assertThat(located.pointLon()).isNaN();
+  }
+
+  @Test
+  void ignoresATrailingHalfPosition() {
+    AutobahnClosureIndex.LocatedClosure located =
+        AutobahnClosureIndex.locate(closure("c1", line(7.0, 51.0, 7.1), null));
+
+    assertThat(located.line()).containsExactly(7.0, 51.0);
+  }
+
+  @Test
+  void closureWithoutLocationIsNotLocated() {
+    assertThat(AutobahnClosureIndex.locate(closure("c1", null, null))).isNull();
+    assertThat(AutobahnClosureIndex.locate(closure("c2", null, point("95", "7")))).isNull();
+    assertThat(AutobahnClosureIndex.locate(closure("c3", line(), point(null, null)))).isNull();
+  }
+
+  @Test
+  void distanceToALineIsMeasuredToItsNearestSegment() {
+    AutobahnClosureIndex.LocatedClosure located =
+        AutobahnClosureIndex.locate(closure("c1", line(7.0, 51.0, 7.2, 51.0), null));
+
+    // Beside the middle of the segment: perpendicular distance.
+    assertThat(located.distanceKm(51.1, 7.1))
+        .isCloseTo(GeoMath.haversineKm(51.1, 7.1, 51.0, 7.1), within(0.05));
+    // Past the end of the segment: distance to the endpoint.
+    assertThat(located.distanceKm(51.0, 7.5))
+        .isCloseTo(GeoMath.haversineKm(51.0, 7.5, 51.0, 7.2), within(0.05));
+    // On the line.
+    assertThat(located.distanceKm(51.0, 7.05)).isCloseTo(0, within(1e-9));
+  }
+
+  @Test
+  void distanceIsToTheNearerOfLineAndPoint() {
+    AutobahnClosureIndex.LocatedClosure located =
+        AutobahnClosureIndex.locate(
+            closure("c1", line(7.0, 51.0, 7.2, 51.0), point("51.3", "7.1")));
+
+    assertThat(located.distanceKm(51.29, 7.1))
+        .isCloseTo(GeoMath.haversineKm(51.29, 7.1, 51.3, 7.1), within(0.01));
+    assertThat(located.distanceKm(51.01, 7.1))
+        .isCloseTo(GeoMath.haversineKm(51.01, 7.1, 51.0, 7.1), within(0.01));
+  }
+
+  @Test
+  void distanceToASinglePositionOrAPointOnly() {
+    AutobahnClosureIndex.LocatedClosure single =
+        AutobahnClosureIndex.locate(closure("c1", line(7.0, 51.0), null));
+    AutobahnClosureIndex.LocatedClosure pointOnly =
+        AutobahnClosureIndex.locate(closure("c2", null, point(" 51.0 ", "7.0")));
+
+    double expected = GeoMath.haversineKm(51.1, 7.1, 51.0, 7.0);
+    assertThat(single.distanceKm(51.1, 7.1)).isCloseTo(expected, within(expected * 0.005));
+    assertThat(pointOnly.distanceKm(51.1, 7.1)).isCloseTo(expected, within(expected * 0.005));
+  }
+
+  @Test
+  void nearReturnsClosuresWithinTheRadiusNearestFirst() {
+    AutobahnClosureItem far = closure("far", line(7.0, 51.2, 7.1, 51.2), null);
+    AutobahnClosureItem near = closure("near", null, point("51.01", "7.0"));
+    AutobahnClosureItem outside = closure("outside", line(8.0, 52.0, 8.1, 52.0), null);
+    AutobahnClosureItem unlocated = closure("unlocated", null, null);
+    AutobahnClosureIndex index =
+        AutobahnClosureIndex.of(Map.of("A1", List.of(far, near, outside, unlocated)));
+
+    assertThat(index.near(51.0, 7.0, 30)).containsExactly(near, far);
+    assertThat(index.near(51.0, 7.0, 5)).containsExactly(near);
+    assertThat(index.forRoad("A1")).containsExactly(far, near, outside, unlocated);
+    assertThat(index.forRoad("A2")).isEmpty();
+    assertThat(index.size()).isEqualTo(4);
+  }
+
+  @Test
+  void nearReportsAClosureListedForSeveralRoadsOnce() {
+    AutobahnClosureItem onA1 = closure("shared", line(7.0, 51.0, 7.1, 51.0), null);
+    AutobahnClosureItem onA2 = closure("shared", line(7.0, 51.0, 7.1, 51.0), null);
+    AutobahnClosureItem anonymous = closure(null, null, point("51.0", "7.05"));
+    AutobahnClosureItem anonymousToo = closure(null, null, point("51.0", "7.06"));
+    AutobahnClosureIndex index =
+        AutobahnClosureIndex.of(
+            Map.of("A1", List.of(onA1, anonymous), "A2", List.of(onA2, anonymousToo)));
+
+    List<AutobahnClosureItem> found = index.near(51.0, 7.05, 10);
+
+    assertThat(found).hasSize(3).contains(anonymous, anonymousToo);
+    assertThat(found).filteredOn(c -> "shared".equals(c.getIdentifier())).hasSize(1);
+  }
+
+  @Test
+  void emptyIndexFindsNothing() {
+    assertThat(AutobahnClosureIndex.empty().near(51, 7, 100)).isEmpty();
+    assertThat(AutobahnClosureIndex.empty().size()).isZero();
+  }
+
+  private static AutobahnClosureItem closure(
+      String id, AutobahnClosureItem.Geometry geometry, AutobahnClosureItem.Coordinate point) {
+    return AutobahnClosureItem.builder()
+        .identifier(id)
+        .roadId("A1")
+        .title(id)
+        .geometry(geometry)
+        .coordinate(point)
+        .build();
+  }
+
+  /** A line from {@code lon, lat} pairs, in GeoJSON order. */
+  private static AutobahnClosureItem.Geometry line(double... lonLat) {
+    return AutobahnClosureItem.Geometry.builder().type("LineString").coordinates(lonLat).build();
+  }
+
+  private static AutobahnClosureItem.Coordinate point(String lat, String lng) {
+    return AutobahnClosureItem.Coordinate.builder().lat(lat).lng(lng).build();
+  }
+}
@@ -0,0 +1,69 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BoundingBoxTest {
+
+  @Test
+  void aroundContainsTheWholeCircle() {
+    double lat = 52.52;
+    double lon = 13.405;
+    BoundingBox box = BoundingBox.around(lat, lon, 25);
+
+    for (int bearing = 0; bearing < 360; bearing += 5) {
+      double[] point = destination(lat, lon, 25, bearing);
+      assertThat(box.contains(point[0], point[1])).as("bearing %d", bearing).isTrue();
+    }
+  }
+
+  @Test
+  void aroundSpansAllLongitudesWhenTheCircleReachesAPole() {
+    BoundingBox north = BoundingBox.around(89.95, 10, 20);
+    BoundingBox south = BoundingBox.around(-89.5, -120, 100);
+
+    assertThat(north).isEqualTo(new BoundingBox(89.95 - 20 / GeoMath.KM_PER_DEGREE, -180, 90, 180));
+    assertThat(south.minLat()).isEqualTo(-90);
+    assertThat(south.minLon()).isEqualTo(-180);
+    assertThat(south.maxLon()).isEqualTo(180);
+  }
+
+  @Test
+  void aroundSpansAllLongitudesWhenTheCircleIsWiderThanTheEarth() {
+    BoundingBox box = BoundingBox.around(80, 0, 1500);
+
+    assertThat(box.minLon()).isEqualTo(-180);
+    assertThat(box.maxLon()).isEqualTo(180);
+  }
+
+  @Test
+  void boxPastTheAntimeridianIntersectsTheOtherSide() {
+    BoundingBox east = BoundingBox.around(0, 179.9, 50);
+    BoundingBox west = BoundingBox.around(0, -179.9, 50);
+
+    assertThat(east.maxLon()).isGreaterThan(180);
+    assertThat(west.minLon()).isLessThan(-180);
+    assertThat(east.intersects(new BoundingBox(-0.1, -179.8, 0.1, -179.7))).isTrue();
+    assertThat(west.intersects(new BoundingBox(-0.1, 179.7, 0.1, 179.8))).isTrue();
+    assertThat(east.intersects(new BoundingBox(-0.1, -170, 0.1, -169))).isFalse();
+    assertThat(east.intersects(new BoundingBox(1, -179.8, 2, -179.7))).isFalse();
+  }
+
+  /** Point at a great-circle distance and bearing from a start point. */
+  private static double[] destination(double lat, double lon, double distanceKm, double bearing) {
+    double angular = distanceKm / GeoMath.EARTH_RADIUS_KM;
+    double phi = Math.toRadians(lat);
+    double theta = Math.toRadians(bearing);
+    double phi2 =
+        Math.asin(
+            Math.sin(phi) * Math.cos(angular)
+                + Math.cos(phi) * Math.sin(angular) * Math.cos(theta));
+    double lambda2 =
+        Math.toRadians(lon)
+            + Math.atan2(
+                Math.sin(theta) * Math.sin(angular) * Math.cos(phi),
+                Math.cos(angular) - Math.sin(phi) * Math.sin(phi2));
+    return new double[] {Math.toDegrees(phi2), Math.toDegrees(lambda2)};
+  }
+}
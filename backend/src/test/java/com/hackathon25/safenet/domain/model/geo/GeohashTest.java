@@ -0,0 +1,117 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GeohashTest {
+
+  @Test
+  void encodesKnownVectors() {
+    assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    assertThat(Geohash.encode(42.605, -5.603, 5)).isEqualTo("ezs42");
+    assertThat(Geohash.encode(-25.382708, -49.265506, 8)).isEqualTo("6gkzwgjz");
+    assertThat(Geohash.encode(0, 0, 1)).isEqualTo("s");
+    assertThat(Geohash.encode(-90, -180, 4)).isEqualTo("0000");
+    assertThat(Geohash.encode(90, 180, 4)).isEqualTo("zzzz");
+  }
+
+  @Test
+  void decodesKnownVectors() {
+    BoundingBox ezs42 = Geohash.bounds("ezs42");
+
+    assertThat(ezs42.minLat()).isEqualTo(42.5830078125);
+    assertThat(ezs42.maxLat()).isEqualTo(42.626953125);
+    assertThat(ezs42.minLon()).isEqualTo(-5.625);
+    assertThat(ezs42.maxLon()).isEqualTo(-5.5810546875);
+    assertThat(Geohash.bounds("")).isEqualTo(new BoundingBox(-90, -180, 90, 180));
+  }
+
+  @Test
+  void decodedCellContainsTheEncodedLocation() {
+    Random random = new Random(3);
+    for (int i = 0; i < 10_000; i++) {
+      double lat = random.nextDouble() * 180 - 90;
+      double lon = random.nextDouble() * 360 - 180;
+      int precision = 1 + random.nextInt(12);
+
+      BoundingBox cell = Geohash.bounds(Geohash.encode(lat, lon, precision));
+
+      assertThat(cell.contains(lat, lon)).isTrue();
+      assertThat(cell.maxLat() - cell.minLat())
+          .isCloseTo(Geohash.cellHeight(precision), within(1e-12));
+      assertThat(cell.maxLon() - cell.minLon())
+          .isCloseTo(Geohash.cellWidth(precision), within(1e-12));
+    }
+  }
+
+  @Test
+  void rejectsInvalidCharacters() {
+    assertThatThrownBy(() -> Geohash.bounds("u4a")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Geohash.bounds("u4ß")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void cellSizes() {
+    assertThat(Geohash.cellHeight(1)).isEqualTo(45);
+    assertThat(Geohash.cellWidth(1)).isEqualTo(45);
+    assertThat(Geohash.cellHeight(5)).isEqualTo(180 / 4096.0);
+    assertThat(Geohash.cellWidth(5)).isEqualTo(360 / 8192.0);
+    assertThat(Geohash.cellHeight(6)).isEqualTo(180 / 32768.0);
+    assertThat(Geohash.cellWidth(6)).isEqualTo(360 / 32768.0);
+  }
+
+  @Test
+  void ofCellMatchesEncodeOfTheCellCenter() {
+    Random random = new Random(5);
+    for (int i = 0; i < 10_000; i++) {
+      int precision = 1 + random.nextInt(8);
+      long rows = Math.round(180 / Geohash.cellHeight(precision));
+      long columns = Math.round(360 / Geohash.cellWidth(precision));
+      long row = (long) (random.nextDouble() * rows);
+      long column = (long) (random.nextDouble() * columns);
+      double lat = (row + 0.5) * Geohash.cellHeight(precision) - 90;
+      double lon = (column + 0.5) * Geohash.cellWidth(precision) - 180;
+
+      assertThat(Geohash.ofCell(row, column, precision))
+          .isEqualTo(Geohash.encode(lat, lon, precision));
+    }
+  }
+
+  @Test
+  void coveringReturnsEveryCellOfTheBoxOnce() {
+    BoundingBox box = new BoundingBox(52.4, 13.2, 52.6, 13.6);
+
+    List<String> cells = Geohash.covering(box, 5);
+
+    assertThat(cells).doesNotHaveDuplicates().hasSize(Geohash.coveringCount(box, 5));
+    for (double lat = 52.4; lat <= 52.6; lat += 0.01) {
+      for (double lon = 13.2; lon <= 13.6; lon += 0.01) {
+        assertThat(cells).contains(Geohash.encode(lat, lon, 5));
+      }
+    }
+  }
+
+  @Test
+  void coveringWrapsAroundTheAntimeridian() {
+    List<String> cells = Geohash.covering(BoundingBox.around(-17.7, 179.99, 5), 4);
+
+    assertThat(cells)
+        .contains(Geohash.encode(-17.7, 179.99, 4), Geohash.encode(-17.7, -179.98, 4))
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void coveringOfAPoleBoxStopsAtThePole() {
+    BoundingBox box = BoundingBox.around(89.99, 0, 5);
+
+    List<String> cells = Geohash.covering(box, 2);
+
+    assertThat(cells).hasSize(Geohash.coveringCount(box, 2)).hasSize(32).doesNotHaveDuplicates();
+    assertThat(cells).allSatisfy(cell -> assertThat(Geohash.bounds(cell).maxLat()).isEqualTo(90));
+  }
+}
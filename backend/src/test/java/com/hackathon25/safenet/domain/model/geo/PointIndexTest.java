@@ -0,0 +1,166 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class PointIndexTest {
+
+  private record Point(int id, double lat, double lon) {}
+
+  @Test
+  void nearestMatchesBruteForce() {
+    Random random = new Random(11);
+    List<Point> points = randomPoints(random, 2_000, 47, 55, 5, 16);
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+
+    for (int i = 0; i < 200; i++) {
+      double lat = 46 + random.nextDouble() * 10;
+      double lon = 4 + random.nextDouble() * 13;
+      int k = 1 + random.nextInt(30);
+
+      assertSameNeighbours(
+          index.nearest(lat, lon, k), bruteForce(points, lat, lon, point -> true), k);
+    }
+  }
+
+  @Test
+  void nearestAcrossTheWholeGlobe() {
+    Random random = new Random(13);
+    List<Point> points = randomPoints(random, 1_000, -90, 90, -180, 180);
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+
+    double[][] queries = {{89.9, 0}, {-89.9, 120}, {0, 179.99}, {-17.7, -179.99}, {0, 0}};
+    for (double[] query : queries) {
+      assertSameNeighbours(
+          index.nearest(query[0], query[1], 10),
+          bruteForce(points, query[0], query[1], point -> true),
+          10);
+    }
+  }
+
+  @Test
+  void nearestFindsNeighboursAcrossTheAntimeridian() {
+    Point west = new Point(1, -17.7, -179.95);
+    Point east = new Point(2, -17.7, 178.0);
+    PointIndex<Point> index = PointIndex.build(List.of(west, east), Point::lat, Point::lon);
+
+    List<PointIndex.Neighbour<Point>> nearest = index.nearest(-17.7, 179.95, 1);
+
+    assertThat(nearest).extracting(PointIndex.Neighbour::item).containsExactly(west);
+    assertThat(nearest.get(0).distanceKm())
+        .isCloseTo(GeoMath.haversineKm(-17.7, 179.95, -17.7, -179.95), within(1e-6));
+  }
+
+  @Test
+  void nearestAppliesTheFilterBeforeCountingK() {
+    Random random = new Random(17);
+    List<Point> points = randomPoints(random, 1_000, 47, 55, 5, 16);
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+    Predicate<Point> even = point -> point.id() % 2 == 0;
+
+    List<PointIndex.Neighbour<Point>> nearest =
+        index.nearest(51, 10, 25, neighbour -> even.test(neighbour.item()));
+
+    assertThat(nearest).hasSize(25).allSatisfy(n -> assertThat(even.test(n.item())).isTrue());
+    assertSameNeighbours(nearest, bruteForce(points, 51, 10, even), 25);
+  }
+
+  @Test
+  void nearestReturnsEveryItemWhenKExceedsTheSize() {
+    List<Point> points = randomPoints(new Random(19), 7, 47, 55, 5, 16);
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+
+    assertThat(index.nearest(51, 10, 100)).hasSize(7);
+    assertThat(index.nearest(51, 10, 0)).isEmpty();
+    assertThat(index.size()).isEqualTo(7);
+    assertThat(index.items()).containsExactlyInAnyOrderElementsOf(points);
+  }
+
+  @Test
+  void emptyIndexFindsNothing() {
+    PointIndex<Point> built = PointIndex.build(List.of(), Point::lat, Point::lon);
+
+    assertThat(built.nearest(51, 10, 5)).isEmpty();
+    assertThat(built.withinRadius(51, 10, 1_000)).isEmpty();
+    assertThat(PointIndex.<Point>empty().nearest(51, 10, 5)).isEmpty();
+    assertThat(PointIndex.<Point>empty().size()).isZero();
+  }
+
+  @Test
+  void withinRadiusMatchesBruteForce() {
+    Random random = new Random(23);
+    List<Point> points = randomPoints(random, 2_000, 47, 55, 5, 16);
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+
+    for (int i = 0; i < 100; i++) {
+      double lat = 46 + random.nextDouble() * 10;
+      double lon = 4 + random.nextDouble() * 13;
+      double radiusKm = random.nextDouble() * 150;
+
+      List<PointIndex.Neighbour<Point>> expected =
+          bruteForce(points, lat, lon, point -> true).stream()
+              .filter(neighbour -> neighbour.distanceKm() <= radiusKm)
+              .toList();
+      List<PointIndex.Neighbour<Point>> actual = index.withinRadius(lat, lon, radiusKm);
+
+      assertThat(actual)
+          .extracting(PointIndex.Neighbour::item)
+          .containsExactlyInAnyOrderElementsOf(
+              expected.stream().map(PointIndex.Neighbour::item).toList());
+      assertThat(actual).isSortedAccordingTo(Comparator.comparingDouble(n -> n.distanceKm()));
+    }
+  }
+
+  @Test
+  void withinRadiusAroundThePole() {
+    List<Point> points =
+        List.of(new Point(1, 89.95, 0), new Point(2, 89.95, 180), new Point(3, 89.0, 90));
+    PointIndex<Point> index = PointIndex.build(points, Point::lat, Point::lon);
+
+    assertThat(index.withinRadius(90, 0, 10))
+        .extracting(PointIndex.Neighbour::item)
+        .containsExactlyInAnyOrder(points.get(0), points.get(1));
+    assertThat(index.withinRadius(90, 0, -1)).isEmpty();
+  }
+
+  private static List<Point> randomPoints(
+      Random random, int count, double minLat, double maxLat, double minLon, double maxLon) {
+    List<Point> points = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      points.add(
+          new Point(
+              i,
+              minLat + random.nextDouble() * (maxLat - minLat),
+              minLon + random.nextDouble() * (maxLon - minLon)));
+    }
+    return points;
+  }
+
+  private static List<PointIndex.Neighbour<Point>> bruteForce(
+      List<Point> points, double lat, double lon, Predicate<Point> accept) {
+    return points.stream()
+        .filter(accept)
+        .map(
+            point ->
+                new PointIndex.Neighbour<>(
+                    point, GeoMath.haversineKm(lat, lon, point.lat(), point.lon())))
+        .sorted(Comparator.comparingDouble(PointIndex.Neighbour::distanceKm))
+        .toList();
+  }
+
+  /** Compares distances rather than items, so ties between equidistant points cannot fail. */
+  private static void assertSameNeighbours(
+      List<PointIndex.Neighbour<Point>> actual, List<PointIndex.Neighbour<Point>> expected, int k) {
+    assertThat(actual).hasSize(Math.min(k, expected.size()));
+    for (int i = 0; i < actual.size(); i++) {
+      assertThat(actual.get(i).distanceKm()).isCloseTo(expected.get(i).distanceKm(), within(1e-6));
+    }
+  }
+}
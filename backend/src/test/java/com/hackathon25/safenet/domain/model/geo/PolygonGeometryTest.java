@@ -0,0 +1,142 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class PolygonGeometryTest {
+
+  /** A "C" open to the east: the notch between lat 50.4 and 50.6 east of lon 8.3 is outside. */
+  private static final PolygonGeometry C_SHAPE =
+      PolygonGeometry.builder()
+          .beginRing()
+          .addPoint(8, 50)
+          .addPoint(9, 50)
+          .addPoint(9, 50.4)
+          .addPoint(8.3, 50.4)
+          .addPoint(8.3, 50.6)
+          .addPoint(9, 50.6)
+          .addPoint(9, 51)
+          .addPoint(8, 51)
+          .build();
+
+  @Test
+  void containsPointsInsideAConcaveRingOnly() {
+    assertThat(C_SHAPE.contains(50.2, 8.5)).isTrue();
+    assertThat(C_SHAPE.contains(50.5, 8.1)).isTrue();
+    assertThat(C_SHAPE.contains(50.8, 8.9)).isTrue();
+    assertThat(C_SHAPE.contains(50.5, 8.6)).isFalse();
+    assertThat(C_SHAPE.contains(49.9, 8.5)).isFalse();
+    assertThat(C_SHAPE.contains(50.5, 9.1)).isFalse();
+  }
+
+  @Test
+  void ringInsideAnotherRingIsAnotherAreaNotAHole() {
+    // CAP polygons have no holes: every ring is an area of its own, so a point in the inner ring
+    // is covered twice rather than cut out.
+    PolygonGeometry nested =
+        PolygonGeometry.builder()
+            .beginRing()
+            .addPoint(8, 50)
+            .addPoint(9, 50)
+            .addPoint(9, 51)
+            .addPoint(8, 51)
+            .beginRing()
+            .addPoint(8.4, 50.4)
+            .addPoint(8.6, 50.4)
+            .addPoint(8.6, 50.6)
+            .addPoint(8.4, 50.6)
+            .build();
+
+    assertThat(nested.ringCount()).isEqualTo(2);
+    assertThat(nested.contains(50.5, 8.5)).isTrue();
+    assertThat(nested.ringContains(0, 50.5, 8.5)).isTrue();
+    assertThat(nested.ringContains(1, 50.5, 8.5)).isTrue();
+    assertThat(nested.ringContains(1, 50.2, 8.2)).isFalse();
+    assertThat(nested.distanceKm(50.5, 8.5)).isZero();
+  }
+
+  @Test
+  void distanceToTheNearestEdge() {
+    PolygonGeometry square = square(50, 8, 51, 9);
+
+    double expected = GeoMath.haversineKm(50.5, 9, 50.5, 9.5);
+    assertThat(square.distanceKm(50.5, 9.5)).isCloseTo(expected, within(expected * 0.005));
+    assertThat(square.distanceKm(51.2, 8.5)).isCloseTo(0.2 * GeoMath.KM_PER_DEGREE, within(0.1));
+    assertThat(square.distanceKm(50.5, 8.5)).isZero();
+  }
+
+  @Test
+  void distanceToACornerIsMeasuredToThatVertex() {
+    PolygonGeometry square = square(50, 8, 51, 9);
+
+    double expected = GeoMath.haversineKm(51, 9, 51.1, 9.1);
+    assertThat(square.distanceKm(51.1, 9.1)).isCloseTo(expected, within(expected * 0.005));
+  }
+
+  @Test
+  void withinRadiusIncludesContainedAndNearbyPointsOnly() {
+    PolygonGeometry square = square(50, 8, 51, 9);
+    double gap = GeoMath.haversineKm(50.5, 9, 50.5, 9.2);
+
+    assertThat(square.isWithinRadius(50.5, 8.5, 0)).isTrue();
+    assertThat(square.isWithinRadius(50.5, 9.2, gap + 0.5)).isTrue();
+    assertThat(square.isWithinRadius(50.5, 9.2, gap - 0.5)).isFalse();
+  }
+
+  @Test
+  void withinRadiusAcrossTheAntimeridian() {
+    PolygonGeometry fiji = square(-17.8, 179.5, -17.6, 179.9);
+    double gap = GeoMath.haversineKm(-17.7, 179.9, -17.7, -179.95);
+
+    assertThat(fiji.isWithinRadius(-17.7, -179.95, gap + 1)).isTrue();
+    assertThat(fiji.isWithinRadius(-17.7, -179.95, gap - 1)).isFalse();
+    assertThat(fiji.distanceKm(-17.7, -179.95)).isCloseTo(gap, within(gap * 0.005));
+  }
+
+  @Test
+  void storesCoordinatesAtOneTenMillionthOfADegree() {
+    PolygonGeometry polygon =
+        PolygonGeometry.builder().addPoint(8.12345678, 50.87654321).addPoint(9, 51).build();
+
+    assertThat(polygon.lon(0)).isCloseTo(8.1234568, within(1e-9));
+    assertThat(polygon.lat(0)).isCloseTo(50.8765432, within(1e-9));
+  }
+
+  @Test
+  void builderDropsEmptyRings() {
+    PolygonGeometry polygon =
+        PolygonGeometry.builder()
+            .beginRing()
+            .beginRing()
+            .addPoint(8, 50)
+            .addPoint(9, 50)
+            .addPoint(9, 51)
+            .endRing()
+            .beginRing()
+            .build();
+
+    assertThat(polygon.ringCount()).isEqualTo(1);
+    assertThat(polygon.pointCount()).isEqualTo(3);
+    assertThat(PolygonGeometry.builder().build()).isSameAs(PolygonGeometry.empty());
+  }
+
+  @Test
+  void ringBoundsEncloseTheRing() {
+    PolygonGeometry polygon = square(50, 8, 51, 9);
+
+    assertThat(polygon.ringBounds(0)).isEqualTo(new BoundingBox(50, 8, 51, 9));
+  }
+
+  private static PolygonGeometry square(
+      double minLat, double minLon, double maxLat, double maxLon) {
+    return PolygonGeometry.builder()
+        .beginRing()
+        .addPoint(minLon, minLat)
+        .addPoint(maxLon, minLat)
+        .addPoint(maxLon, maxLat)
+        .addPoint(minLon, maxLat)
+        .build();
+  }
+}
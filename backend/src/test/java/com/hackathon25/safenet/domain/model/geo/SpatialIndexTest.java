@@ -0,0 +1,81 @@
+package com.hackathon25.safenet.domain.model.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTest {
+
+  private static final BoundingBox WORLD = new BoundingBox(-90, -180, 90, 180);
+
+  @Test
+  void emptyIndexFindsNothing() {
+    SpatialIndex<BoundingBox> index = SpatialIndex.build(List.of(), box -> box);
+
+    assertThat(index.size()).isZero();
+    assertThat(index.query(WORLD)).isEmpty();
+  }
+
+  @Test
+  void packsEveryItemExactlyOnce() {
+    // Sizes around the node capacity of 16 and its powers exercise partial nodes and slices.
+    for (int size : new int[] {1, 15, 16, 17, 256, 257, 5000}) {
+      List<BoundingBox> boxes = randomBoxes(size, new Random(size));
+
+      SpatialIndex<BoundingBox> index = SpatialIndex.build(boxes, box -> box);
+
+      assertThat(index.size()).isEqualTo(size);
+      assertThat(index.query(WORLD)).containsExactlyInAnyOrderElementsOf(boxes);
+    }
+  }
+
+  @Test
+  void queryMatchesBruteForce() {
+    Random random = new Random(42);
+    List<BoundingBox> boxes = randomBoxes(3000, random);
+    SpatialIndex<BoundingBox> index = SpatialIndex.build(boxes, box -> box);
+
+    for (int i = 0; i < 500; i++) {
+      BoundingBox query = randomBox(random, 2);
+      List<BoundingBox> expected = new ArrayList<>();
+      for (BoundingBox box : boxes) {
+        if (query.intersects(box)) {
+          expected.add(box);
+        }
+      }
+
+      assertThat(index.query(query)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+
+  @Test
+  void queryPastTheAntimeridianFindsItemsOnTheOtherSide() {
+    BoundingBox east = new BoundingBox(-17.8, 178.4, -17.6, 178.6);
+    BoundingBox west = new BoundingBox(-17.8, -179.9, -17.6, -179.7);
+    BoundingBox far = new BoundingBox(-17.8, -170, -17.6, -169);
+    SpatialIndex<BoundingBox> index = SpatialIndex.build(List.of(east, west, far), box -> box);
+
+    assertThat(index.query(BoundingBox.around(-17.7, 179.95, 50))).containsExactlyInAnyOrder(west);
+    assertThat(index.query(BoundingBox.around(-17.7, -179.95, 200)))
+        .containsExactlyInAnyOrder(east, west);
+  }
+
+  private static List<BoundingBox> randomBoxes(int count, Random random) {
+    List<BoundingBox> boxes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      boxes.add(randomBox(random, 0.5));
+    }
+    return boxes;
+  }
+
+  /** A box somewhere around Germany with edges of up to {@code maxSize} degrees. */
+  private static BoundingBox randomBox(Random random, double maxSize) {
+    double lat = 47 + random.nextDouble() * 8;
+    double lon = 5 + random.nextDouble() * 10;
+    return new BoundingBox(
+        lat, lon, lat + random.nextDouble() * maxSize, lon + random.nextDouble() * maxSize);
+  }
+}
@@ -0,0 +1,163 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.model.geo.BoundingBox;
+import com.hackathon25.safenet.domain.model.geo.Geohash;
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class HeatmapGridTest {
+
+  private static final BoundingBox GERMANY = new BoundingBox(47, 5.5, 55.5, 15.5);
+  private static final Instant GENERATED_AT = Instant.parse("2026-10-17T08:00:00Z");
+
+  @Test
+  void rasterizedCellsAreTheCellsWhoseCenterLiesInThePolygon() {
+    PolygonGeometry triangle = polygon(8, 50, 9.5, 50.2, 8.6, 51.1);
+
+    HeatmapCells cells = gridOf(triangle, 1).query(GERMANY, HeatmapGrid.MAX_PRECISION);
+
+    assertThat(cells.geohashes()).hasSize(HeatmapGrid.rasterize(triangle).length).isNotEmpty();
+    for (String geohash : cells.geohashes()) {
+      BoundingBox cell = Geohash.bounds(geohash);
+      double centerLat = (cell.minLat() + cell.maxLat()) / 2;
+      double centerLon = (cell.minLon() + cell.maxLon()) / 2;
+      assertThat(triangle.contains(centerLat, centerLon)).as(geohash).isTrue();
+    }
+    // Every cell around the polygon whose center is inside was marked.
+    for (String geohash : Geohash.covering(triangle.ringBounds(0), HeatmapGrid.MAX_PRECISION)) {
+      BoundingBox cell = Geohash.bounds(geohash);
+      if (triangle.contains(
+          (cell.minLat() + cell.maxLat()) / 2, (cell.minLon() + cell.maxLon()) / 2)) {
+        assertThat(cells.geohashes()).contains(geohash);
+      }
+    }
+  }
+
+  @Test
+  void ringSmallerThanACellMarksTheCellOfItsCenter() {
+    PolygonGeometry tiny = polygon(8.5001, 50.0001, 8.5002, 50.0001, 8.5002, 50.0002);
+
+    int[] cells = HeatmapGrid.rasterize(tiny);
+
+    assertThat(cells).hasSize(1);
+    assertThat(gridOf(tiny, 1).query(GERMANY, HeatmapGrid.MAX_PRECISION).geohashes())
+        .containsExactly(Geohash.encode(50.00015, 8.50015, HeatmapGrid.MAX_PRECISION));
+  }
+
+  @Test
+  void polygonsOutsideTheGridMarkNothing() {
+    assertThat(HeatmapGrid.rasterize(polygon(-1, 40, 1, 40, 0, 41))).isEmpty();
+    assertThat(HeatmapGrid.rasterize(PolygonGeometry.empty())).isEmpty();
+  }
+
+  @Test
+  void coarserLevelsHoldTheMaximumOfTheirCells() {
+    PolygonGeometry west = polygon(7, 50, 7.3, 50, 7.15, 50.3);
+    PolygonGeometry east = polygon(12, 52, 12.4, 52, 12.2, 52.3);
+    double[] intensities = new double[HeatmapGrid.CELL_COUNT];
+    add(intensities, west, 0.25);
+    add(intensities, east, 1);
+    add(intensities, polygon(7.1, 50.1, 7.2, 50.1, 7.15, 50.2), 0.5);
+    HeatmapGrid grid = HeatmapGrid.of(intensities, GENERATED_AT);
+
+    HeatmapCells fine = grid.query(GERMANY, HeatmapGrid.MAX_PRECISION);
+    for (int precision = HeatmapGrid.MIN_PRECISION;
+        precision < HeatmapGrid.MAX_PRECISION;
+        precision++) {
+      Map<String, Float> expected = new HashMap<>();
+      for (int i = 0; i < fine.geohashes().size(); i++) {
+        expected.merge(
+            fine.geohashes().get(i).substring(0, precision), fine.intensities()[i], Math::max);
+      }
+      HeatmapCells coarse = grid.query(GERMANY, precision);
+
+      assertThat(coarse.precision()).isEqualTo(precision);
+      assertThat(toMap(coarse)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void queryReturnsOnlyCellsIntersectingTheBox() {
+    PolygonGeometry west = polygon(7, 50, 7.3, 50, 7.15, 50.3);
+    PolygonGeometry east = polygon(12, 52, 12.4, 52, 12.2, 52.3);
+    double[] intensities = new double[HeatmapGrid.CELL_COUNT];
+    add(intensities, west, 1);
+    add(intensities, east, 1);
+    HeatmapGrid grid = HeatmapGrid.of(intensities, GENERATED_AT);
+
+    HeatmapCells cells = grid.query(new BoundingBox(49.5, 6.5, 50.5, 7.5), 5);
+
+    assertThat(cells.geohashes()).isNotEmpty();
+    Set<String> eastCells =
+        Set.copyOf(grid.query(new BoundingBox(51.5, 11.5, 52.5, 12.5), 5).geohashes());
+    assertThat(cells.geohashes()).doesNotContainAnyElementsOf(eastCells);
+    assertThat(cells.generatedAt()).isEqualTo(GENERATED_AT);
+  }
+
+  @Test
+  void precisionIsClampedToTheSupportedLevels() {
+    HeatmapGrid grid = gridOf(polygon(8, 50, 9.5, 50.2, 8.6, 51.1), 1);
+
+    assertThat(grid.query(GERMANY, 1).precision()).isEqualTo(HeatmapGrid.MIN_PRECISION);
+    assertThat(grid.query(GERMANY, 9).precision()).isEqualTo(HeatmapGrid.MAX_PRECISION);
+  }
+
+  @Test
+  void dropsRoundingResidue() {
+    double[] intensities = new double[HeatmapGrid.CELL_COUNT];
+    PolygonGeometry triangle = polygon(8, 50, 9.5, 50.2, 8.6, 51.1);
+    add(intensities, triangle, 0.1);
+    add(intensities, triangle, 0.2);
+    add(intensities, triangle, -0.1);
+    add(intensities, triangle, -0.2);
+
+    assertThat(HeatmapGrid.of(intensities, GENERATED_AT).query(GERMANY, 5).geohashes()).isEmpty();
+  }
+
+  @Test
+  void severityWeights() {
+    assertThat(HeatmapGrid.severityWeight("Extreme")).isEqualTo(1.0f);
+    assertThat(HeatmapGrid.severityWeight("SEVERE")).isEqualTo(0.75f);
+    assertThat(HeatmapGrid.severityWeight("moderate")).isEqualTo(0.5f);
+    assertThat(HeatmapGrid.severityWeight("Minor")).isEqualTo(0.25f);
+    assertThat(HeatmapGrid.severityWeight("Unknown")).isEqualTo(0.1f);
+    assertThat(HeatmapGrid.severityWeight(null)).isEqualTo(0.1f);
+  }
+
+  private static HeatmapGrid gridOf(PolygonGeometry polygon, double weight) {
+    double[] intensities = new double[HeatmapGrid.CELL_COUNT];
+    add(intensities, polygon, weight);
+    return HeatmapGrid.of(intensities, GENERATED_AT);
+  }
+
+  private static void add(double[] intensities, PolygonGeometry polygon, double weight) {
+    for (int cell : HeatmapGrid.rasterize(polygon)) {
+      intensities[cell] += weight;
+    }
+  }
+
+  private static Map<String, Float> toMap(HeatmapCells cells) {
+    List<String> geohashes = cells.geohashes();
+    return IntStream.range(0, geohashes.size())
+        .boxed()
+        .collect(Collectors.toMap(geohashes::get, i -> cells.intensities()[i]));
+  }
+
+  /** A single ring from {@code lon, lat} pairs. */
+  private static PolygonGeometry polygon(double... lonLat) {
+    PolygonGeometry.Builder builder = PolygonGeometry.builder().beginRing();
+    for (int i = 0; i < lonLat.length; i += 2) {
+      builder.addPoint(lonLat[i], lonLat[i + 1]);
+    }
+    return builder.build();
+  }
+}
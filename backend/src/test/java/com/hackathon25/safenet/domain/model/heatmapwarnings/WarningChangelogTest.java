@@ -0,0 +1,168 @@
+package com.hackathon25.safenet.domain.model.heatmapwarnings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WarningChangelogTest {
+
+  private static final long FIRST_SEQUENCE = 1_000;
+
+  private WarningSnapshot current = WarningSnapshot.empty();
+
+  @Test
+  void newChangelogServesAnEmptyFullSnapshotAndNoDelta() {
+    WarningChangelog changelog = new WarningChangelog(4, FIRST_SEQUENCE);
+
+    assertThat(changelog.changesSince(null))
+        .isEqualTo(new WarningChanges(FIRST_SEQUENCE, true, List.of(), List.of(), List.of()));
+    assertThat(changelog.changesSince(FIRST_SEQUENCE))
+        .isEqualTo(new WarningChanges(FIRST_SEQUENCE, false, List.of(), List.of(), List.of()));
+  }
+
+  @Test
+  void everyRecordAdvancesTheSequenceByOne() {
+    WarningChangelog changelog = new WarningChangelog(4, FIRST_SEQUENCE);
+
+    publish(changelog, warning("a", "v1"));
+    publish(changelog, warning("a", "v1"), warning("b", "v1"));
+
+    assertThat(changelog.getSequence()).isEqualTo(FIRST_SEQUENCE + 2);
+    assertThat(changelog.changesSince(FIRST_SEQUENCE + 1).added())
+        .containsExactly(warning("b", "v1"));
+  }
+
+  @Test
+  void collapsesChangesToTheSameWarning() {
+    WarningChangelog changelog = new WarningChangelog(8, FIRST_SEQUENCE);
+    publish(changelog, warning("kept", "v1"), warning("updated", "v1"), warning("gone", "v1"));
+    long since = changelog.getSequence();
+
+    publish(changelog, warning("kept", "v1"), warning("updated", "v2"), warning("flash", "v1"));
+    publish(changelog, warning("kept", "v1"), warning("updated", "v3"), warning("new", "v1"));
+    publish(changelog, warning("kept", "v1"), warning("updated", "v3"), warning("new", "v2"));
+    WarningChanges changes = changelog.changesSince(since);
+
+    assertThat(changes.full()).isFalse();
+    assertThat(changes.sequence()).isEqualTo(changelog.getSequence());
+    // Added and removed again in between: the client never has to know.
+    assertThat(changes.added()).containsExactly(warning("new", "v2"));
+    assertThat(changes.updated()).containsExactly(warning("updated", "v3"));
+    assertThat(changes.removed()).containsExactly("gone");
+  }
+
+  @Test
+  void warningRemovedAndAddedAgainIsAnUpdate() {
+    WarningChangelog changelog = new WarningChangelog(8, FIRST_SEQUENCE);
+    publish(changelog, warning("a", "v1"));
+    long since = changelog.getSequence();
+
+    publish(changelog);
+    publish(changelog, warning("a", "v2"));
+
+    WarningChanges changes = changelog.changesSince(since);
+    assertThat(changes.added()).isEmpty();
+    assertThat(changes.updated()).containsExactly(warning("a", "v2"));
+    assertThat(changes.removed()).isEmpty();
+  }
+
+  @Test
+  void sequenceOutsideTheRetainedWindowGetsAFullSnapshot() {
+    WarningChangelog changelog = new WarningChangelog(2, FIRST_SEQUENCE);
+    publish(changelog, warning("a", "v1"));
+    publish(changelog, warning("a", "v2"));
+    publish(changelog, warning("a", "v3"), warning("b", "v1"));
+
+    // Entries FIRST + 2 and FIRST + 3 are retained, so FIRST + 1 is the oldest answerable cursor.
+    assertThat(changelog.changesSince(FIRST_SEQUENCE + 1).full()).isFalse();
+    WarningChanges tooOld = changelog.changesSince(FIRST_SEQUENCE);
+    assertThat(tooOld.full()).isTrue();
+    assertThat(tooOld.added()).containsExactly(warning("a", "v3"), warning("b", "v1"));
+    assertThat(tooOld.sequence()).isEqualTo(FIRST_SEQUENCE + 3);
+  }
+
+  @Test
+  void sequenceFromTheFutureOrAnotherProcessGetsAFullSnapshot() {
+    WarningChangelog changelog = new WarningChangelog(4, FIRST_SEQUENCE);
+    publish(changelog, warning("a", "v1"));
+
+    assertThat(changelog.changesSince(FIRST_SEQUENCE + 2).full()).isTrue();
+    assertThat(changelog.changesSince(-1L).full()).isTrue();
+    assertThat(changelog.changesSince(Long.MAX_VALUE).full()).isTrue();
+  }
+
+  @Test
+  void cursorIsStableAcrossRepeatedReads() {
+    WarningChangelog changelog = new WarningChangelog(4, FIRST_SEQUENCE);
+    publish(changelog, warning("a", "v1"));
+    long since = changelog.getSequence();
+    publish(changelog, warning("a", "v2"), warning("b", "v1"));
+
+    WarningChanges first = changelog.changesSince(since);
+    WarningChanges second = changelog.changesSince(since);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(changelog.changesSince(first.sequence()))
+        .isEqualTo(new WarningChanges(first.sequence(), false, List.of(), List.of(), List.of()));
+  }
+
+  @Test
+  void clientsPollingAtAnyPaceConvergeOnTheCurrentSnapshot() {
+    Random random = new Random(11);
+    WarningChangelog changelog = new WarningChangelog(6, FIRST_SEQUENCE);
+    Map<String, Warning> fast = new LinkedHashMap<>();
+    Map<String, Warning> slow = new LinkedHashMap<>();
+    long fastCursor = apply(fast, changelog.changesSince(null));
+    long slowCursor = apply(slow, changelog.changesSince(null));
+
+    for (int round = 0; round < 200; round++) {
+      List<Warning> next = new ArrayList<>();
+      for (int id = 0; id < 10; id++) {
+        if (random.nextInt(3) > 0) {
+          next.add(warning("w" + id, "v" + random.nextInt(3)));
+        }
+      }
+      publish(changelog, next.toArray(Warning[]::new));
+
+      fastCursor = apply(fast, changelog.changesSince(fastCursor));
+      assertThat(fast.values()).containsExactlyInAnyOrderElementsOf(next);
+      if (round % 5 == 4) {
+        slowCursor = apply(slow, changelog.changesSince(slowCursor));
+        assertThat(slow.values()).containsExactlyInAnyOrderElementsOf(next);
+      }
+    }
+  }
+
+  private void publish(WarningChangelog changelog, Warning... warnings) {
+    WarningSnapshot next = WarningSnapshot.of(List.of(warnings), Instant.EPOCH);
+    changelog.record(next, WarningDiff.between(current, next));
+    current = next;
+  }
+
+  /** Applies changes like a client would and returns the cursor to send next. */
+  private static long apply(Map<String, Warning> state, WarningChanges changes) {
+    if (changes.full()) {
+      state.clear();
+    }
+    changes.added().forEach(warning -> state.put(warning.getId(), warning));
+    changes.updated().forEach(warning -> state.put(warning.getId(), warning));
+    changes.removed().forEach(state::remove);
+    return changes.sequence();
+  }
+
+  private static Warning warning(String id, String version) {
+    return Warning.builder()
+        .id(id)
+        .title(id + " " + version)
+        .severity("Minor")
+        .polygon(PolygonGeometry.empty())
+        .build();
+  }
+}
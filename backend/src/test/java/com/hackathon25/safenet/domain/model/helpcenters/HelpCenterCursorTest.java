@@ -0,0 +1,51 @@
+package com.hackathon25.safenet.domain.model.helpcenters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class HelpCenterCursorTest {
+
+  @Test
+  void encodedCursorDecodesToTheSameCursor() {
+    HelpCenterCursor cursor = new HelpCenterCursor(1.2345678901234567, 240109189L);
+
+    String encoded = cursor.encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(HelpCenterCursor.decode(encoded)).isEqualTo(cursor);
+    assertThat(HelpCenterCursor.decode(new HelpCenterCursor(0, 0).encode()))
+        .isEqualTo(new HelpCenterCursor(0, 0));
+  }
+
+  @Test
+  void ordersByDistanceThenById() {
+    HelpCenterCursor cursor = new HelpCenterCursor(2.5, 100);
+
+    assertThat(cursor.isBefore(2.6, 1)).isTrue();
+    assertThat(cursor.isBefore(2.5, 101)).isTrue();
+    assertThat(cursor.isBefore(2.5, 100)).isFalse();
+    assertThat(cursor.isBefore(2.5, 99)).isFalse();
+    assertThat(cursor.isBefore(2.4, 1_000)).isFalse();
+  }
+
+  @Test
+  void rejectsInvalidCursors() {
+    assertThatThrownBy(() -> HelpCenterCursor.decode("not base64!"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid cursor");
+    assertThatThrownBy(() -> HelpCenterCursor.decode(encode("1.5")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> HelpCenterCursor.decode(encode("far:1")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> HelpCenterCursor.decode(encode("1.5:x")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String encode(String plain) {
+    return Base64.getUrlEncoder().encodeToString(plain.getBytes(StandardCharsets.US_ASCII));
+  }
+}
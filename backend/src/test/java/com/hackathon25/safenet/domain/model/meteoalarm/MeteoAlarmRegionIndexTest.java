@@ -0,0 +1,68 @@
+package com.hackathon25.safenet.domain.model.meteoalarm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon25.safenet.domain.model.geo.PolygonGeometry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MeteoAlarmRegionIndexTest {
+
+  /** A district with a hole cut out for the city it encloses, and the city itself. */
+  private final MeteoAlarmRegionIndex index =
+      MeteoAlarmRegionIndex.of(
+          List.of(
+              new MeteoAlarmRegion(
+                  "DE123", "Landkreis", square(10, 50, 12, 52).and(11, 51, 11.5, 51.5).build()),
+              new MeteoAlarmRegion("DE124", "Stadt", square(11, 51, 11.5, 51.5).build()),
+              new MeteoAlarmRegion(
+                  "DE125", "Inseln", square(20, 50, 21, 51).and(22, 50, 23, 51).build())));
+
+  @Test
+  void pointInAHoleBelongsOnlyToTheEnclosedRegion() {
+    assertThat(index.regionsAt(51.25, 11.25)).containsExactly("DE124");
+    assertThat(index.regionsAt(50.5, 10.5)).containsExactly("DE123");
+    assertThat(index.regionsAt(53, 11)).isEmpty();
+  }
+
+  @Test
+  void everyPolygonOfAMultiPolygonIsPartOfTheRegion() {
+    assertThat(index.regionsAt(50.5, 20.5)).containsExactly("DE125");
+    assertThat(index.regionsAt(50.5, 22.5)).containsExactly("DE125");
+    assertThat(index.regionsAt(50.5, 21.5)).isEmpty();
+  }
+
+  @Test
+  void resolvesCodesCaseInsensitively() {
+    assertThat(index.resolve("de124")).isEqualTo("DE124");
+    assertThat(index.resolve(" DE123 ")).isEqualTo("DE123");
+    assertThat(index.resolve("DE999")).isNull();
+    assertThat(index.resolve(null)).isNull();
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(MeteoAlarmRegionIndex.empty().size()).isZero();
+  }
+
+  private static Rings square(double minLon, double minLat, double maxLon, double maxLat) {
+    return new Rings().and(minLon, minLat, maxLon, maxLat);
+  }
+
+  /** Builds one axis-aligned ring per call. */
+  private static final class Rings {
+    private final PolygonGeometry.Builder builder = PolygonGeometry.builder();
+
+    Rings and(double minLon, double minLat, double maxLon, double maxLat) {
+      builder
+          .beginRing()
+          .addPoint(minLon, minLat)
+          .addPoint(maxLon, minLat)
+          .addPoint(maxLon, maxLat)
+          .addPoint(minLon, maxLat)
+          .addPoint(minLon, minLat);
+      return this;
+    }
+
+    PolygonGeometry build() {
+      return builder.build();
+    }
+  }
+}
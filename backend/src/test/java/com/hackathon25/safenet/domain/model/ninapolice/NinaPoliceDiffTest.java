@@ -0,0 +1,72 @@
+package com.hackathon25.safenet.domain.model.ninapolice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NinaPoliceDiffTest {
+
+  private final NinaPoliceItem a = item("a", 1, "Alert");
+  private final NinaPoliceItem b = item("b", 1, "Alert");
+  private final NinaPoliceItem c = item("c", 1, "Alert");
+
+  @Test
+  void reportsAddedUpdatedAndRemovedItemsById() {
+    NinaPoliceItem bumped = item("b", 2, "Update");
+    NinaPoliceItem d = item("d", 1, "Alert");
+
+    NinaPoliceDiff diff =
+        NinaPoliceDiff.between(
+            NinaPoliceDiff.byId(List.of(a, b, c)), NinaPoliceDiff.byId(List.of(a, bumped, d)));
+
+    assertThat(diff.added()).containsExactly(d);
+    assertThat(diff.updated()).containsExactly(bumped);
+    assertThat(diff.removed()).containsExactly(c);
+    assertThat(diff.isEmpty()).isFalse();
+  }
+
+  @Test
+  void sharedOrEqualInstancesAreUnchanged() {
+    NinaPoliceDiff diff =
+        NinaPoliceDiff.between(
+            NinaPoliceDiff.byId(List.of(a, b)),
+            NinaPoliceDiff.byId(List.of(a, item("b", 1, "Alert"))));
+
+    assertThat(diff.isEmpty()).isTrue();
+  }
+
+  @Test
+  void contentChangeWithoutAVersionBumpIsAnUpdate() {
+    NinaPoliceItem edited = item("a", 1, "Cancel");
+
+    NinaPoliceDiff diff = NinaPoliceDiff.between(Map.of("a", a), Map.of("a", edited));
+
+    assertThat(diff.updated()).containsExactly(edited);
+    assertThat(diff.added()).isEmpty();
+    assertThat(diff.removed()).isEmpty();
+  }
+
+  @Test
+  void firstFeedAddsEverythingAndAnEmptyFeedRemovesEverything() {
+    Map<String, NinaPoliceItem> items = NinaPoliceDiff.byId(List.of(a, b));
+
+    assertThat(NinaPoliceDiff.between(Map.of(), items).added()).containsExactly(a, b);
+    assertThat(NinaPoliceDiff.between(items, Map.of()).removed()).containsExactly(a, b);
+  }
+
+  @Test
+  void byIdKeepsFeedOrderAndTheLastDuplicate() {
+    NinaPoliceItem again = item("a", 2, "Update");
+
+    Map<String, NinaPoliceItem> byId = NinaPoliceDiff.byId(List.of(a, b, again));
+
+    assertThat(byId.keySet()).containsExactly("a", "b");
+    assertThat(byId.get("a")).isSameAs(again);
+  }
+
+  private static NinaPoliceItem item(String id, int version, String type) {
+    return NinaPoliceItem.builder().id(id).version(version).type(type).build();
+  }
+}
@@ -0,0 +1,82 @@
+package com.hackathon25.safenet.infrastructure.adapter.geo.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon25.safenet.domain.model.meteoalarm.MeteoAlarmRegion;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MeteoAlarmRegionAdapterTest {
+
+  @TempDir Path dir;
+
+  @Test
+  void readsEmmaPolygonsAndMultiPolygons() throws IOException {
+    List<MeteoAlarmRegion> regions =
+        load(
+            """
+            {"type": "FeatureCollection", "features": [
+              {"properties": {"code": "DE123", "name": "Landkreis", "type": "EMMA_ID"},
+               "geometry": {"type": "Polygon",
+                            "coordinates": [[[10, 50], [12, 50], [12, 52], [10, 52], [10, 50]]]}},
+              {"properties": {"code": "DE125", "name": "Inseln"},
+               "geometry": {"type": "MultiPolygon", "coordinates": [
+                 [[[20, 50], [21, 50], [21, 51], [20, 51], [20, 50]]],
+                 [[[22, 50], [23, 50], [23, 51], [22, 51], [22, 50]]]]}},
+              {"properties": {"code": "DEX", "type": "NUTS3"},
+               "geometry": {"type": "Polygon",
+                            "coordinates": [[[10, 50], [12, 50], [12, 52], [10, 50]]]}}
+            ]}
+            """);
+
+    assertThat(regions).extracting(MeteoAlarmRegion::code).containsExactly("DE123", "DE125");
+    assertThat(regions.get(0).name()).isEqualTo("Landkreis");
+    assertThat(regions.get(0).geometry().contains(51, 11)).isTrue();
+    assertThat(regions.get(1).name()).isEqualTo("Inseln");
+    assertThat(regions.get(1).geometry().ringCount()).isEqualTo(2);
+  }
+
+  @Test
+  void skipsMalformedPositionsInsteadOfFailingTheLoad() throws IOException {
+    List<MeteoAlarmRegion> regions =
+        load(
+            """
+            {"features": [
+              {"properties": {"code": "DE123"},
+               "geometry": {"type": "Polygon", "coordinates": [[
+                 [10, 50], [12], null, ["12", "52"], {"lon": 12}, [12, 50], [12, 52], [10, 52]]]}},
+              {"properties": {"code": "DE124"},
+               "geometry": {"type": "Polygon", "coordinates": [[[11], [null, 51]]]}},
+              {"properties": {"code": "DE125"}, "geometry": null}
+            ]}
+            """);
+
+    assertThat(regions).extracting(MeteoAlarmRegion::code).containsExactly("DE123");
+    assertThat(regions.get(0).geometry().pointCount()).isEqualTo(4);
+    assertThat(regions.get(0).geometry().contains(51, 11)).isTrue();
+  }
+
+  @Test
+  void missingOrUnreadableFileYieldsNoRegions() throws IOException {
+    assertThat(adapter(null).loadRegions()).isEmpty();
+    assertThat(adapter(dir.resolve("missing.json")).loadRegions()).isEmpty();
+    assertThat(load("{not json")).isEmpty();
+  }
+
+  private List<MeteoAlarmRegion> load(String json) throws IOException {
+    Path file = Files.writeString(dir.resolve("geocodes.json"), json);
+    return adapter(file).loadRegions();
+  }
+
+  private static MeteoAlarmRegionAdapter adapter(Path file) {
+    ApplicationProperties properties = new ApplicationProperties();
+    properties.getMeteoAlarm().setRegionsFile(file);
+    return new MeteoAlarmRegionAdapter(new ObjectMapper(), properties);
+  }
+}
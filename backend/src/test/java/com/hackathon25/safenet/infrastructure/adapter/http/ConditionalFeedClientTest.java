@@ -0,0 +1,142 @@
+package com.hackathon25.safenet.infrastructure.adapter.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.hackathon25.safenet.application.service.feed.SingleFlight;
+import com.hackathon25.safenet.infrastructure.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+class ConditionalFeedClientTest {
+
+  private static final String URL = "https://upstream.example/feed.json";
+
+  private final RestTemplate restTemplate = new RestTemplate();
+  private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+  private final ConditionalFeedClient client =
+      new ConditionalFeedClient(
+          restTemplate, new SingleFlight(new SimpleMeterRegistry(), new ApplicationProperties()));
+  private final AtomicInteger decoded = new AtomicInteger();
+
+  /** Decodes the body into a new instance every time, so reuse is visible. */
+  private final ResponseExtractor<StringBuilder> extractor =
+      response -> {
+        decoded.incrementAndGet();
+        return new StringBuilder(ConditionalFeedClient.readBody(response));
+      };
+
+  @AfterEach
+  void verify() {
+    server.verify();
+  }
+
+  @Test
+  void notModifiedReturnsTheSameInstanceWithoutDecoding() {
+    server
+        .expect(requestTo(URL))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andRespond(withSuccess("v1", MediaType.TEXT_PLAIN).headers(eTag("\"v1\"")));
+    server
+        .expect(requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+    StringBuilder first = client.fetch(URL, extractor);
+    StringBuilder second = client.fetch(URL, extractor);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.toString()).isEqualTo("v1");
+    assertThat(decoded).hasValue(1);
+  }
+
+  @Test
+  void sendsLastModifiedAsIfModifiedSince() {
+    HttpHeaders validators = new HttpHeaders();
+    validators.setLastModified(1_760_000_000_000L);
+    server
+        .expect(requestTo(URL))
+        .andRespond(withSuccess("v1", MediaType.TEXT_PLAIN).headers(validators));
+    server
+        .expect(requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, validators.getFirst("Last-Modified")))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+    StringBuilder first = client.fetch(URL, extractor);
+
+    assertThat(client.fetch(URL, extractor)).isSameAs(first);
+  }
+
+  @Test
+  void changedContentIsDecodedAndCachedAgain() {
+    server
+        .expect(requestTo(URL))
+        .andRespond(withSuccess("v1", MediaType.TEXT_PLAIN).headers(eTag("\"v1\"")));
+    server
+        .expect(requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andRespond(withSuccess("v2", MediaType.TEXT_PLAIN).headers(eTag("\"v2\"")));
+    server
+        .expect(requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+    StringBuilder first = client.fetch(URL, extractor);
+    StringBuilder second = client.fetch(URL, extractor);
+    StringBuilder third = client.fetch(URL, extractor);
+
+    assertThat(second).isNotSameAs(first).hasToString("v2");
+    assertThat(third).isSameAs(second);
+    assertThat(decoded).hasValue(2);
+  }
+
+  @Test
+  void responsesWithoutValidatorsAreNotConditional() {
+    server
+        .expect(requestTo(URL))
+        .andRespond(withSuccess("v1", MediaType.TEXT_PLAIN).headers(eTag("\"v1\"")));
+    server.expect(requestTo(URL)).andRespond(withSuccess("v2", MediaType.TEXT_PLAIN));
+    server
+        .expect(requestTo(URL))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_MODIFIED_SINCE))
+        .andRespond(withSuccess("v3", MediaType.TEXT_PLAIN));
+
+    client.fetch(URL, extractor);
+    client.fetch(URL, extractor);
+
+    assertThat(client.fetch(URL, extractor)).hasToString("v3");
+  }
+
+  @Test
+  void readsTheBodyInTheCharsetOfTheContentType() {
+    server
+        .expect(requestTo(URL))
+        .andRespond(
+            withSuccess(
+                "Überflutung".getBytes(StandardCharsets.ISO_8859_1),
+                new MediaType("text", "plain", StandardCharsets.ISO_8859_1)));
+
+    assertThat(client.fetchString(URL)).isEqualTo("Überflutung");
+  }
+
+  private static HttpHeaders eTag(String eTag) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(eTag);
+    return headers;
+  }
+}